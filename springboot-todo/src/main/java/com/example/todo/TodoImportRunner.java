@@ -0,0 +1,39 @@
+package com.example.todo;
+
+import com.example.todo.service.TodoImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Imports a CSV or NDJSON file of todos on application startup (see TodoImportService).
+ * Only runs when app.import.file is set, e.g. from the command line:
+ * java -jar springboot-todo.jar --app.import.file=todos.csv
+ * Add --spring.main.web-application-type=none to import without starting the web server.
+ * Runs after SnapshotRestoreRunner, so imported rows are added on top of a restored snapshot.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.file")
+public class TodoImportRunner implements ApplicationRunner {
+
+    private final TodoImportService importService;
+    private final String file;
+    private final boolean resume;
+
+    public TodoImportRunner(TodoImportService importService,
+                            @Value("${app.import.file}") String file,
+                            @Value("${app.import.resume:true}") boolean resume) {
+        this.importService = importService;
+        this.file = file;
+        this.resume = resume;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        importService.importFile(Path.of(file), resume);
+    }
+}
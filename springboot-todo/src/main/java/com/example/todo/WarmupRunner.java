@@ -0,0 +1,227 @@
+package com.example.todo;
+
+import com.example.todo.limiter.AdaptiveConcurrencyLimiter;
+import com.example.todo.service.TodoCountCache;
+import com.example.todo.tenant.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms up the JIT before the application reports ready.
+ * The first requests after a deploy are slow while C2 compiles the TodoController, Jackson and Hibernate paths.
+ * This runner replays a synthetic mix of /paginated, /{id} and /create calls against the app's own HTTP port,
+ * so the whole stack (Tomcat, filters, controller, Jackson, service, Hibernate, H2) gets compiled.
+ * Runners are called before the ApplicationReadyEvent, so the readiness state only switches to
+ * ACCEPTING_TRAFFIC once the warm-up is done. Note that Tomcat already accepts connections at that point.
+ * <p>
+ * - The requests are split into rounds; p50/p99 are logged per round, so the effect of the JIT is visible.
+ * - The warm-up requests go through the concurrency limiters like any other request, and their latencies with a cold
+ *   JIT shrink the limits; the limiters are reset to their initial limits once the warm-up is done.
+ * - The todos created by the warm-up are deleted again at the end (JPA store only, the ids are consumed though).
+ *   With the memory or log store there is no way to delete them, so the /create calls are skipped.
+ * Enable with app.warmup.enabled=true, see the app.warmup.* properties for the mix.
+ */
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final String[] SORTS = {"id,asc", "title,asc", "description,desc"};
+    // X-Client-Id of the warm-up requests: their rows stay out of the real tenants' data
+    private static final String WARMUP_TENANT = "warmup";
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final ObjectProvider<TodoCountCache> countCache;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> limiters;
+    private final int requests;
+    private final int rounds;
+    private final int threads;
+    private final int paginatedWeight;
+    private final int getByIdWeight;
+    private final int createWeight;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong errors = new AtomicLong();
+    private String baseUrl;
+
+    public WarmupRunner(Environment environment,
+                        ObjectMapper objectMapper,
+                        ObjectProvider<JdbcTemplate> jdbcTemplate,
+                        ObjectProvider<TodoCountCache> countCache,
+                        ObjectProvider<AdaptiveConcurrencyLimiter> limiters,
+                        @Value("${app.warmup.requests:5000}") int requests,
+                        @Value("${app.warmup.rounds:5}") int rounds,
+                        @Value("${app.warmup.threads:4}") int threads,
+                        @Value("${app.warmup.mix.paginated:60}") int paginatedWeight,
+                        @Value("${app.warmup.mix.get-by-id:30}") int getByIdWeight,
+                        @Value("${app.warmup.mix.create:10}") int createWeight) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.countCache = countCache;
+        this.limiters = limiters;
+        this.requests = requests;
+        this.rounds = Math.max(1, rounds);
+        this.threads = Math.max(1, threads);
+        this.paginatedWeight = paginatedWeight;
+        this.getByIdWeight = getByIdWeight;
+        // Warm-up todos can only be removed again from the database
+        boolean canCleanUp = "jpa".equals(environment.getProperty("app.todo.store", "jpa"));
+        this.createWeight = canCleanUp ? createWeight : 0;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        // local.server.port is only known once the web server has started, i.e. not yet when this bean is created
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            logger.info("No web server running, skipping the warm-up");
+            return;
+        }
+        baseUrl = "http://localhost:" + port + environment.getProperty("server.servlet.context-path", "") + "/api/todos";
+        logger.info("Warm-up: {} requests in {} rounds on {} threads (mix paginated/get-by-id/create: {}/{}/{})",
+                requests, rounds, threads, paginatedWeight, getByIdWeight, createWeight);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                runRound(executor, round, requests / rounds);
+            }
+        } finally {
+            executor.shutdownNow();
+            // The limits learnt from a cold JIT say nothing about the warm application
+            limiters.forEach(AdaptiveConcurrencyLimiter::reset);
+        }
+        long cleanupStart = System.nanoTime();
+        int deleted = cleanUp();
+        logger.info("Warm-up cleanup: deleted {} warm-up todos in {} ms", deleted, (System.nanoTime() - cleanupStart) / 1_000_000);
+        logger.info("Warm-up complete in {} ms ({} unexpected responses)", (System.nanoTime() - start) / 1_000_000, errors.get());
+    }
+
+    // One round: the requests are shared by the threads; latencies are collected to log p50/p99 of the round
+    private void runRound(ExecutorService executor, int round, int roundRequests) throws Exception {
+        long start = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int share = roundRequests / threads + (t < roundRequests % threads ? 1 : 0);
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[share];
+                for (int i = 0; i < share; i++) {
+                    long requestStart = System.nanoTime();
+                    call();
+                    latencies[i] = System.nanoTime() - requestStart;
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[0];
+        for (Future<long[]> future : futures) {
+            long[] part = future.get();
+            long[] merged = Arrays.copyOf(latencies, latencies.length + part.length);
+            System.arraycopy(part, 0, merged, latencies.length, part.length);
+            latencies = merged;
+        }
+        Arrays.sort(latencies);
+        logger.info("Warm-up round {}/{}: {} requests in {} ms, p50 {} ms, p99 {} ms, max {} ms",
+                round, rounds, latencies.length, (System.nanoTime() - start) / 1_000_000,
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    // One request, picked at random according to the configured mix
+    private void call() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(Math.max(1, paginatedWeight + getByIdWeight + createWeight));
+        try {
+            if (pick < paginatedWeight) {
+                send(request("/paginated?page=" + random.nextInt(5) + "&size=10&sort=" + SORTS[random.nextInt(SORTS.length)]).GET(), 200);
+            } else if (pick < paginatedWeight + getByIdWeight) {
+                Long id = createdIds.peek();
+                // Unknown ids are fine too, they warm up the 404 path
+                send(request("/" + (id != null && random.nextBoolean() ? id : random.nextLong(1, 1_000_000))).GET(), 200, 404);
+            } else {
+                String body = objectMapper.writeValueAsString(
+                        Map.of("title", "Warm-up todo", "description", "Created by WarmupRunner"));
+                HttpResponse<String> response = send(request("/create")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)), 201);
+                if (response != null && response.statusCode() == 201) {
+                    createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+            }
+        } catch (IOException e) {
+            errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("X-Client-Id", WARMUP_TENANT)
+                .header("X-Request-Id", "warmup-" + ThreadLocalRandom.current().nextLong());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, int... expectedStatuses) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (Arrays.stream(expectedStatuses).noneMatch(status -> status == response.statusCode())) {
+            errors.incrementAndGet();
+        }
+        return response;
+    }
+
+    private int cleanUp() {
+        JdbcTemplate jdbc = jdbcTemplate.getIfAvailable();
+        if (jdbc == null || createdIds.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> ids = createdIds.stream().map(id -> new Object[]{id}).toList();
+        int deleted = Arrays.stream(jdbc.batchUpdate("DELETE FROM todos WHERE id = ?", ids)).sum();
+        // The warm-up requests run as their own tenant (X-Client-Id: warmup)
+        TenantContext.run(WARMUP_TENANT, () -> countCache.ifAvailable(cache -> cache.add(-deleted)));
+        return deleted;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todo.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * InJvmInvalidationTransport class
+ * Transport between buses of the same JVM that joined the same group, delivered synchronously on the
+ * sender's thread. For tests (several "nodes" in one JVM) and single-instance setups.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class InJvmInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, Set<InJvmInvalidationTransport>> GROUPS = new ConcurrentHashMap<>();
+
+    private final String group;
+    private volatile Consumer<byte[]> receiver;
+
+    public InJvmInvalidationTransport(String group) {
+        this.group = group;
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        GROUPS.computeIfAbsent(group, name -> new CopyOnWriteArraySet<>()).add(this);
+    }
+
+    @Override
+    public void send(byte[] message) {
+        for (InJvmInvalidationTransport member : GROUPS.getOrDefault(group, Set.of())) {
+            if (member != this) {
+                member.receiver.accept(message);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        Set<InJvmInvalidationTransport> members = GROUPS.get(group);
+        if (members != null) {
+            members.remove(this);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.todo.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InvalidationBus class
+ * Tells the other nodes which entries of their local caches are stale after a write on this node.
+ * - publish()/publishAll() only record the invalidation; a background thread sends everything recorded
+ *   every flush interval as one message (batching), and a key published several times in the same
+ *   interval is sent once (coalescing). A burst of creates costs the other nodes one invalidation, so
+ *   their caches keep their hit rate instead of being dropped per write.
+ * - Every message carries the sender's id (random per start) and a sequence number. The receiver invalidates
+ *   everything when it sees a gap (lost message), or a sender it does not know yet (late joiner: this node
+ *   started after that sender published, or the sender restarted).
+ * - When there is nothing to send, a heartbeat with the current sequence number is sent every heartbeat
+ *   interval, so a lost last message is detected without waiting for the next write.
+ * - Own messages (transports that loop back) are ignored.
+ * Read-your-writes across nodes holds once the flush interval has passed: a client reading on node B right
+ * after writing on node A can see stale cached data for at most about one flush interval plus network latency.
+ * On shutdown the last partial batch is sent before the transport closes (InvalidationBusLifecycle.stop(), then
+ * close()). A crash loses it: the crashed node sends no heartbeat any more, so the other nodes only catch up when
+ * it restarts (unknown sender) or when their own staleness bound expires (app.todo.count.staleness-ms).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class InvalidationBus implements AutoCloseable {
+
+    private final Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private static final int MAGIC = 0x54494E56;
+
+    private final InvalidationTransport transport;
+    private final long flushIntervalMs;
+    private final long heartbeatIntervalNanos;
+    private final long senderId = ThreadLocalRandom.current().nextLong();
+    private final Map<String, CopyOnWriteArrayList<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    // Invalidations recorded since the last flush, guarded by "this"
+    private Map<String, Set<String>> pendingKeys = new HashMap<>();
+    private Set<String> pendingAll = new HashSet<>();
+
+    // Only used by the flusher thread
+    private long sequence;
+    private long lastSentNanos = System.nanoTime();
+
+    // Last sequence number received per sender, guarded by "receivedSequences" (transports may deliver concurrently)
+    private final Map<Long, Long> receivedSequences = new HashMap<>();
+
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong fullInvalidations = new AtomicLong();
+
+    public InvalidationBus(InvalidationTransport transport, Duration flushInterval, Duration heartbeatInterval) {
+        this.transport = transport;
+        this.flushIntervalMs = Math.max(1, flushInterval.toMillis());
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Start receiving and sending */
+    public void start() throws IOException {
+        transport.start(this::receive);
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register a local cache
+     * @param cacheName Name shared by all nodes for this cache
+     */
+    public void register(String cacheName, InvalidationListener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /** The given entry of the cache changed on this node */
+    public synchronized void publish(String cacheName, String key) {
+        if (!pendingAll.contains(cacheName)) {
+            pendingKeys.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    /** The cache as a whole changed on this node (e.g. a count, or a bulk change) */
+    public synchronized void publishAll(String cacheName) {
+        pendingAll.add(cacheName);
+        pendingKeys.remove(cacheName);
+    }
+
+    /** Send what was published since the last flush, or a heartbeat when due */
+    void flush() throws IOException {
+        Map<String, Set<String>> keys;
+        Set<String> all;
+        synchronized (this) {
+            keys = pendingKeys;
+            all = pendingAll;
+            if (!keys.isEmpty() || !all.isEmpty()) {
+                pendingKeys = new HashMap<>();
+                pendingAll = new HashSet<>();
+            }
+        }
+        if (keys.isEmpty() && all.isEmpty()) {
+            if (sequence > 0 && System.nanoTime() - lastSentNanos >= heartbeatIntervalNanos) {
+                send(encode(sequence, Map.of(), Set.of()));
+            }
+            return;
+        }
+        long next = sequence + 1;
+        byte[] message = encode(next, keys, all);
+        if (message.length > transport.maxMessageBytes()) {
+            // Too many keys for one message: invalidate these caches completely instead
+            Set<String> caches = new HashSet<>(all);
+            caches.addAll(keys.keySet());
+            message = encode(next, Map.of(), caches);
+        }
+        sequence = next;
+        send(message);
+    }
+
+    /**
+     * Send what was published so far without waiting for the flush interval, e.g. on shutdown
+     * Runs on the flusher thread like the periodic flush, so the sequence numbers stay in order.
+     * @param timeout How long to wait for the message to be sent
+     */
+    public void flushNow(Duration timeout) {
+        try {
+            flusher.submit(this::flushQuietly).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Already closed, close() sent the last batch
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Sending the pending cache invalidations did not complete: {}", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            // The receivers see the gap in the sequence with the next message and invalidate everything
+            logger.warn("Sending cache invalidations failed: {}", e.toString());
+        }
+    }
+
+    private void send(byte[] message) throws IOException {
+        lastSentNanos = System.nanoTime();
+        transport.send(message);
+        sentMessages.incrementAndGet();
+    }
+
+    /** Handle a message of another node */
+    void receive(byte[] message) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (in.readInt() != MAGIC) {
+                logger.warn("Ignoring a cache invalidation message with an unknown format ({} bytes)", message.length);
+                return;
+            }
+            long sender = in.readLong();
+            if (sender == senderId) {
+                return;
+            }
+            long messageSequence = in.readLong();
+            receivedMessages.incrementAndGet();
+
+            boolean heartbeat;
+            boolean missed;
+            synchronized (receivedSequences) {
+                Long last = receivedSequences.get(sender);
+                if (last != null && messageSequence <= last) {
+                    // Duplicate, reordered, or a heartbeat with nothing new
+                    return;
+                }
+                receivedSequences.put(sender, messageSequence);
+                heartbeat = in.available() == 0;
+                // Unknown sender: whatever it published before we heard from it may be in our caches
+                missed = last == null || messageSequence > (heartbeat ? last : last + 1);
+            }
+            if (missed) {
+                logger.info("Missed cache invalidations from node {} (sequence {}), invalidating all caches",
+                        Long.toHexString(sender), messageSequence);
+                fullInvalidations.incrementAndGet();
+                listeners.values().forEach(list -> list.forEach(InvalidationListener::invalidateAll));
+                return;
+            }
+            int caches = in.readInt();
+            for (int i = 0; i < caches; i++) {
+                String cacheName = in.readUTF();
+                boolean all = in.readBoolean();
+                int keyCount = in.readInt();
+                Set<String> keys = new HashSet<>(keyCount * 2);
+                for (int k = 0; k < keyCount; k++) {
+                    keys.add(in.readUTF());
+                }
+                for (InvalidationListener listener : listeners.getOrDefault(cacheName, new CopyOnWriteArrayList<>())) {
+                    if (all) {
+                        listener.invalidateAll();
+                    } else {
+                        listener.invalidate(keys);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Ignoring a malformed cache invalidation message: {}", e.toString());
+        }
+    }
+
+    // MAGIC, sender, sequence, then (absent for a heartbeat) the caches: name, all?, keys
+    private byte[] encode(long messageSequence, Map<String, Set<String>> keys, Set<String> all) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeLong(senderId);
+            out.writeLong(messageSequence);
+            if (keys.isEmpty() && all.isEmpty()) {
+                return bytes.toByteArray();
+            }
+            out.writeInt(keys.size() + all.size());
+            for (String cacheName : all) {
+                out.writeUTF(cacheName);
+                out.writeBoolean(true);
+                out.writeInt(0);
+            }
+            for (Map.Entry<String, Set<String>> entry : keys.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeBoolean(false);
+                out.writeInt(entry.getValue().size());
+                for (String key : entry.getValue()) {
+                    out.writeUTF(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    public long getReceivedMessages() {
+        return receivedMessages.get();
+    }
+
+    /** Number of times all caches were invalidated because of a gap or an unknown sender */
+    public long getFullInvalidations() {
+        return fullInvalidations.get();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (flusher.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Last batch, so the other nodes do not wait for the staleness bound
+                flush();
+            } else {
+                logger.warn("Cache invalidation flusher did not stop, the last batch is not sent");
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Sending the last cache invalidations failed: {}", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        transport.close();
+    }
+}
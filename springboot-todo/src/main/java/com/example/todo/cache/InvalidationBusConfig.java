@@ -0,0 +1,67 @@
+package com.example.todo.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * InvalidationBusConfig class
+ * Creates the InvalidationBus when app.cache.invalidation.enabled=true, with the transport selected by
+ * app.cache.invalidation.transport:
+ * - udp: UDP datagrams to app.cache.invalidation.udp.peers (host:port, comma separated), received on
+ *   app.cache.invalidation.udp.port
+ * - in-jvm: buses of the same JVM only (tests)
+ * Local caches (e.g. TodoCountCache) register themselves on the bus when it exists.
+ * The last partial batch is sent on shutdown by InvalidationBusLifecycle.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Configuration
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+public class InvalidationBusConfig {
+
+    @Bean(destroyMethod = "close")
+    public InvalidationBus invalidationBus(@Value("${app.cache.invalidation.transport:udp}") String transportName,
+                                           @Value("${app.cache.invalidation.udp.port:7611}") int port,
+                                           @Value("${app.cache.invalidation.udp.peers:}") String peers,
+                                           @Value("${app.cache.invalidation.flush-interval-ms:10}") long flushIntervalMs,
+                                           @Value("${app.cache.invalidation.heartbeat-interval-ms:1000}") long heartbeatIntervalMs)
+            throws IOException {
+        InvalidationTransport transport = switch (transportName) {
+            case "udp" -> new UdpInvalidationTransport(new InetSocketAddress(port), parsePeers(peers));
+            case "in-jvm" -> new InJvmInvalidationTransport("default");
+            default -> throw new IllegalArgumentException("Unknown app.cache.invalidation.transport: " + transportName);
+        };
+        InvalidationBus bus = new InvalidationBus(transport, Duration.ofMillis(flushIntervalMs),
+                Duration.ofMillis(heartbeatIntervalMs));
+        bus.start();
+        return bus;
+    }
+
+    @Bean
+    public InvalidationBusLifecycle invalidationBusLifecycle(InvalidationBus invalidationBus) {
+        return new InvalidationBusLifecycle(invalidationBus);
+    }
+
+    private static List<InetSocketAddress> parsePeers(String peers) {
+        return Arrays.stream(peers.split(","))
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .map(peer -> {
+                    int colon = peer.lastIndexOf(':');
+                    if (colon < 0) {
+                        throw new IllegalArgumentException("Expected host:port in app.cache.invalidation.udp.peers: " + peer);
+                    }
+                    return new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1)));
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.cache;
+
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+/**
+ * InvalidationBusLifecycle class
+ * Sends the last partial batch of the InvalidationBus when the application stops, instead of leaving it to the
+ * next flush interval (which may never come) and to the heartbeat of the other nodes.
+ * - Its phase is below the one of the web server, so stop() runs once the server stopped taking requests
+ *   (graceful shutdown included): the writes of the last requests are in the batch.
+ * - The transport is still open at that point; InvalidationBus.close() (bean destruction) sends whatever was
+ *   published after stop(), by shutdown hooks of other beans.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class InvalidationBusLifecycle implements SmartLifecycle {
+
+    /** Stops after the web server (WebServerStartStopLifecycle is at DEFAULT_PHASE - 2048) */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(1);
+
+    private final InvalidationBus bus;
+    private volatile boolean running;
+
+    public InvalidationBusLifecycle(InvalidationBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void start() {
+        // The bus is started when it is created, so the caches can publish from their own initialization
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        bus.flushNow(STOP_TIMEOUT);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todo.cache;
+
+import java.util.Set;
+
+/**
+ * InvalidationListener interface
+ * Local cache registered on the InvalidationBus, called when another node changed the data behind it.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public interface InvalidationListener {
+
+    /**
+     * Drop the given entries
+     * @param keys Keys published by the other node(s) since the last batch, without duplicates
+     */
+    void invalidate(Set<String> keys);
+
+    /**
+     * Drop everything: published by another node, or messages may have been missed (gap in the
+     * sequence, unknown or restarted node)
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,32 @@
+package com.example.todo.cache;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * InvalidationTransport interface
+ * Delivers the encoded invalidation batches of the InvalidationBus to the other nodes.
+ * Delivery may be unreliable (lost, duplicated or reordered messages): the bus detects gaps with
+ * per-sender sequence numbers and falls back to invalidating everything.
+ * Implementations: InJvmInvalidationTransport (tests, several buses in one JVM) and UdpInvalidationTransport.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public interface InvalidationTransport extends AutoCloseable {
+
+    /** Largest message the transport can carry; bigger batches are collapsed to "invalidate all" */
+    int maxMessageBytes();
+
+    /**
+     * Start receiving
+     * @param receiver Called with every message sent by another node (may be called from several threads)
+     */
+    void start(Consumer<byte[]> receiver) throws IOException;
+
+    /** Send a message to every other node */
+    void send(byte[] message) throws IOException;
+
+    @Override
+    void close();
+}
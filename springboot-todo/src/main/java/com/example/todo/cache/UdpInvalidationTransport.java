@@ -0,0 +1,91 @@
+package com.example.todo.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * UdpInvalidationTransport class
+ * Unicast UDP datagrams to a fixed list of peers (app.cache.invalidation.udp.peers), one datagram per peer
+ * and batch. No acknowledgements: a lost datagram shows up as a gap in the sender's sequence on the next
+ * batch or heartbeat, and the receiving bus then invalidates everything.
+ * Works on the loopback interface, so tests can run several nodes in one JVM on different ports.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class UdpInvalidationTransport implements InvalidationTransport {
+
+    private final Logger logger = LoggerFactory.getLogger(UdpInvalidationTransport.class);
+
+    // Maximum UDP payload over IPv4
+    private static final int MAX_DATAGRAM_BYTES = 65_507;
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+
+    /**
+     * @param bindAddress Local address and port to receive on (port 0: any free port)
+     * @param peers The other nodes; this node's own address may be in the list (e.g. one shared
+     *              configuration for all nodes), its messages are ignored by the bus
+     */
+    public UdpInvalidationTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers) throws SocketException {
+        this.socket = new DatagramSocket(bindAddress);
+        this.peers = List.copyOf(peers);
+    }
+
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return MAX_DATAGRAM_BYTES;
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        Thread thread = new Thread(() -> receive(receiver), "invalidation-udp-" + socket.getLocalPort());
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Listening for cache invalidations on UDP port {}, peers {}", socket.getLocalPort(), peers);
+    }
+
+    private void receive(Consumer<byte[]> receiver) {
+        byte[] buffer = new byte[MAX_DATAGRAM_BYTES];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(buffer.length);
+                socket.receive(packet);
+                receiver.accept(Arrays.copyOf(buffer, packet.getLength()));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Receiving a cache invalidation failed: {}", e.toString());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Handling a cache invalidation failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void send(byte[] message) throws IOException {
+        for (InetSocketAddress peer : peers) {
+            socket.send(new DatagramPacket(message, message.length, peer));
+        }
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.controller;
+
+import com.example.todo.service.TodoServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * CoalescingController class
+ * Admin endpoint reporting how many reads were coalesced by TodoServiceImpl (see SingleFlight),
+ * i.e. how much load coalescing absorbed, e.g. during a thundering herd on one todo.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class CoalescingController {
+
+    private final TodoServiceImpl todoService;
+
+    public CoalescingController(TodoServiceImpl todoService) {
+        this.todoService = todoService;
+    }
+
+    @Operation(summary = "Calls and coalesced calls per coalesced read operation")
+    @GetMapping("/coalescing")
+    public ResponseEntity<Map<String, Map<String, Long>>> coalescingStats() {
+        return ResponseEntity.ok(todoService.getCoalescingStats());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.SnapshotResponse;
+import com.example.todo.service.H2SnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SnapshotController class
+ * Admin endpoint to write an H2 snapshot on demand (see H2SnapshotService).
+ * Only registered when app.snapshot.enabled=true, with the H2/JPA store.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class SnapshotController {
+
+    private final Logger logger = LoggerFactory.getLogger(SnapshotController.class);
+    private final H2SnapshotService snapshotService;
+
+    public SnapshotController(H2SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Operation(summary = "Write a compressed snapshot of the H2 database",
+            description = "The snapshot is restored on the next startup when app.snapshot.restore-on-startup=true")
+    @PostMapping("/snapshot")
+    public ResponseEntity<SnapshotResponse> snapshot() {
+        logger.info("Snapshot requested");
+        return ResponseEntity.ok(snapshotService.snapshot());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.BatchRequest;
+import com.example.todo.dto.BatchResponse;
+import com.example.todo.exception.MissingHeadersException;
+import com.example.todo.service.TodoBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * TodoBatchController class
+ * POST /api/todos/_batch: several create/get/page operations in one round-trip (see TodoBatchService),
+ * e.g. what a mobile screen needs after creating a todo. The response is 200 with one status per operation;
+ * only a malformed batch as a whole (empty, too large) is rejected with 400.
+ * Requires the same X-Client-Id and X-Request-Id headers as the single operations.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@RequestMapping("/api/todos")
+public class TodoBatchController {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoBatchController.class);
+    private final TodoBatchService batchService;
+
+    public TodoBatchController(TodoBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @Operation(summary = "Run several To-Do operations in one request",
+            description = "Operations: {\"op\":\"create\",\"body\":{...}}, {\"op\":\"get\",\"id\":\"42\"} (\"$0\" = id created by "
+                    + "operation 0), {\"op\":\"page\",\"page\":0,\"size\":10,\"sort\":[\"id,desc\"]}. "
+                    + "With \"transactional\": true all operations share one transaction and are rolled back if one fails.")
+    @PostMapping("/_batch")
+    public ResponseEntity<BatchResponse> batch(@RequestHeader Map<String, String> headers,
+                                               @RequestBody BatchRequest request) {
+        MissingHeadersException missingHeaders = MissingHeadersException.of(
+                headers.get("x-client-id") == null,
+                headers.get("x-request-id") == null);
+        if (missingHeaders != null) {
+            throw missingHeaders;
+        }
+        logger.info("POST /api/todos/_batch invoked with {} operations, X-Client-Id={}, X-Request-Id={}",
+                request.getOperations() == null ? 0 : request.getOperations().size(),
+                headers.get("x-client-id"), headers.get("x-request-id"));
+
+        BatchResponse response = batchService.execute(request);
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.add("X-Processed-By", "TodoBatchController");
+        return ResponseEntity.ok().headers(responseHeaders).body(response);
+    }
+}
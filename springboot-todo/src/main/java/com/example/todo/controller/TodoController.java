@@ -4,7 +4,9 @@ import com.example.todo.dto.TodoListResponse;
 import com.example.todo.dto.TodoRequest;
 import com.example.todo.dto.TodoResponse;
 import com.example.todo.exception.ApiErrorResponse;
+import com.example.todo.exception.MissingHeadersException;
 import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.model.TodoEntity;
 import com.example.todo.service.TodoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * ToDoController class
@@ -160,6 +164,8 @@ public class TodoController {
     // This is a simple implementation, for large datasets consider using database-level pagination
     // This endpoint is not documented in Swagger for brevity
     // Consider Page<TodoResponse> as List<TodoResponse> with additional pagination metadata.
+    // Only the fields in TodoEntity.SORTABLE_FIELDS can be used in sort=..., because each of them has an index.
+    // Anything else (e.g. sort=foo or a future unindexed column) is rejected with 400 before hitting the database.
     @GetMapping("/paginated")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @Parameter(description = "Request headers", required = true, in = ParameterIn.HEADER, example = "X-Client-Id: 12345")
@@ -176,14 +182,14 @@ public class TodoController {
         logger.info("GET /api/todos/paginated invoked with pagination page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         // Validate required headers
         if( clientId == null || clientId.isBlank()) {
-            logger.error("Missing required header: X-Client-Id");
-            throw new IllegalArgumentException("Missing required header: X-Client-Id");
+            throw new MissingHeadersException("Missing required header: X-Client-Id");
         }
         if( requestId == null || requestId.isBlank()) {
-            logger.error("Missing required header: X-Request-Id");
-            throw new IllegalArgumentException("Missing required header: X-Request-Id");
+            throw new MissingHeadersException("Missing required header: X-Request-Id");
         }
         logger.info("Required headers present: X-Client-Id={}, X-Request-Id={}", clientId, requestId);
+        // Reject sorts that are not backed by an index
+        validateSort(pageable.getSort());
 
         // Proceed with normal processing to fetch paginated todos
         Page<TodoResponse> responsePage = service.getAll(pageable);
@@ -220,7 +226,11 @@ public class TodoController {
     // This is more efficient for large datasets as we are not loading all items into memory
     // and only fetching the required page from the database.
     @Operation(summary = "Fetch paginated To-Do items with mandatory headers and explicit pagination parameters",
-            description = "Requires X-Client-Id and X-Request-Id headers. Use page (0-based) and size query parameters for pagination.")
+            description = "Requires X-Client-Id and X-Request-Id headers. Use page (0-based) and size query parameters for pagination. "
+                    + "X-Total-Count comes from a per-node cache: with several instances, a todo created on another node "
+                    + "is counted after app.cache.invalidation.flush-interval-ms plus network latency when the invalidation "
+                    + "bus is enabled, otherwise after app.todo.count.staleness-ms. If that node crashed before sending its "
+                    + "last batch, only the staleness bound applies. The items themselves are always read from the database.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
@@ -237,7 +247,7 @@ public class TodoController {
                             ),
                             @io.swagger.v3.oas.annotations.headers.Header(
                                     name = "X-Total-Count",
-                                    description = "Total number of To-Do items",
+                                    description = "Total number of To-Do items (per-node cache, see the endpoint description for cross-node staleness)",
                                     schema = @Schema(type = "integer")
                             ),
                             @io.swagger.v3.oas.annotations.headers.Header(
@@ -272,12 +282,10 @@ public class TodoController {
         logger.info("GET /api/todos/paginatedV2 invoked with page={}, size={}", page, size);
         // Validate required headers
         if( clientId == null || clientId.isBlank()) {
-            logger.error("Missing required header: X-Client-Id");
-            throw new IllegalArgumentException("Missing required header: X-Client-Id");
+            throw new MissingHeadersException("Missing required header: X-Client-Id");
         }
         if( requestId == null || requestId.isBlank()) {
-            logger.error("Missing required header: X-Request-Id");
-            throw new IllegalArgumentException("Missing required header: X-Request-Id");
+            throw new MissingHeadersException("Missing required header: X-Request-Id");
         }
         logger.info("Required headers present: X-Client-Id={}, X-Request-Id={}", clientId, requestId);
 
@@ -454,7 +462,7 @@ public class TodoController {
                             schema = @Schema(implementation = TodoRequest.class)
                     )
             )
-            @RequestBody TodoRequest request) {
+            @Valid @RequestBody TodoRequest request) {
 
         // info log the invocation with headers
         logger.info("POST /api/todos/create invoked with headers: {}", headers);
@@ -491,35 +499,31 @@ public class TodoController {
 
     // Helper method to validate required headers
     // This method checks for the presence of both required headers and collects all missing ones
-    // If any are missing, it logs an error and throws IllegalArgumentException with details of all missing headers
+    // If any are missing, it throws a MissingHeadersException (an IllegalArgumentException) with details of all missing headers
     // This allows us to report all missing headers in one go, instead of failing fast on the first missing header
+    // The exception is preallocated and has no stack trace, and the GlobalExceptionHandler logs it (rate limited),
+    // so a flood of bad requests costs no more than a map lookup here.
     // This method is called from both GET and POST endpoints
     private void validateHeaders(@RequestHeader Map<String, String> headers) {
-        String clientId = headers.get("x-client-id");
-        String requestId = headers.get("x-request-id");
+        MissingHeadersException missingHeaders = MissingHeadersException.of(
+                headers.get("x-client-id") == null,
+                headers.get("x-request-id") == null);
 
-        StringBuilder missingHeaders = getMissingHeaders(clientId, requestId);
-
-        if (!missingHeaders.isEmpty()) {
-            // Log the missing headers
-            logger.error("Missing required headers: {}", missingHeaders.toString().trim());
+        if (missingHeaders != null) {
             // Throw exception with all missing headers
-            throw new IllegalArgumentException("Missing required headers: " + missingHeaders.toString().trim());
+            throw missingHeaders;
         }
     }
 
-    // Helper method to collect missing headers
-    // Returns a StringBuilder containing names of all missing headers
-    private StringBuilder getMissingHeaders(String clientId, String requestId) {
-        // Collect missing headers
-        StringBuilder missingHeaders = new StringBuilder();
-        if (clientId == null) {
-            missingHeaders.append("X-Client-Id ");
-        }
-        if (requestId == null) {
-            missingHeaders.append("X-Request-Id ");
+    // Helper method to validate the requested sort properties against the allow-list
+    // Throws IllegalArgumentException (400 INVALID_ARGUMENT) for the first unsupported property
+    private void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!TodoEntity.SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty()
+                        + " (allowed: " + String.join(", ", new TreeSet<>(TodoEntity.SORTABLE_FIELDS)) + ")");
+            }
         }
-        return missingHeaders;
     }
 
 
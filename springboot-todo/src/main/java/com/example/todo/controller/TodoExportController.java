@@ -0,0 +1,76 @@
+package com.example.todo.controller;
+
+import com.example.todo.service.TodoExportService;
+import com.example.todo.tenant.TenantContext;
+import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * TodoExportController class
+ * CSV export of all todos, streamed to the client (see TodoExportService): memory use does not depend on
+ * the number of rows, unlike /api/todos/all which builds the whole TodoListResponse first.
+ * With gzip=true the body is sent with Content-Encoding: gzip (curl --compressed, browsers decompress it).
+ * The body is written asynchronously, so spring.mvc.async.request-timeout bounds how long a download may take.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@RequestMapping("/api/todos")
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class TodoExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(TodoExportController.class);
+    private final TodoExportService exportService;
+
+    public TodoExportController(TodoExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "Export all To-Do items as CSV",
+            description = "Streams the id,title,description rows of the client (X-Client-Id) ordered by id. Requires X-Client-Id and X-Request-Id headers")
+    @GetMapping("/export.csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestHeader("X-Client-Id") String clientId,
+            @RequestHeader("X-Request-Id") String requestId,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        logger.info("CSV export requested by client {} (request {}), gzip: {}", clientId, requestId, gzip);
+        // The body is written on an async thread, without the request's TenantContext
+        String tenant = TenantContext.current();
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_BYTES)) {
+                    exportService.writeCsv(tenant, compressed);
+                }
+            } else {
+                exportService.writeCsv(tenant, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("todos.csv").build().toString())
+                .header("X-Processed-By", "TodoExportController");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
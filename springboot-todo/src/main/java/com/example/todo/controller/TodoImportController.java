@@ -0,0 +1,48 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.ImportResponse;
+import com.example.todo.service.TodoImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * TodoImportController class
+ * Admin endpoint to bulk import a CSV or NDJSON file (see TodoImportService).
+ * The file must already be on the server, inside app.import.directory; the import runs in the request thread.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class TodoImportController {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoImportController.class);
+    private final TodoImportService importService;
+    private final boolean resumeByDefault;
+
+    public TodoImportController(TodoImportService importService,
+                                @Value("${app.import.resume:true}") boolean resumeByDefault) {
+        this.importService = importService;
+        this.resumeByDefault = resumeByDefault;
+    }
+
+    @Operation(summary = "Import todos from a CSV or NDJSON file in the import directory",
+            description = "CSV needs a header with a 'title' column and an optional 'description' column. "
+                    + "NDJSON has one {\"title\": ..., \"description\": ...} object per line.")
+    @PostMapping("/import")
+    public ResponseEntity<ImportResponse> importFile(@RequestParam("file") String file,
+                                                     @RequestParam(value = "resume", required = false) Boolean resume) {
+        logger.info("Import of {} requested", file);
+        return ResponseEntity.ok(importService.importFile(importService.resolve(file), resume == null ? resumeByDefault : resume));
+    }
+}
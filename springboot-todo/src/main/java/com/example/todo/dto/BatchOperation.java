@@ -0,0 +1,40 @@
+package com.example.todo.dto;
+
+import java.util.List;
+
+/**
+ * BatchOperation class
+ * One operation of a BatchRequest, "op" selects which fields are used:
+ * - create: body (same as POST /api/todos/create)
+ * - get: id (same as GET /api/todos/{id}); "$n" is the id created by operation n of the same batch
+ * - page: page, size, sort (same as GET /api/todos/paginated, e.g. sort=["title,desc"])
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BatchOperation {
+    private String op;
+    private TodoRequest body;
+    private String id;
+    private Integer page;
+    private Integer size;
+    private List<String> sort;
+
+    public String getOp() { return op; }
+    public void setOp(String op) { this.op = op; }
+
+    public TodoRequest getBody() { return body; }
+    public void setBody(TodoRequest body) { this.body = body; }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Integer getPage() { return page; }
+    public void setPage(Integer page) { this.page = page; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+
+    public List<String> getSort() { return sort; }
+    public void setSort(List<String> sort) { this.sort = sort; }
+}
@@ -0,0 +1,53 @@
+package com.example.todo.dto;
+
+import com.example.todo.exception.ApiErrorResponse;
+
+/**
+ * BatchOperationResult class
+ * Outcome of one operation of a batch, at the same position as the operation in the request.
+ * status is the HTTP status the operation would have had as a separate request; body is set on success,
+ * error (same format as the error responses of the API) on failure.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BatchOperationResult {
+    private final int index;
+    private final String op;
+    private final int status;
+    private final Object body;
+    private final ApiErrorResponse error;
+    public BatchOperationResult(int index, String op, int status, Object body, ApiErrorResponse error) {
+        this.index = index;
+        this.op = op;
+        this.status = status;
+        this.body = body;
+        this.error = error;
+    }
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+    public String getOp() {
+        return op;
+    }
+    public int getStatus() {
+        return status;
+    }
+    public Object getBody() {
+        return body;
+    }
+    public ApiErrorResponse getError() {
+        return error;
+    }
+
+    /** True for 2xx statuses */
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchOperationResult{index=%d, op=%s, status=%d}", index, op, status);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BatchRequest class
+ * Body of POST /api/todos/_batch: an ordered list of operations, executed in one HTTP round-trip.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BatchRequest {
+    private List<BatchOperation> operations = new ArrayList<>();
+    // Run all operations in one database transaction: if one fails, the creates of the batch are rolled back
+    private boolean transactional;
+
+    public List<BatchOperation> getOperations() { return operations; }
+    public void setOperations(List<BatchOperation> operations) { this.operations = operations; }
+
+    public boolean isTransactional() { return transactional; }
+    public void setTransactional(boolean transactional) { this.transactional = transactional; }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.dto;
+
+import java.util.List;
+
+/**
+ * BatchResponse class
+ * Response of POST /api/todos/_batch: one result per operation, in request order.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BatchResponse {
+    private final List<BatchOperationResult> results;
+    private final boolean rolledBack;
+    private final long durationMs;
+    public BatchResponse(List<BatchOperationResult> results, boolean rolledBack, long durationMs) {
+        this.results = results;
+        this.rolledBack = rolledBack;
+        this.durationMs = durationMs;
+    }
+    // Getters
+    public List<BatchOperationResult> getResults() {
+        return results;
+    }
+    // Only for transactional batches: an operation failed and nothing of the batch was committed
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResponse{results=%s, rolledBack=%s, durationMs=%d}", results, rolledBack, durationMs);
+    }
+}
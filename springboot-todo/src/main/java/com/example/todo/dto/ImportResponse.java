@@ -0,0 +1,50 @@
+package com.example.todo.dto;
+
+/**
+ * ImportResponse class
+ * This class is the summary of a bulk import run by TodoImportService.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class ImportResponse {
+    private final String file;
+    private final long imported;
+    private final long rejected;
+    private final long resumedFromOffset;
+    private final long durationMs;
+    private final long rowsPerSecond;
+    public ImportResponse(String file, long imported, long rejected, long resumedFromOffset, long durationMs, long rowsPerSecond) {
+        this.file = file;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.resumedFromOffset = resumedFromOffset;
+        this.durationMs = durationMs;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+    // Getters
+    public String getFile() {
+        return file;
+    }
+    public long getImported() {
+        return imported;
+    }
+    public long getRejected() {
+        return rejected;
+    }
+    public long getResumedFromOffset() {
+        return resumedFromOffset;
+    }
+    public long getDurationMs() {
+        return durationMs;
+    }
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportResponse{file=%s, imported=%d, rejected=%d, resumedFromOffset=%d, durationMs=%d, rowsPerSecond=%d}",
+                file, imported, rejected, resumedFromOffset, durationMs, rowsPerSecond);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo.dto;
+
+/**
+ * SnapshotResponse class
+ * This class describes a snapshot of the H2 database written or restored by H2SnapshotService.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class SnapshotResponse {
+    private final String file;
+    private final long rows;
+    private final long bytes;
+    private final long durationMs;
+    public SnapshotResponse(String file, long rows, long bytes, long durationMs) {
+        this.file = file;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.durationMs = durationMs;
+    }
+    // Getters
+    public String getFile() {
+        return file;
+    }
+    public long getRows() {
+        return rows;
+    }
+    public long getBytes() {
+        return bytes;
+    }
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SnapshotResponse{file=%s, rows=%d, bytes=%d, durationMs=%d}", file, rows, bytes, durationMs);
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.todo.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
 /**
  * DTO for creating a Todo task
+ * The constraints (VARCHAR(255) columns) are checked by POST /create (@Valid) and for the create operations
+ * of a batch (TodoBatchService), with the same messages.
  */
 public class TodoRequest {
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
+
+    @Size(max = 255, message = "Description must be at most 255 characters")
     private String description;
 
     public String getTitle() { return title; }
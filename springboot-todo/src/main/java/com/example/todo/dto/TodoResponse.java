@@ -1,8 +1,12 @@
 package com.example.todo.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * TodoResponse class
  * This class represents the response object for a Todo item.
+ * The id stays a JSON number; idString carries the same id as a string, for JavaScript clients:
+ * the time-ordered ids of the JPA store are above 2^53 and would be rounded as numbers.
  *
  * @author : kjss920
  * @since : 2025-09-13, Saturday
@@ -24,6 +28,10 @@ public class TodoResponse {
     public Long getId() {
         return id;
     }
+    @JsonProperty(value = "idString", access = JsonProperty.Access.READ_ONLY)
+    public String getIdString() {
+        return id == null ? null : id.toString();
+    }
     public String getTitle() {
         return title;
     }
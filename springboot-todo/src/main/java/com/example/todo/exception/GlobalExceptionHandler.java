@@ -3,20 +3,24 @@ package com.example.todo.exception;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
-import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Global exception handler for REST controllers
@@ -27,6 +31,19 @@ public class GlobalExceptionHandler {
     //logger
     private final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    // Client errors (400/404) are logged at most once per interval and per error code, with counters.
+    // Logging every event (with a stack trace) made the error path far more expensive than the happy path.
+    private final RateLimitedErrorLogger errorLog;
+
+    public GlobalExceptionHandler(@Value("${app.errors.log-interval-ms:1000}") long logIntervalMs) {
+        this.errorLog = new RateLimitedErrorLogger(logger, Duration.ofMillis(logIntervalMs));
+    }
+
+    /** Number of errors handled since startup, per error code (e.g. NOT_FOUND -> 1234) */
+    public Map<String, Long> getErrorCounts() {
+        return errorLog.getCounts();
+    }
+
     // Handle missing request header exceptions
     // This will catch MissingRequestHeaderException thrown when a required header is missing.
     // This is a built-in Spring exception.
@@ -42,10 +59,10 @@ public class GlobalExceptionHandler {
     */
     @ExceptionHandler(MissingRequestHeaderException.class)
     public ResponseEntity<ApiErrorResponse> handleMissingHeader(MissingRequestHeaderException ex) {
-        // Log the exception details
+        // Log the exception details (rate limited)
         // log that a required header is missing
-        logger.error("MissingRequestHeaderException: {}", ex.getMessage());
         String message = "Missing required header: " + ex.getHeaderName();
+        errorLog.log("MISSING_HEADER", message);
         ApiErrorResponse error = new ApiErrorResponse("MISSING_HEADER", message, HttpStatus.BAD_REQUEST.value(), java.time.LocalDateTime.now());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
@@ -132,8 +149,8 @@ public class GlobalExceptionHandler {
     }*/
     @ExceptionHandler(HandlerMethodValidationException.class)
     public ResponseEntity<ApiErrorResponse> handleHandlerMethodValidation(HandlerMethodValidationException ex) {
-        // Log full exception
-        logger.error(">>>>>Handling HandlerMethodValidationException: ", ex);
+        // The full stack trace used to be logged here. It is always the same Spring validation stack,
+        // so we only log the resulting message (rate limited) below.
         List<String> errors = ex.getAllErrors().stream()
                 .map(error -> {
                     // Try to extract parameter name from arguments
@@ -154,6 +171,7 @@ public class GlobalExceptionHandler {
                 .toList();
 
         String message = String.join("; ", errors);
+        errorLog.log("VALIDATION_FAILED", message);
 
         ApiErrorResponse errorBody = new ApiErrorResponse(
                 "VALIDATION_FAILED",
@@ -170,10 +188,11 @@ public class GlobalExceptionHandler {
     // This is a built-in Spring exception.
     // Example usage: In a POST endpoint, if the request body fails validation, this exception is thrown.
     // This will result in a 400 Bad Request response with details of the validation errors.
+    // The message lists the constraint messages, sorted, like the create operations of a batch (TodoBatchService).
     /* Example JSON response:
       {
         "code": "VALIDATION_FAILED",
-        "message": "Validation failed for object='todoRequest'. Error count: 1",
+        "message": "Description must be at most 255 characters; Title is required",
         "status": 400,
         "timestamp": "2025-09-11T15:21:30.987654"
       }
@@ -186,14 +205,16 @@ public class GlobalExceptionHandler {
 //        return ResponseEntity.badRequest().body(error);
 //    }
 
-    // HandlerMethodValidationException.class is thrown when @Min, @Max etc. on method parameters fail validation
-    @ExceptionHandler({MethodArgumentTypeMismatchException.class})
-    public ResponseEntity<ApiErrorResponse> handleValidationExceptions(org.springframework.web.bind.MethodArgumentNotValidException ex) {
-        // Log the exception details
-        logger.error("Handling MethodArgumentNotValidException in GlobalExceptionHandler: {}", ex.getMessage());
-        logger.error("Validation errors: {}", ex.getBindingResult().getAllErrors());
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        String message = String.join("; ", ex.getBindingResult().getAllErrors().stream()
+                .map(ObjectError::getDefaultMessage)
+                .sorted()
+                .toList());
+        // Log the exception details (rate limited)
+        errorLog.log("VALIDATION_FAILED", message);
         // Create a custom error response
-        ApiErrorResponse error = new ApiErrorResponse("VALIDATION_FAILED", ex.getMessage(), HttpStatus.BAD_REQUEST.value(), java.time.LocalDateTime.now());
+        ApiErrorResponse error = new ApiErrorResponse("VALIDATION_FAILED", message, HttpStatus.BAD_REQUEST.value(), java.time.LocalDateTime.now());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
@@ -211,9 +232,8 @@ public class GlobalExceptionHandler {
     */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
-        // Log the exception details
-        logger.error("Handling IllegalArgumentException in GlobalExceptionHandler: {}", ex.getMessage());
-        logger.error("IllegalArgumentException: {}", ex.getMessage());
+        // Log the exception details (rate limited)
+        errorLog.log("INVALID_ARGUMENT", ex.getMessage());
         // Create a custom error response
         ApiErrorResponse error = new ApiErrorResponse("INVALID_ARGUMENT", ex.getMessage(), HttpStatus.BAD_REQUEST.value(), java.time.LocalDateTime.now());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
@@ -236,11 +256,58 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleResourceNotFound(ResourceNotFoundException ex) {
-        // Log the exception details
-        logger.error("Handling ResourceNotFoundException in GlobalExceptionHandler: {}", ex.getMessage());
-        logger.error("ResourceNotFoundException: {}", ex.getMessage());
+        // Log the exception details (rate limited, ResourceNotFoundException has no stack trace anyway)
+        errorLog.log("NOT_FOUND", ex.getMessage());
         // Create a custom error response
         ApiErrorResponse error = new ApiErrorResponse("NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND.value(), java.time.LocalDateTime.now());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
+
+    /**
+     * Handle ServiceOverloadedException
+     * Thrown by the concurrency limiter when the read or write limit is reached.
+     * The client gets a fast 503 with Retry-After instead of waiting in an ever-growing queue.
+     * <p>
+     * Example JSON response:
+     * {
+     * "code": "SERVICE_OVERLOADED",
+     * "message": "Too many concurrent read requests, retry later",
+     * "status": 503,
+     * "timestamp": "2026-10-19T10:15:30.654321"
+     * }
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        // Log the exception details (rate limited, under overload this path is hot)
+        errorLog.log("SERVICE_OVERLOADED", ex.getMessage());
+        // Create a custom error response
+        ApiErrorResponse error = new ApiErrorResponse("SERVICE_OVERLOADED", ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), java.time.LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Handle TenantQuotaExceededException
+     * Thrown by the TenantInterceptor when one client has too many requests in progress.
+     * Only that client is throttled; the others keep their share of the capacity.
+     * <p>
+     * Example JSON response:
+     * {
+     * "code": "TENANT_QUOTA_EXCEEDED",
+     * "message": "Too many concurrent requests for client 12345 (max 16), retry later",
+     * "status": 429,
+     * "timestamp": "2026-10-19T10:15:30.654321"
+     * }
+     */
+    @ExceptionHandler(TenantQuotaExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleTenantQuotaExceeded(TenantQuotaExceededException ex) {
+        // Log the exception details (rate limited, a noisy client can hit this path a lot)
+        errorLog.log("TENANT_QUOTA_EXCEEDED", ex.getMessage());
+        // Create a custom error response
+        ApiErrorResponse error = new ApiErrorResponse("TENANT_QUOTA_EXCEEDED", ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value(), java.time.LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
 }
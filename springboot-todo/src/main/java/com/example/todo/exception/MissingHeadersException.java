@@ -0,0 +1,59 @@
+package com.example.todo.exception;
+
+/**
+ * MissingHeadersException class
+ * Thrown by the controllers when X-Client-Id and/or X-Request-Id are missing.
+ * It is a subclass of IllegalArgumentException, so GlobalExceptionHandler maps it to INVALID_ARGUMENT as before.
+ * <p>
+ * The exception never carries a stack trace, and the three "missing headers" combinations are preallocated
+ * because their message is always the same. Sharing the instances is safe because they carry no stack trace
+ * and no cause. They are only ever thrown and mapped to a response, never used in try-with-resources.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class MissingHeadersException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private static final MissingHeadersException CLIENT_ID_MISSING =
+            new MissingHeadersException("Missing required headers: X-Client-Id");
+    private static final MissingHeadersException REQUEST_ID_MISSING =
+            new MissingHeadersException("Missing required headers: X-Request-Id");
+    private static final MissingHeadersException BOTH_MISSING =
+            new MissingHeadersException("Missing required headers: X-Client-Id X-Request-Id");
+
+    public MissingHeadersException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the preallocated exception for the given combination of missing headers.
+     * @param clientIdMissing true if X-Client-Id is missing
+     * @param requestIdMissing true if X-Request-Id is missing
+     * @return the shared exception, or null if nothing is missing
+     */
+    public static MissingHeadersException of(boolean clientIdMissing, boolean requestIdMissing) {
+        if (clientIdMissing && requestIdMissing) {
+            return BOTH_MISSING;
+        }
+        if (clientIdMissing) {
+            return CLIENT_ID_MISSING;
+        }
+        if (requestIdMissing) {
+            return REQUEST_ID_MISSING;
+        }
+        return null;
+    }
+
+    // No stack trace: the message says everything the client and the logs need.
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    // Shared instances must stay immutable, so a cause is never recorded.
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        return this;
+    }
+}
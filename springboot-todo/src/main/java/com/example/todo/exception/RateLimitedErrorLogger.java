@@ -0,0 +1,93 @@
+package com.example.todo.exception;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * RateLimitedErrorLogger class
+ * Logs client errors (400/404) at most once per interval and per error code, and counts every occurrence.
+ * When a scanner probes thousands of random ids, we get one log line per second with the number of
+ * suppressed events, instead of thousands of lines (and stack traces) per second.
+ * <p>
+ * Example log line:
+ * [NOT_FOUND] To-Do item not found with ID: 42 (317 similar errors suppressed, 12873 in total)
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class RateLimitedErrorLogger {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, ErrorCounter> counters = new ConcurrentHashMap<>();
+
+    public RateLimitedErrorLogger(Logger logger, Duration interval) {
+        this(logger, interval, System::nanoTime);
+    }
+
+    /** With the clock the interval is measured on, for tests */
+    RateLimitedErrorLogger(Logger logger, Duration interval, LongSupplier nanoClock) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Count the error and log it, unless the same error code was already logged within the interval.
+     * @param code    The error code, e.g. NOT_FOUND
+     * @param message The error message sent to the client
+     */
+    public void log(String code, String message) {
+        long now = nanoClock.getAsLong();
+        ErrorCounter counter = counters.computeIfAbsent(code, k -> new ErrorCounter(now));
+        counter.total.increment();
+        long nextLogAt = counter.nextLogAt.get();
+        // Only one thread wins the CAS, so at most one line is written per interval even under contention
+        if (now - nextLogAt >= 0 && counter.nextLogAt.compareAndSet(nextLogAt, now + intervalNanos)) {
+            long suppressed = counter.suppressed.sumThenReset();
+            if (suppressed == 0) {
+                logger.error("[{}] {}", code, message);
+            } else {
+                logger.error("[{}] {} ({} similar errors suppressed, {} in total)", code, message, suppressed, counter.total.sum());
+            }
+        } else {
+            counter.suppressed.increment();
+        }
+    }
+
+    /**
+     * Total number of errors seen for an error code since startup.
+     * @param code The error code, e.g. NOT_FOUND
+     * @return The count, 0 if the error never happened
+     */
+    public long getCount(String code) {
+        ErrorCounter counter = counters.get(code);
+        return counter == null ? 0 : counter.total.sum();
+    }
+
+    /** Snapshot of all error counters, sorted by error code */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((code, counter) -> snapshot.put(code, counter.total.sum()));
+        return snapshot;
+    }
+
+    private static final class ErrorCounter {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        // nanoTime can be negative, so start from "now" rather than 0 to let the first error through
+        private final AtomicLong nextLogAt;
+
+        private ErrorCounter(long now) {
+            this.nextLogAt = new AtomicLong(now);
+        }
+    }
+}
@@ -2,12 +2,16 @@ package com.example.todo.exception;
 
 /**
  * ResourceNotFoundException class
+ * Thrown for every 404, so it is created without a stack trace (writableStackTrace = false).
+ * The handler only ever uses the message, and scanners probing random ids make this path hot.
  *
  * @author : kjss920
  * @since : 2025-09-13, Saturday
  **/
 public class ResourceNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,25 @@
+package com.example.todo.exception;
+
+/**
+ * ServiceOverloadedException class
+ * Thrown when a request is rejected by the concurrency limiter (see ConcurrencyLimitInterceptor).
+ * GlobalExceptionHandler maps it to 503 Service Unavailable with a Retry-After header.
+ * Rejections are meant to be cheap, so the exception is created without a stack trace.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class ServiceOverloadedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
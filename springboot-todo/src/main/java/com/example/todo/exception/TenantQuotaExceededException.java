@@ -0,0 +1,25 @@
+package com.example.todo.exception;
+
+/**
+ * TenantQuotaExceededException class
+ * Thrown when a client (X-Client-Id) has more concurrent requests in progress than its quota
+ * (see TenantInterceptor). GlobalExceptionHandler maps it to 429 Too Many Requests with a Retry-After header.
+ * Created without a stack trace, rejections are meant to be cheap.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TenantQuotaExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TenantQuotaExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
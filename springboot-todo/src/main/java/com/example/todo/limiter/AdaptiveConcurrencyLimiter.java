@@ -0,0 +1,129 @@
+package com.example.todo.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * AdaptiveConcurrencyLimiter class
+ * Limits the number of requests in flight, with a limit that adapts to the observed latency (AIMD):
+ * - additive increase: a fast request (latency under the threshold) raises the limit by 1,
+ *   but only while the limit is actually being used (in flight >= limit / 2), so it does not drift up when idle
+ * - multiplicative decrease: a slow or failed request multiplies the limit by the backoff ratio (e.g. 0.9),
+ *   at most once per batch of requests: requests that started before the last decrease were admitted under the
+ *   old limit, so their latency says nothing about the new one (like TCP, one reduction per window)
+ * When H2 or the connection pool slows down, the limit shrinks until the admitted requests are fast again,
+ * and the excess is rejected right away instead of queueing in Tomcat with unbounded latency.
+ * tryAcquire is lock-free; the limit itself is only updated on release.
+ * reset() goes back to the initial limit, e.g. after the warm-up (WarmupRunner), whose latencies come from a cold JIT.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    // guarded by this
+    private long lastDecreaseNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, double backoffRatio) {
+        this(name, initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    /** With the clock the latencies are measured on, for tests */
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                               Duration latencyThreshold, double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1): " + backoffRatio);
+        }
+        this.name = name;
+        this.initialLimit = initialLimit;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take a slot if the number of requests in flight is under the limit
+     * @return true if the request may proceed (release must then be called), false if it must be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give the slot back and adapt the limit to the outcome of the request
+     * @param startNanos System.nanoTime() when the request was admitted
+     * @param failed true if the request failed in a way that points at overload (e.g. a 5xx)
+     */
+    public void release(long startNanos, boolean failed) {
+        long now = nanoClock.getAsLong();
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (startNanos - lastDecreaseNanos < 0) {
+                // Admitted before the last decrease: its outcome was already accounted for
+                return;
+            }
+            if (failed || now - startNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                lastDecreaseNanos = now;
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    /**
+     * Go back to the initial limit. The outcome of the requests admitted before is ignored, like after a decrease.
+     */
+    public synchronized void reset() {
+        limit = initialLimit;
+        lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** Number of requests rejected since startup */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todo.limiter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * ConcurrencyLimitConfig class
+ * Registers the ConcurrencyLimitInterceptor on /api/todos/** with the limits from the app.limiter.* properties.
+ * The CSV export is excluded: a download holds its slot for as long as the client reads, which says nothing
+ * about the health of the database. The health check is excluded too.
+ * The limiters are beans too: the read limiter for the reads TodoBatchService runs on its own threads,
+ * both of them for WarmupRunner, which resets them once the warm-up is done.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Configuration
+@ConditionalOnProperty(name = "app.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitConfig(@Value("${app.limiter.read.initial-limit:50}") int readInitialLimit,
+                                  @Value("${app.limiter.read.min-limit:4}") int readMinLimit,
+                                  @Value("${app.limiter.read.max-limit:400}") int readMaxLimit,
+                                  @Value("${app.limiter.read.latency-threshold-ms:100}") long readLatencyThresholdMs,
+                                  @Value("${app.limiter.write.initial-limit:20}") int writeInitialLimit,
+                                  @Value("${app.limiter.write.min-limit:2}") int writeMinLimit,
+                                  @Value("${app.limiter.write.max-limit:200}") int writeMaxLimit,
+                                  @Value("${app.limiter.write.latency-threshold-ms:250}") long writeLatencyThresholdMs,
+                                  @Value("${app.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${app.limiter.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.readLimiter = new AdaptiveConcurrencyLimiter("read", readInitialLimit, readMinLimit, readMaxLimit,
+                Duration.ofMillis(readLatencyThresholdMs), backoffRatio);
+        this.writeLimiter = new AdaptiveConcurrencyLimiter("write", writeInitialLimit, writeMinLimit, writeMaxLimit,
+                Duration.ofMillis(writeLatencyThresholdMs), backoffRatio);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter() {
+        return readLimiter;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter() {
+        return writeLimiter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(readLimiter, writeLimiter, retryAfterSeconds))
+                .addPathPatterns("/api/todos/**")
+                .excludePathPatterns("/api/todos/export.csv", "/api/todos/health");
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.limiter;
+
+import com.example.todo.exception.ServiceOverloadedException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * ConcurrencyLimitInterceptor class
+ * Puts an AdaptiveConcurrencyLimiter in front of the /api/todos endpoints, with separate limits for reads
+ * (GET, HEAD, OPTIONS) and writes (everything else), so a burst of slow writes cannot starve the reads and vice versa.
+ * A request over the limit gets a ServiceOverloadedException, i.e. a 503 with Retry-After from GlobalExceptionHandler.
+ * The latency fed back to the limiter is measured from preHandle to afterCompletion.
+ * Registered by ConcurrencyLimitConfig.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final ServiceOverloadedException readsOverloaded;
+    private final ServiceOverloadedException writesOverloaded;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter,
+                                       long retryAfterSeconds) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        // Stackless and immutable, so one instance per limiter is enough
+        this.readsOverloaded = new ServiceOverloadedException("Too many concurrent read requests, retry later", retryAfterSeconds);
+        this.writesOverloaded = new ServiceOverloadedException("Too many concurrent write requests, retry later", retryAfterSeconds);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An async request comes back through the interceptors once more; its slot is still held from the first pass
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        boolean read = isRead(request.getMethod());
+        AdaptiveConcurrencyLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw read ? readsOverloaded : writesOverloaded;
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // Not called for the first dispatch of an async request: its slot is released here, after the async dispatch
+        Object limiter = request.getAttribute(LIMITER_ATTRIBUTE);
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (limiter instanceof AdaptiveConcurrencyLimiter acquired && start instanceof Long startNanos) {
+            request.removeAttribute(LIMITER_ATTRIBUTE);
+            acquired.release(startNanos, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
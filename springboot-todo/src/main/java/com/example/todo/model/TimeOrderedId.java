@@ -0,0 +1,23 @@
+package com.example.todo.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TimeOrderedId annotation
+ * Marks an @Id field whose value is assigned by TimeOrderedIdGenerator before the insert,
+ * instead of being generated by the database (IDENTITY).
+ * The node id comes from app.todo.id.node-id (passed to Hibernate through spring.jpa.properties).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
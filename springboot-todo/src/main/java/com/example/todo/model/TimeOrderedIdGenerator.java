@@ -0,0 +1,97 @@
+package com.example.todo.model;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TimeOrderedIdGenerator class
+ * Lock-free generator of 64-bit, time-ordered ids, unique across nodes without coordination:
+ * <pre>
+ *   0 | 41 bits: milliseconds since 2025-01-01T00:00:00Z | 10 bits: node id | 12 bits: sequence
+ * </pre>
+ * - 4096 ids per millisecond and node; when a millisecond is used up, the next one is borrowed
+ * - ids of one node are strictly increasing, also when the wall clock goes backwards
+ *   (the generator keeps counting from the last timestamp it used until the clock catches up)
+ * - across restarts the last timestamp is the highest id stored: advancePast() is called with it when the data
+ *   comes back (H2SnapshotService.restore()), so a clock set back meanwhile cannot issue an id twice
+ * - ids of different nodes never collide as long as every instance gets its own node id (0..1023)
+ * - the 41-bit timestamp lasts until 2094
+ * - ids are above 2^53, more than a JavaScript number holds exactly: the API sends them in idString as well (TodoResponse)
+ * There is one generator per node id in the JVM (forNode), shared by Hibernate (TimeOrderedIdentifierGenerator)
+ * and the JDBC import, so both draw from the same sequence.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public final class TimeOrderedIdGenerator {
+
+    /** 2025-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final ConcurrentMap<Integer, TimeOrderedIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+
+    // Last issued (timestamp << SEQUENCE_BITS | sequence); the node id is added when building the id
+    private final AtomicLong state = new AtomicLong();
+
+    private TimeOrderedIdGenerator(int nodeId) {
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * The generator of the given node, shared by every caller in this JVM
+     */
+    public static TimeOrderedIdGenerator forNode(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        return GENERATORS.computeIfAbsent(nodeId, TimeOrderedIdGenerator::new);
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = state.get();
+            // A new millisecond restarts the sequence at 0; otherwise (same millisecond, sequence
+            // exhausted or clock moved backwards) continue after the last issued value
+            long next = now > last ? now : last + 1;
+            if (state.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Make every next id greater than the given one, issued by an earlier run of any node: while the clock is behind
+     * its timestamp, the generator counts from the millisecond after it (like for a clock moving backwards)
+     * @param id Highest id already stored
+     */
+    public void advancePast(long id) {
+        // Last sequence value of the id's millisecond: the next id is in the millisecond after, whatever the node
+        long floor = (((id >>> TIMESTAMP_SHIFT) + 1) << SEQUENCE_BITS) - 1;
+        state.accumulateAndGet(floor, Math::max);
+    }
+
+    /** Creation time encoded in an id, in epoch milliseconds */
+    public static long timestampMillis(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    public static int nodeId(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    public static int sequence(long id) {
+        return (int) (id & SEQUENCE_MASK);
+    }
+}
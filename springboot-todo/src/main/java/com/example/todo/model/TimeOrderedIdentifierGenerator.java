@@ -0,0 +1,38 @@
+package com.example.todo.model;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.lang.reflect.Member;
+
+/**
+ * TimeOrderedIdentifierGenerator class
+ * Hibernate side of @TimeOrderedId: the id is known before the INSERT, so Hibernate can batch inserts
+ * (hibernate.jdbc.batch_size) and persist() does not need a round-trip to learn the id.
+ * Instantiated by Hibernate (not a Spring bean), so the node id is read from the Hibernate settings.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Hibernate setting with the node id, see spring.jpa.properties.app.todo.id.node-id */
+    public static final String NODE_ID_SETTING = "app.todo.id.node-id";
+
+    private final TimeOrderedIdGenerator generator;
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId annotation, Member member, GeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSettings().get(NODE_ID_SETTING);
+        this.generator = TimeOrderedIdGenerator.forNode(nodeId == null ? 0 : Integer.parseInt(nodeId.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
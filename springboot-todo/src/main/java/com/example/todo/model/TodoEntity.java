@@ -1,18 +1,41 @@
 package com.example.todo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.util.Set;
 
 /**
  * Entity mapped to a database table
+ * Every field the API allows sorting on (see SORTABLE_FIELDS) must be backed by an index,
+ * otherwise a sorted page means a full table sort. TodoSortIndexTest checks this with H2's EXPLAIN.
+ * The indexes serve ascending sorts only; a descending sort sorts the tenant's rows.
+ * Rows belong to a tenant (tenant_id, the X-Client-Id of the request that created them, see TenantContext);
+ * Hibernate adds tenant_id = ? to every query. All indexes start with tenant_id, so a tenant's pages
+ * and scans only read that tenant's part of the index, however many rows the other tenants have.
  */
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_tenant_id", columnList = "tenant_id, id"),
+        @Index(name = "idx_todos_tenant_title", columnList = "tenant_id, title, id"),
+        @Index(name = "idx_todos_tenant_description", columnList = "tenant_id, description, id")
+})
 public class TodoEntity {
 
+    /** Fields that can be used in sort=... (ascending: "id" is served by idx_todos_tenant_id, the others by their own index) */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("id", "title", "description");
+
+    // Time-ordered ids (timestamp + node + sequence) assigned before the insert, see TimeOrderedIdGenerator.
+    // They grow with creation time, so keyset pagination and sorting by id keep their order.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
+    // Set by Hibernate from TenantContext on insert, never changed
+    @TenantId
+    @Column(name = "tenant_id", length = 64, nullable = false, updatable = false)
+    private String tenantId;
+
     private String title;
     private String description;
 
@@ -20,6 +43,8 @@ public class TodoEntity {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public String getTenantId() { return tenantId; }
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
@@ -0,0 +1,195 @@
+package com.example.todo.repository;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * TodoIdIndex class
+ * The id -> location index of TodoLogStore, on primitive arrays: the sorted ids in a long[] and their locations
+ * in an AtomicLongArray at the same position. A million todos take 16 MB and no object per entry, where a
+ * ConcurrentSkipListMap of boxed Longs needs a node, an index level and two Longs per entry, and recovery
+ * fills it without allocating per record.
+ * - Lookups are binary searches on the current State, without locking.
+ * - One writer at a time (the writeLock of TodoLogStore): an id above the highest one is appended in place and
+ *   published with a new State, the location of a known id is replaced in place, and an id that falls in the
+ *   middle copies the arrays, so readers never see the entries shift.
+ * - load() builds the whole index from the records found by recovery: one sort (skipped when the log is
+ *   already in id order, i.e. no compaction happened), keeping the last record of each id.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+final class TodoIdIndex {
+
+    /** Location returned for an unknown id; real locations start at segment 1, so they are always positive */
+    static final long NO_LOCATION = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Entries [0, size) of the arrays; the arrays may be longer (room for appends)
+    private record State(long[] ids, AtomicLongArray locations, int size) {
+    }
+
+    private volatile State state = new State(new long[0], new AtomicLongArray(0), 0);
+
+    /** Number of ids in the index */
+    int size() {
+        return state.size;
+    }
+
+    /** Highest id in the index, 0 if empty */
+    long maxId() {
+        State current = state;
+        return current.size == 0 ? 0 : current.ids[current.size - 1];
+    }
+
+    /**
+     * Location of the latest record of an id
+     * @param id The id
+     * @return The location, NO_LOCATION if the id is unknown
+     */
+    long get(long id) {
+        State current = state;
+        int position = Arrays.binarySearch(current.ids, 0, current.size, id);
+        return position < 0 ? NO_LOCATION : current.locations.get(position);
+    }
+
+    /**
+     * Set the location of an id; the caller must hold the write lock of the store
+     * @param id The id
+     * @param location Location of its latest record
+     * @return The previous location, NO_LOCATION if the id is new
+     */
+    long put(long id, long location) {
+        State current = state;
+        int size = current.size;
+        if (size == 0 || id > current.ids[size - 1]) {
+            if (size == current.ids.length) {
+                current = copy(current, -1, Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            // Beyond the size of the published State, so invisible until the new State is published
+            current.ids[size] = id;
+            current.locations.set(size, location);
+            state = new State(current.ids, current.locations, size + 1);
+            return NO_LOCATION;
+        }
+        int position = Arrays.binarySearch(current.ids, 0, size, id);
+        if (position >= 0) {
+            return current.locations.getAndSet(position, location);
+        }
+        int insertion = -position - 1;
+        State inserted = copy(current, insertion, size == current.ids.length ? size * 2 : current.ids.length);
+        inserted.ids[insertion] = id;
+        inserted.locations.set(insertion, location);
+        state = new State(inserted.ids, inserted.locations, size + 1);
+        return NO_LOCATION;
+    }
+
+    /**
+     * The ids in ascending or descending order, as of the call (ids added later are not returned)
+     * @param ascending true for ascending ids, false for descending
+     * @return Iterator over the ids
+     */
+    PrimitiveIterator.OfLong ids(boolean ascending) {
+        State current = state;
+        return new PrimitiveIterator.OfLong() {
+            private int next = ascending ? 0 : current.size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return ascending ? next < current.size : next >= 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.ids[ascending ? next++ : next--];
+            }
+        };
+    }
+
+    /**
+     * Replace the content of the index with the records found by recovery
+     * @param ids Ids of the records, in log order (taken over by the index)
+     * @param locations Locations of the records, same length as ids
+     * @param size Number of records in the arrays
+     * @param superseded Called with the location of every record replaced by a later record of the same id
+     */
+    void load(long[] ids, long[] locations, int size, LongConsumer superseded) {
+        if (!isSorted(ids, size)) {
+            sortById(ids, locations, size);
+        }
+        // Records of the same id are next to each other, in log order: the last one is the latest
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (kept > 0 && ids[kept - 1] == ids[i]) {
+                superseded.accept(locations[kept - 1]);
+                locations[kept - 1] = locations[i];
+            } else {
+                ids[kept] = ids[i];
+                locations[kept] = locations[i];
+                kept++;
+            }
+        }
+        state = new State(ids, new AtomicLongArray(locations), kept);
+    }
+
+    // Copy of the entries with the given capacity, leaving a free slot at gap (-1 for none)
+    private static State copy(State current, int gap, int capacity) {
+        int size = current.size;
+        long[] ids = new long[capacity];
+        AtomicLongArray locations = new AtomicLongArray(capacity);
+        int split = gap < 0 ? size : gap;
+        System.arraycopy(current.ids, 0, ids, 0, split);
+        System.arraycopy(current.ids, split, ids, split + (gap < 0 ? 0 : 1), size - split);
+        for (int i = 0; i < size; i++) {
+            locations.set(i < split ? i : i + (gap < 0 ? 0 : 1), current.locations.get(i));
+        }
+        return new State(ids, locations, size);
+    }
+
+    private static boolean isSorted(long[] ids, int size) {
+        for (int i = 1; i < size; i++) {
+            if (ids[i] < ids[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Stable bottom-up merge sort of the (id, location) pairs by id: the records of an id stay in log order
+    private static void sortById(long[] ids, long[] locations, int size) {
+        long[] sourceIds = ids;
+        long[] sourceLocations = locations;
+        long[] targetIds = new long[size];
+        long[] targetLocations = new long[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int from = 0; from < size; from += 2 * width) {
+                int middle = Math.min(from + width, size);
+                int to = Math.min(from + 2 * width, size);
+                int left = from;
+                int right = middle;
+                for (int out = from; out < to; out++) {
+                    int taken = right >= to || (left < middle && sourceIds[left] <= sourceIds[right]) ? left++ : right++;
+                    targetIds[out] = sourceIds[taken];
+                    targetLocations[out] = sourceLocations[taken];
+                }
+            }
+            long[] swapIds = sourceIds;
+            sourceIds = targetIds;
+            targetIds = swapIds;
+            long[] swapLocations = sourceLocations;
+            sourceLocations = targetLocations;
+            targetLocations = swapLocations;
+        }
+        if (sourceIds != ids) {
+            System.arraycopy(sourceIds, 0, ids, 0, size);
+            System.arraycopy(sourceLocations, 0, locations, 0, size);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * TodoLogStore class
+ * Persistent, append-only store for todos made of memory-mapped segment files (segment-0000000001.log, ...).
+ * <p>
+ * Record layout (all integers big-endian):
+ * <pre>
+ * [int length][int crc32c][long id][int titleLength][title utf-8][int descriptionLength][description utf-8]
+ *  '-- header --'          '------------------------- payload (length bytes) -------------------------'
+ * </pre>
+ * A null title/description is stored with length -1. The length is written last, so a record whose length is
+ * still 0 does not exist, and the CRC of the payload detects records that were only partly written by a crash.
+ * <p>
+ * - Writes: one writer at a time appends to the active segment. A full segment is forced to disk and sealed,
+ *   and a new one is created.
+ * - Index: an in-memory TodoIdIndex from id to location (segment number, offset), sorted primitive arrays.
+ * - Reads: decoded straight from the mapped buffer, no read() system call and no intermediate byte[].
+ * - Recovery: the segments are scanned in order on startup. Only the headers and ids are read, into primitive
+ *   arrays that become the index in one go, so this takes milliseconds per million records.
+ *   The CRCs of the active (last) segment are always verified; sealed segments were forced to disk when
+ *   they were sealed, so their CRCs are only checked with verifyAll. The log is truncated at the first bad record.
+ * - Compaction: sealed segments with enough dead bytes (records superseded by a later copy of the same id)
+ *   get their live records copied to the active segment, which is forced to disk before the old segment is deleted
+ *   (under the write lock, so close() never runs in the middle of it). Once closed, the store stops compacting.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TodoLogStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoLogStore.class);
+
+    static final int HEADER_BYTES = 8;
+    // id + title length + description length
+    private static final int MIN_PAYLOAD_BYTES = 8 + 4 + 4;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnWrite;
+
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    // id -> location of the latest record for that id
+    private final TodoIdIndex index = new TodoIdIndex();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Segment active;
+    // guarded by writeLock
+    private boolean closed;
+
+    private TodoLogStore(Path directory, int segmentSize, boolean forceOnWrite) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnWrite = forceOnWrite;
+    }
+
+    /**
+     * Open the store, recovering the index from the existing segments (if any)
+     * @param directory Directory of the segment files, created if missing
+     * @param segmentSize Size of a segment file in bytes
+     * @param forceOnWrite Force every record to disk before append returns (slow, survives OS crashes)
+     * @param verifyAll Also verify the CRCs of the sealed segments during recovery
+     * @return The opened store
+     * @throws IOException if a segment cannot be created or mapped
+     */
+    public static TodoLogStore open(Path directory, int segmentSize, boolean forceOnWrite, boolean verifyAll) throws IOException {
+        if (segmentSize < HEADER_BYTES + MIN_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        TodoLogStore store = new TodoLogStore(directory, segmentSize, forceOnWrite);
+        store.recover(verifyAll);
+        return store;
+    }
+
+    /** Number of todos in the store */
+    public long count() {
+        return index.size();
+    }
+
+    /** Highest id in the store, 0 if empty */
+    public long maxId() {
+        return index.maxId();
+    }
+
+    /**
+     * Append a todo to the log and index it
+     * @param todo The todo to store, its id must be set
+     */
+    public void append(TodoEntity todo) {
+        byte[] title = bytes(todo.getTitle());
+        byte[] description = bytes(todo.getDescription());
+        int length = MIN_PAYLOAD_BYTES + (title == null ? 0 : title.length) + (description == null ? 0 : description.length);
+        writeLock.lock();
+        try {
+            Segment segment = reserve(HEADER_BYTES + length);
+            int offset = segment.writePosition;
+            MappedByteBuffer buffer = segment.buffer;
+            int position = offset + HEADER_BYTES;
+            buffer.putLong(position, todo.getId());
+            position = putBytes(buffer, position + 8, title);
+            putBytes(buffer, position, description);
+            buffer.putInt(offset + 4, checksum(buffer, offset + HEADER_BYTES, length));
+            // The length goes in last: until then recovery sees the end of the log here
+            buffer.putInt(offset, length);
+            commit(segment, offset, HEADER_BYTES + length, todo.getId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Read a todo by id, straight from the mapped segment
+     * @param id The id
+     * @return The todo, empty if the id is unknown
+     */
+    public Optional<TodoEntity> find(long id) {
+        // Compaction can delete a segment between the index lookup and the read; the index then already
+        // points at the new copy, so looking it up again is enough.
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long location = index.get(id);
+            if (location == TodoIdIndex.NO_LOCATION) {
+                return Optional.empty();
+            }
+            Segment segment = segments.get(segmentOf(location));
+            if (segment != null) {
+                return Optional.of(decode(segment.buffer, offsetOf(location)));
+            }
+        }
+        throw new IllegalStateException("To-Do item " + id + " keeps moving, compaction running in a loop?");
+    }
+
+    /**
+     * Iterate over all todos in id order, reading each one lazily from its segment
+     * @param ascending true for ascending ids, false for descending
+     * @return Iterator over the todos
+     */
+    public Iterator<TodoEntity> iterator(boolean ascending) {
+        PrimitiveIterator.OfLong ids = index.ids(ascending);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public TodoEntity next() {
+                return find(ids.nextLong()).orElseThrow();
+            }
+        };
+    }
+
+    /**
+     * Rewrite the sealed segments in which at least deadRatio of the bytes are dead, then delete them
+     * @param deadRatio Fraction (0..1] of dead bytes that makes a segment worth compacting
+     * @return Number of segments compacted
+     */
+    public int compact(double deadRatio) {
+        int compacted = 0;
+        for (Segment segment : segments.values()) {
+            long deadBytes = segment.deadBytes.get();
+            if (segment == active || deadBytes == 0 || deadBytes < segment.writePosition * deadRatio) {
+                continue;
+            }
+            if (!moveLiveRecords(segment) || !delete(segment)) {
+                break;
+            }
+            logger.info("Compacted segment {} ({} dead bytes)", segment.path.getFileName(), deadBytes);
+            compacted++;
+        }
+        return compacted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+                segment.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- recovery
+
+    private void recover(boolean verifyAll) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(TodoLogStore::isSegmentFile).sorted().toList();
+        }
+        Records records = new Records();
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            Segment segment = Segment.open(file, segmentNumber(file), segmentSize);
+            segments.put(segment.number, segment);
+            scan(segment, verifyAll || i == files.size() - 1, records);
+        }
+        index.load(records.ids, records.locations, records.size, this::markDead);
+        active = segments.isEmpty() ? createSegment(1) : segments.lastEntry().getValue();
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        logger.info("Recovered {} todos from {} segment(s) in {} ms", index.size(), files.size(), elapsedMicros / 1_000.0);
+    }
+
+    // Walk the records of a segment and collect their ids, stopping at the end of the log or at the first bad record
+    private void scan(Segment segment, boolean verify, Records records) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_BYTES <= segment.capacity) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            boolean valid = length >= MIN_PAYLOAD_BYTES && length <= segment.capacity - position - HEADER_BYTES;
+            if (valid && verify) {
+                valid = buffer.getInt(position + 4) == checksum(buffer, position + HEADER_BYTES, length);
+            }
+            if (!valid) {
+                logger.warn("Torn or corrupt record in {} at offset {}, truncating the log there", segment.path, position);
+                zero(buffer, position, segment.capacity);
+                break;
+            }
+            long id = buffer.getLong(position + HEADER_BYTES);
+            records.add(id, location(segment.number, position));
+            position += HEADER_BYTES + length;
+        }
+        segment.writePosition = position;
+    }
+
+    // ---------------------------------------------------------------- writing (writeLock held)
+
+    // Make sure the active segment has room for the record, rolling over to a new segment if needed
+    private Segment reserve(int recordSize) {
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("To-Do item too large for a segment: " + recordSize + " bytes");
+        }
+        Segment segment = active;
+        if (recordSize <= segment.capacity - segment.writePosition) {
+            return segment;
+        }
+        // Seal the full segment: once it is on disk, recovery does not need to verify its CRCs
+        segment.buffer.force();
+        try {
+            active = createSegment(segment.number + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a new segment in " + directory, e);
+        }
+        return active;
+    }
+
+    private void commit(Segment segment, int offset, int recordSize, long id) {
+        if (forceOnWrite) {
+            segment.buffer.force(offset, recordSize);
+        }
+        segment.writePosition = offset + recordSize;
+        index(id, location(segment.number, offset));
+    }
+
+    private void index(long id, long location) {
+        long previous = index.put(id, location);
+        if (previous != TodoIdIndex.NO_LOCATION) {
+            markDead(previous);
+        }
+    }
+
+    // The record at this location was superseded by a later copy of the same id
+    private void markDead(long location) {
+        Segment segment = segments.get(segmentOf(location));
+        if (segment != null) {
+            segment.deadBytes.addAndGet(HEADER_BYTES + segment.buffer.getInt(offsetOf(location)));
+        }
+    }
+
+    // Copy the records of a segment that are still the latest version of their id to the active segment.
+    // Returns false if the store was closed meanwhile.
+    private boolean moveLiveRecords(Segment segment) {
+        int position = 0;
+        while (position < segment.writePosition) {
+            int recordSize = HEADER_BYTES + segment.buffer.getInt(position);
+            long id = segment.buffer.getLong(position + HEADER_BYTES);
+            long location = location(segment.number, position);
+            writeLock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                if (index.get(id) == location) {
+                    Segment target = reserve(recordSize);
+                    int offset = target.writePosition;
+                    // CRC and payload first, length last, exactly like append
+                    target.buffer.put(offset + 4, segment.buffer, position + 4, recordSize - 4);
+                    target.buffer.putInt(offset, recordSize - HEADER_BYTES);
+                    commit(target, offset, recordSize, id);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            position += recordSize;
+        }
+        return true;
+    }
+
+    // Delete a compacted segment once the copies of its live records are on disk: segments that filled up during
+    // the copy were forced when they were sealed, the active one is forced here.
+    // Returns false if the store was closed meanwhile (the segment is then kept, recovery skips its dead copies).
+    private boolean delete(Segment segment) {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            active.buffer.force();
+            segments.remove(segment.number);
+            segment.close();
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            logger.warn("Could not delete compacted segment {}: {}", segment.path, e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+
+    private Segment createSegment(int number) throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(path, number, segmentSize);
+        segments.put(number, segment);
+        return segment;
+    }
+
+    // ---------------------------------------------------------------- encoding
+
+    private static TodoEntity decode(ByteBuffer buffer, int offset) {
+        int position = offset + HEADER_BYTES;
+        TodoEntity todo = new TodoEntity();
+        todo.setId(buffer.getLong(position));
+        position += 8;
+        int titleLength = buffer.getInt(position);
+        todo.setTitle(string(buffer, position + 4, titleLength));
+        position += 4 + Math.max(titleLength, 0);
+        todo.setDescription(string(buffer, position + 4, buffer.getInt(position)));
+        return todo;
+    }
+
+    private static String string(ByteBuffer buffer, int offset, int length) {
+        return length < 0 ? null : StandardCharsets.UTF_8.decode(buffer.slice(offset, length)).toString();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int putBytes(ByteBuffer buffer, int position, byte[] bytes) {
+        buffer.putInt(position, bytes == null ? -1 : bytes.length);
+        if (bytes == null) {
+            return position + 4;
+        }
+        buffer.put(position + 4, bytes);
+        return position + 4 + bytes.length;
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static void zero(ByteBuffer buffer, int from, int to) {
+        byte[] zeros = new byte[64 * 1024];
+        for (int position = from; position < to; position += zeros.length) {
+            buffer.put(position, zeros, 0, Math.min(zeros.length, to - position));
+        }
+    }
+
+    private static long location(int segmentNumber, int offset) {
+        return ((long) segmentNumber << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    private static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // (id, location) of the records found by recovery, in log order, in growing primitive arrays
+    private static final class Records {
+        private long[] ids = new long[1024];
+        private long[] locations = new long[1024];
+        private int size;
+
+        private void add(long id, long location) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                locations = Arrays.copyOf(locations, size * 2);
+            }
+            ids[size] = id;
+            locations[size] = location;
+            size++;
+        }
+    }
+
+    private static final class Segment {
+        private final int number;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicLong deadBytes = new AtomicLong();
+        private volatile int writePosition;
+
+        private Segment(int number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+
+        // Mapping beyond the end of the file grows it; the new bytes are zeros, i.e. "end of log"
+        private static Segment open(Path path, int number, int segmentSize) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), segmentSize);
+            if (size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IOException("Segment too large to map: " + path);
+            }
+            return new Segment(number, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        // The mapping stays valid after the channel is closed, so concurrent readers are not affected
+        private void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.SnapshotResponse;
+import com.example.todo.model.TimeOrderedIdGenerator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * H2SnapshotService class
+ * Dumps the in-memory H2 database (schema and data) to a gzip-compressed SQL script and loads it back,
+ * so a restart does not begin empty or reseed row by row.
+ * - snapshot(): SCRIPT TO ... COMPRESSION GZIP, written to a temp file first and then moved over the old snapshot,
+ *   so a crash during the dump never leaves a half-written snapshot behind.
+ * - restore(): DROP ALL OBJECTS + RUNSCRIPT FROM ... COMPRESSION GZIP. H2 replays the script in bulk,
+ *   which is much faster than inserting through JPA.
+ * - A snapshot is also taken on shutdown (app.snapshot.on-shutdown), before the DataSource is closed.
+ * - After a restore the id generator of this node continues after the highest restored id, in case the clock
+ *   is behind it (set back, or another machine) - see TimeOrderedIdGenerator.advancePast().
+ * Only registered with the H2/JPA store (app.todo.store=jpa, the default): the memory and log stores have no DataSource.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class H2SnapshotService {
+
+    private final Logger logger = LoggerFactory.getLogger(H2SnapshotService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<TodoCountCache> countCache;
+    private final Path file;
+    private final boolean onShutdown;
+    // Same generator as the JPA inserts and the import of this node
+    private final TimeOrderedIdGenerator idGenerator;
+
+    public H2SnapshotService(JdbcTemplate jdbcTemplate,
+                             ObjectProvider<TodoCountCache> countCache,
+                             @Value("${app.snapshot.file:./data/todo-db-snapshot.sql.gz}") String file,
+                             @Value("${app.snapshot.on-shutdown:true}") boolean onShutdown,
+                             @Value("${app.todo.id.node-id:0}") int nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countCache = countCache;
+        this.file = Path.of(file).toAbsolutePath();
+        this.onShutdown = onShutdown;
+        this.idGenerator = TimeOrderedIdGenerator.forNode(nodeId);
+    }
+
+    /**
+     * Write a compressed dump of the whole database to the snapshot file
+     * @return Description of the written snapshot
+     */
+    public synchronized SnapshotResponse snapshot() {
+        long start = System.nanoTime();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            jdbcTemplate.execute("SCRIPT TO " + literal(temp) + " COMPRESSION GZIP");
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long rows = countRows();
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            logger.info("Snapshot of {} rows written to {} ({} bytes) in {} ms", rows, file, Files.size(file), durationMs);
+            return new SnapshotResponse(file.toString(), rows, Files.size(file), durationMs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Replace the content of the database with the snapshot file, if there is one
+     * @return Description of the restored snapshot, empty if there is no snapshot file
+     */
+    public synchronized Optional<SnapshotResponse> restore() {
+        if (!Files.isRegularFile(file)) {
+            logger.info("No snapshot found at {}, starting with the current database", file);
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("RUNSCRIPT FROM " + literal(file) + " COMPRESSION GZIP");
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+        if (maxId != null) {
+            idGenerator.advancePast(maxId);
+        }
+        countCache.ifAvailable(TodoCountCache::invalidate);
+        long rows = countRows();
+        long durationNanos = System.nanoTime() - start;
+        // Restore throughput, to check that large datasets come back in seconds
+        long rowsPerSecond = durationNanos == 0 ? rows : rows * 1_000_000_000L / durationNanos;
+        try {
+            logger.info("Restored {} rows from {} ({} bytes) in {} ms, {} rows/s",
+                    rows, file, Files.size(file), durationNanos / 1_000_000, rowsPerSecond);
+            return Optional.of(new SnapshotResponse(file.toString(), rows, Files.size(file), durationNanos / 1_000_000));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read snapshot " + file, e);
+        }
+    }
+
+    // Beans are destroyed before the DataSource they depend on, so the database is still open here
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (!onShutdown) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            logger.error("Snapshot on shutdown failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private long countRows() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                String.class);
+        long rows = 0;
+        for (String table : tables) {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"" + table.replace("\"", "\"\"") + "\"", Long.class);
+            rows += count == null ? 0 : count;
+        }
+        return rows;
+    }
+
+    // SCRIPT and RUNSCRIPT take the file name as a string literal, not as a bind parameter
+    private static String literal(Path path) {
+        return "'" + path.toString().replace("'", "''") + "'";
+    }
+}
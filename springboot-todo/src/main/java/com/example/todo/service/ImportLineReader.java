@@ -0,0 +1,126 @@
+package com.example.todo.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * ImportLineReader class
+ * Reads a file line by line through a FileChannel and one reusable byte buffer, without decoding
+ * the whole file. The reader itself creates no String: the current line is exposed as a slice of the buffer
+ * (bytes(), lineStart(), lineLength()), and what gets decoded is up to the caller (TodoImportService decodes
+ * the CSV header once, then only the title and description fields). offsetAfterLine() gives the byte offset
+ * to resume from.
+ * The buffer grows only for lines longer than the buffer, up to MAX_LINE_BYTES.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+final class ImportLineReader implements Closeable {
+
+    static final int MAX_LINE_BYTES = 16 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private byte[] bytes;
+    // File offset of bytes[0]
+    private long bufferOffset;
+    // Valid data is bytes[start, end), scanFrom is where the search for the next '\n' continues
+    private int start;
+    private int end;
+    private int scanFrom;
+    private boolean endOfFile;
+
+    private int lineStart;
+    private int lineLength;
+
+    ImportLineReader(Path file, long offset, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.bytes = new byte[bufferSize];
+        this.bufferOffset = offset;
+    }
+
+    /**
+     * Move to the next line (without its '\n' or "\r\n")
+     * @return false at the end of the file
+     */
+    boolean next() throws IOException {
+        while (true) {
+            for (int i = scanFrom; i < end; i++) {
+                if (bytes[i] == '\n') {
+                    setLine(start, i);
+                    start = i + 1;
+                    scanFrom = start;
+                    return true;
+                }
+            }
+            scanFrom = end;
+            if (endOfFile) {
+                if (start == end) {
+                    return false;
+                }
+                // Last line without a trailing newline
+                setLine(start, end);
+                start = end;
+                return true;
+            }
+            fill();
+        }
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int lineStart() {
+        return lineStart;
+    }
+
+    int lineLength() {
+        return lineLength;
+    }
+
+    /** Byte offset in the file right after the current line, i.e. where the next line starts */
+    long offsetAfterLine() {
+        return bufferOffset + start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void setLine(int from, int to) {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        lineStart = from;
+        lineLength = to - from;
+    }
+
+    // Make room (move the unread bytes to the front, or grow for a very long line) and read more of the file
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(bytes, start, bytes, 0, end - start);
+            bufferOffset += start;
+            end -= start;
+            scanFrom -= start;
+            start = 0;
+        } else if (end == bytes.length) {
+            if (bytes.length >= MAX_LINE_BYTES) {
+                throw new IllegalArgumentException("Line longer than " + MAX_LINE_BYTES + " bytes at offset " + bufferOffset);
+            }
+            bytes = Arrays.copyOf(bytes, Math.min(bytes.length * 2, MAX_LINE_BYTES));
+        }
+        int read = channel.read(ByteBuffer.wrap(bytes, end, bytes.length - end));
+        if (read < 0) {
+            endOfFile = true;
+        } else {
+            end += read;
+        }
+    }
+}
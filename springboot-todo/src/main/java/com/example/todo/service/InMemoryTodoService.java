@@ -0,0 +1,138 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoListResponse;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InMemoryTodoService class
+ * TodoService without H2 and Hibernate, for ephemeral and edge deployments. Data is lost on restart.
+ * Enable it with app.todo.store=memory (or the 'memory' profile, which also switches off the DataSource and JPA).
+ * <p>
+ * Storage is made of lock-free JDK structures only:
+ * - a ConcurrentHashMap from id to todo, for O(1) lookups by id (getById is the hot path; the skip list would
+ *   cost O(log n) pointer hops per lookup)
+ * - a ConcurrentSkipListMap keyed by id, the ordered index that serves getAll(Pageable) for sort=id
+ * - a ConcurrentSkipListSet per other sortable field (title, description), ordered by (field, id)
+ * A page is read by walking the matching index in the requested direction, so it costs O(offset + size),
+ * not a sort of the whole data set. Sorts that no index can serve fall back to sorting a snapshot.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "memory")
+public class InMemoryTodoService implements TodoService {
+
+    private final Logger logger = LoggerFactory.getLogger(InMemoryTodoService.class);
+
+    private final AtomicLong idSequence = new AtomicLong();
+    // ConcurrentSkipListMap.size() walks the whole map, so the count is kept separately
+    private final LongAdder count = new LongAdder();
+
+    private final Map<Long, TodoResponse> todosById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, TodoResponse> idIndex = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListSet<TodoResponse>> fieldIndexes = Map.of(
+            "title", new ConcurrentSkipListSet<>(TodoPages.comparator(Sort.by("title"))),
+            "description", new ConcurrentSkipListSet<>(TodoPages.comparator(Sort.by("description"))));
+
+    /**
+     * Fetch all To-Do items, ordered by id
+     * @return List of TodoResponse
+     */
+    @Override
+    public TodoListResponse getAll() {
+        logger.info("Fetching all To-Do items");
+        List<TodoResponse> responses = new ArrayList<>(idIndex.values());
+        return new TodoListResponse(responses.size(), responses);
+    }
+
+    /** Fetch paginated To-Do items by walking the index that matches the sort
+     * @param pageable Pageable object containing page number, size and sort
+     * @return Page of TodoResponse
+     */
+    @Override
+    public Page<TodoResponse> getAll(Pageable pageable) {
+        logger.info("Fetching paginated To-Do items, page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+        return TodoPages.page(ordered(pageable.getSort()), pageable, count.sum());
+    }
+
+    /**
+     * Fetch a To-Do item by its ID
+     * @param id The ID of the To-Do item as a String
+     * @return Optional containing TodoResponse if found, else empty
+     */
+    @Override
+    public Optional<TodoResponse> getById(String id) {
+        logger.info("Fetching To-Do item by ID: {}", id);
+        try {
+            return Optional.ofNullable(todosById.get(Long.parseLong(id)));
+        } catch (NumberFormatException e) {
+            logger.error("Invalid ID format: {}", id);
+            return Optional.empty();
+        }
+    }
+
+    /** Create a new To-Do item
+     * @param request The TodoRequest containing title and description
+     * @return The created TodoResponse
+     */
+    @Override
+    public TodoResponse createTodo(TodoRequest request) {
+        logger.info("Creating new To-Do item with title: {}", request.getTitle());
+        long id = idSequence.incrementAndGet();
+        TodoResponse saved = new TodoResponse(id, request.getTitle(), request.getDescription());
+        todosById.put(id, saved);
+        idIndex.put(id, saved);
+        fieldIndexes.values().forEach(index -> index.add(saved));
+        count.increment();
+        logger.info("To-Do item created with ID: {}", saved.getId());
+        return saved;
+    }
+
+    // Iterator over all todos in the requested order.
+    // A sort on one field (optionally followed by id in the same direction) is served by that field's index.
+    private Iterator<TodoResponse> ordered(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return idIndex.values().iterator();
+        }
+        Sort.Order first = orders.get(0);
+        boolean singleIndex = orders.size() == 1
+                || (orders.size() == 2 && "id".equals(orders.get(1).getProperty())
+                && orders.get(1).getDirection() == first.getDirection());
+        if (singleIndex) {
+            if ("id".equals(first.getProperty())) {
+                return first.isAscending() ? idIndex.values().iterator() : idIndex.descendingMap().values().iterator();
+            }
+            ConcurrentSkipListSet<TodoResponse> index = fieldIndexes.get(first.getProperty());
+            if (index != null) {
+                return first.isAscending() ? index.iterator() : index.descendingIterator();
+            }
+        }
+        // No single index matches (e.g. sort=title,description): sort a snapshot.
+        // TodoPages.comparator throws IllegalArgumentException for unknown properties (400 INVALID_ARGUMENT).
+        logger.debug("No index for sort {}, sorting a snapshot of {} items", sort, count.sum());
+        List<TodoResponse> snapshot = new ArrayList<>(idIndex.values());
+        snapshot.sort(TodoPages.comparator(sort));
+        return snapshot.iterator();
+    }
+}
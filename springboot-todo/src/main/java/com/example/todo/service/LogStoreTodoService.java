@@ -0,0 +1,265 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoListResponse;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import com.example.todo.model.TodoEntity;
+import com.example.todo.repository.TodoLogStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * LogStoreTodoService class
+ * Persistent TodoService on top of TodoLogStore (memory-mapped, CRC-framed append log), so todos survive restarts
+ * without H2. Enable it with app.todo.store=log (or the 'log' profile, which also switches off the DataSource and JPA).
+ * <p>
+ * - getById and sort=id pages are served by the id index of the store, reading each todo from the mapped segment.
+ * - sort=title and sort=description pages walk a field index: a ConcurrentSkipListSet of (field value, id) keys,
+ *   the todos themselves stay in the log. A field index is built by one pass over the store the first time its sort
+ *   is requested (not at startup, so recovery stays fast), then kept up to date by createTodo.
+ * - Other sorts (several fields) fall back to sorting a snapshot, like InMemoryTodoService does.
+ * - Compaction runs on a background thread every app.todo.log.compaction-interval-seconds.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "log")
+public class LogStoreTodoService implements TodoService {
+
+    private final Logger logger = LoggerFactory.getLogger(LogStoreTodoService.class);
+
+    private final TodoLogStore store;
+    private final AtomicLong idSequence;
+    private final ScheduledExecutorService compactor;
+    private final Map<String, FieldIndex> fieldIndexes = Map.of(
+            "title", new FieldIndex(TodoEntity::getTitle),
+            "description", new FieldIndex(TodoEntity::getDescription));
+
+    public LogStoreTodoService(@Value("${app.todo.log.directory:./data/todo-log}") String directory,
+                               @Value("${app.todo.log.segment-size-mb:64}") int segmentSizeMb,
+                               @Value("${app.todo.log.force-on-write:false}") boolean forceOnWrite,
+                               @Value("${app.todo.log.verify-all-on-startup:false}") boolean verifyAll,
+                               @Value("${app.todo.log.compaction-interval-seconds:60}") long compactionIntervalSeconds,
+                               @Value("${app.todo.log.compaction-dead-ratio:0.5}") double deadRatio) throws IOException {
+        this.store = TodoLogStore.open(Path.of(directory), segmentSizeMb * 1024 * 1024, forceOnWrite, verifyAll);
+        // Ids continue after the highest id found during recovery
+        this.idSequence = new AtomicLong(store.maxId());
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "todo-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                store.compact(deadRatio);
+            } catch (RuntimeException e) {
+                logger.warn("Compaction of the todo log failed: {}", e.getMessage());
+            }
+        }, compactionIntervalSeconds, compactionIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Fetch all To-Do items, ordered by id
+     * @return List of TodoResponse
+     */
+    @Override
+    public TodoListResponse getAll() {
+        logger.info("Fetching all To-Do items");
+        List<TodoResponse> responses = snapshot();
+        return new TodoListResponse(responses.size(), responses);
+    }
+
+    /** Fetch paginated To-Do items, walking the id index when the sort allows it
+     * @param pageable Pageable object containing page number, size and sort
+     * @return Page of TodoResponse
+     */
+    @Override
+    public Page<TodoResponse> getAll(Pageable pageable) {
+        logger.info("Fetching paginated To-Do items, page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+        return TodoPages.page(ordered(pageable.getSort()), pageable, store.count());
+    }
+
+    /**
+     * Fetch a To-Do item by its ID
+     * @param id The ID of the To-Do item as a String
+     * @return Optional containing TodoResponse if found, else empty
+     */
+    @Override
+    public Optional<TodoResponse> getById(String id) {
+        logger.info("Fetching To-Do item by ID: {}", id);
+        try {
+            return store.find(Long.parseLong(id)).map(this::toResponse);
+        } catch (NumberFormatException e) {
+            logger.error("Invalid ID format: {}", id);
+            return Optional.empty();
+        }
+    }
+
+    /** Create a new To-Do item and append it to the log
+     * @param request The TodoRequest containing title and description
+     * @return The created TodoResponse
+     */
+    @Override
+    public TodoResponse createTodo(TodoRequest request) {
+        logger.info("Creating new To-Do item with title: {}", request.getTitle());
+        TodoEntity entity = new TodoEntity();
+        entity.setId(idSequence.incrementAndGet());
+        entity.setTitle(request.getTitle());
+        entity.setDescription(request.getDescription());
+        store.append(entity);
+        fieldIndexes.values().forEach(index -> index.add(entity));
+        logger.info("To-Do item created with ID: {}", entity.getId());
+        return toResponse(entity);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        compactor.shutdownNow();
+        try {
+            // A compaction does not stop on interrupt; let the running one finish before the segments are closed
+            if (!compactor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Log compaction still running, closing the store anyway (compaction stops at its next record)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        store.close();
+    }
+
+    // Iterator over all todos in the requested order.
+    // A sort on one field (optionally followed by id in the same direction) is served by the id or field index.
+    private Iterator<TodoResponse> ordered(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return byId(true);
+        }
+        Sort.Order first = orders.get(0);
+        boolean singleIndex = orders.size() == 1
+                || (orders.size() == 2 && "id".equals(orders.get(1).getProperty())
+                && orders.get(1).getDirection() == first.getDirection());
+        if (singleIndex) {
+            if ("id".equals(first.getProperty())) {
+                return byId(first.isAscending());
+            }
+            FieldIndex index = fieldIndexes.get(first.getProperty());
+            if (index != null) {
+                Iterator<SortKey> keys = index.keys(first.isAscending());
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public TodoResponse next() {
+                        return toResponse(store.find(keys.next().id()).orElseThrow());
+                    }
+                };
+            }
+        }
+        // No single index matches (e.g. sort=title,description): sort a snapshot.
+        // TodoPages.comparator throws IllegalArgumentException for unknown properties (400 INVALID_ARGUMENT)
+        logger.debug("No index for sort {}, sorting a snapshot of {} items", sort, store.count());
+        List<TodoResponse> snapshot = snapshot();
+        snapshot.sort(TodoPages.comparator(sort));
+        return snapshot.iterator();
+    }
+
+    private Iterator<TodoResponse> byId(boolean ascending) {
+        Iterator<TodoEntity> entities = store.iterator(ascending);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public TodoResponse next() {
+                return toResponse(entities.next());
+            }
+        };
+    }
+
+    private List<TodoResponse> snapshot() {
+        List<TodoResponse> responses = new ArrayList<>((int) Math.min(store.count(), Integer.MAX_VALUE));
+        store.iterator(true).forEachRemaining(entity -> responses.add(toResponse(entity)));
+        return responses;
+    }
+
+    private TodoResponse toResponse(TodoEntity entity) {
+        return new TodoResponse(entity.getId(), entity.getTitle(), entity.getDescription());
+    }
+
+    // Key of a field index: the value of the field and the id, in the order of TodoPages.comparator
+    private record SortKey(String value, long id) {
+    }
+
+    private static final Comparator<SortKey> SORT_KEY_ORDER = Comparator
+            .comparing(SortKey::value, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparingLong(SortKey::id);
+
+    // Index of one sortable field, built on first use
+    private final class FieldIndex {
+        private final Function<TodoEntity, String> field;
+        private final ConcurrentSkipListSet<SortKey> keys = new ConcurrentSkipListSet<>(SORT_KEY_ORDER);
+        // Set before the build walks the store, so todos created during the build are added by createTodo
+        private volatile boolean building;
+        private volatile boolean built;
+
+        private FieldIndex(Function<TodoEntity, String> field) {
+            this.field = field;
+        }
+
+        private void add(TodoEntity todo) {
+            if (building) {
+                keys.add(new SortKey(field.apply(todo), todo.getId()));
+            }
+        }
+
+        private Iterator<SortKey> keys(boolean ascending) {
+            if (!built) {
+                build();
+            }
+            return ascending ? keys.iterator() : keys.descendingIterator();
+        }
+
+        private synchronized void build() {
+            if (built) {
+                return;
+            }
+            long start = System.nanoTime();
+            building = true;
+            // Sorted first: inserting in key order is several times faster than in id order.
+            // Adding a todo twice (here and in createTodo) is harmless, the keys are a set
+            List<SortKey> sorted = new ArrayList<>((int) Math.min(store.count(), Integer.MAX_VALUE));
+            store.iterator(true).forEachRemaining(todo -> sorted.add(new SortKey(field.apply(todo), todo.getId())));
+            sorted.sort(SORT_KEY_ORDER);
+            keys.addAll(sorted);
+            built = true;
+            logger.info("Built sort index of {} keys in {} ms", sorted.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.todo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight class
+ * Request coalescing: concurrent calls with the same key share one execution of the loader and its result
+ * (or its exception). The first caller runs the loader in its own thread, the others wait for it.
+ * Nothing is cached: once the loader returns, the next call for the key runs it again.
+ * Used by TodoServiceImpl so that a thundering herd on one popular todo costs one findById instead of hundreds.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public final class SingleFlight<K, V> {
+
+    private final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final String name;
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Run the loader for the key, or wait for the execution already in flight for that key
+     * @param key The key, e.g. the id of the todo
+     * @param loader Loads the value, only called when no execution for the key is in flight
+     * @return The value returned by the loader
+     */
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        Flight<V> flight = new Flight<>();
+        Flight<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            existing.waiters.incrementAndGet();
+            return join(existing.result);
+        }
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            int waiters = flight.waiters.get();
+            if (waiters > 0) {
+                logger.debug("[{}] {} concurrent request(s) coalesced onto the load of {}", name, waiters, key);
+            }
+        }
+    }
+
+    /** Number of calls to execute */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /** Number of calls that waited for an execution in flight instead of running the loader */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    // Rethrow what the loader threw, not the CompletionException wrapping it
+    private static <V> V join(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.BatchOperation;
+import com.example.todo.dto.BatchOperationResult;
+import com.example.todo.dto.BatchRequest;
+import com.example.todo.dto.BatchResponse;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import com.example.todo.exception.ApiErrorResponse;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.exception.ServiceOverloadedException;
+import com.example.todo.limiter.AdaptiveConcurrencyLimiter;
+import com.example.todo.model.TodoEntity;
+import com.example.todo.tenant.TenantContext;
+import com.example.todo.tenant.TenantInterceptor;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TodoBatchService class
+ * Executes the operations of POST /api/todos/_batch (create, get, page) and reports a status per operation.
+ * - Operations run in request order as far as the client can observe: a create is a barrier, the reads
+ *   after it see it. Consecutive reads (get, page) do not depend on each other and run in parallel, at most
+ *   app.batch.parallelism at a time per batch, on a shared pool of app.batch.threads threads (the request
+ *   thread takes part, so a batch makes progress even when the pool is busy).
+ * - Each pool thread a batch uses takes a slot of the read limiter and of the tenant's quota, like a request of
+ *   its own: the batch request only holds one slot. Without free slots the request thread runs the reads alone.
+ * - create bodies are validated (TodoRequest constraints) and page sizes are capped at
+ *   spring.data.web.pageable.max-page-size (2000), like /paginated.
+ * - A get can refer to the todo created by an earlier operation with id "$n" (n = index of the create).
+ * - Non-transactional batches: every operation stands alone, a failure does not stop the others.
+ * - Transactional batches run sequentially on the request thread in one transaction (the transaction is bound
+ *   to the thread). The first failure rolls everything back; the operations after it are not executed (424).
+ *   Needs the JPA store.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+public class TodoBatchService {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoBatchService.class);
+
+    private static final String CREATE = "create";
+    private static final String GET = "get";
+    private static final String PAGE = "page";
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final TodoService todoService;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ObjectProvider<TodoCountCache> countCache;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> readLimiter;
+    private final ObjectProvider<TenantInterceptor> tenantQuota;
+    private final Validator validator;
+    private final int maxOperations;
+    private final int parallelism;
+    private final int maxPageSize;
+    private final ExecutorService executor;
+
+    public TodoBatchService(TodoService todoService,
+                            ObjectProvider<PlatformTransactionManager> transactionManager,
+                            ObjectProvider<TodoCountCache> countCache,
+                            @Qualifier("readConcurrencyLimiter") ObjectProvider<AdaptiveConcurrencyLimiter> readLimiter,
+                            ObjectProvider<TenantInterceptor> tenantQuota,
+                            Validator validator,
+                            @Value("${app.batch.max-operations:50}") int maxOperations,
+                            @Value("${app.batch.parallelism:4}") int parallelism,
+                            @Value("${app.batch.threads:16}") int threads,
+                            @Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
+        this.todoService = todoService;
+        this.transactionManager = transactionManager;
+        this.countCache = countCache;
+        this.readLimiter = readLimiter;
+        this.tenantQuota = tenantQuota;
+        this.validator = validator;
+        this.maxOperations = maxOperations;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxPageSize = maxPageSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Queue full: the request thread runs the task itself
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(threads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "todo-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Execute a batch
+     * @param request The operations
+     * @return One result per operation, in request order
+     * @throws IllegalArgumentException when the batch is empty, too large, or transactional without a database
+     */
+    public BatchResponse execute(BatchRequest request) {
+        List<BatchOperation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("A batch needs at least one operation");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("Too many operations in one batch: " + operations.size() + " (max " + maxOperations + ")");
+        }
+        long startNanos = System.nanoTime();
+        BatchOperationResult[] results = new BatchOperationResult[operations.size()];
+        boolean rolledBack = request.isTransactional()
+                ? executeInTransaction(operations, results)
+                : executeIndependently(operations, results);
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        logger.info("Batch of {} operations executed in {} ms (transactional={}, rolledBack={})",
+                operations.size(), durationMs, request.isTransactional(), rolledBack);
+        return new BatchResponse(Arrays.asList(results), rolledBack, durationMs);
+    }
+
+    private boolean executeIndependently(List<BatchOperation> operations, BatchOperationResult[] results) {
+        int from = 0;
+        while (from < operations.size()) {
+            if (CREATE.equals(operations.get(from).getOp())) {
+                results[from] = run(from, operations.get(from), results);
+                from++;
+                continue;
+            }
+            // Run of reads up to the next create
+            int to = from + 1;
+            while (to < operations.size() && !CREATE.equals(operations.get(to).getOp())) {
+                to++;
+            }
+            runParallel(operations, from, to, results);
+            from = to;
+        }
+        return false;
+    }
+
+    private void runParallel(List<BatchOperation> operations, int from, int to, BatchOperationResult[] results) {
+        AtomicInteger next = new AtomicInteger(from);
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < to) {
+                results[index] = run(index, operations.get(index), results);
+            }
+        };
+        int helpers = Math.min(parallelism, to - from) - 1;
+        List<Future<?>> futures = new ArrayList<>(helpers);
+        // The pool threads run the reads as the tenant of the request
+        String tenant = TenantContext.current();
+        AdaptiveConcurrencyLimiter limiter = readLimiter.getIfAvailable();
+        TenantInterceptor quota = tenantQuota.getIfAvailable();
+        for (int i = 0; i < helpers; i++) {
+            // A helper counts as a request of its own: no free slot, no helper
+            if (quota != null && !quota.tryAcquire(tenant)) {
+                break;
+            }
+            if (limiter != null && !limiter.tryAcquire()) {
+                if (quota != null) {
+                    quota.release(tenant);
+                }
+                break;
+            }
+            long startNanos = System.nanoTime();
+            futures.add(executor.submit(() -> {
+                try {
+                    TenantContext.run(tenant, worker);
+                } finally {
+                    if (limiter != null) {
+                        limiter.release(startNanos, false);
+                    }
+                    if (quota != null) {
+                        quota.release(tenant);
+                    }
+                }
+            }));
+        }
+        if (futures.size() < helpers) {
+            logger.debug("Batch reads run on {} of {} helper threads, no free limiter or quota slot", futures.size(), helpers);
+        }
+        worker.run();
+        // Also makes the results written by the helpers visible to this thread
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch operations", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Batch worker failed", e.getCause());
+            }
+        }
+    }
+
+    private boolean executeInTransaction(List<BatchOperation> operations, BatchOperationResult[] results) {
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        if (manager == null) {
+            throw new IllegalArgumentException("Transactional batches are not supported by this todo store");
+        }
+        try {
+            new TransactionTemplate(manager).executeWithoutResult(status -> {
+                for (int i = 0; i < operations.size(); i++) {
+                    results[i] = run(i, operations.get(i), results);
+                    if (!results[i].isSuccessful()) {
+                        throw new BatchFailedException();
+                    }
+                }
+            });
+            return false;
+        } catch (BatchFailedException e) {
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    results[i] = failure(i, operations.get(i).getOp(), HttpStatus.FAILED_DEPENDENCY, "NOT_EXECUTED",
+                            "Not executed, an earlier operation of the transactional batch failed");
+                }
+            }
+            // createTodo already counted the rows that were just rolled back
+            countCache.ifAvailable(TodoCountCache::invalidate);
+            return true;
+        }
+    }
+
+    // Never throws: a failing operation becomes a result with the status of the equivalent single request
+    private BatchOperationResult run(int index, BatchOperation operation, BatchOperationResult[] results) {
+        String op = operation.getOp();
+        try {
+            if (CREATE.equals(op)) {
+                if (operation.getBody() == null) {
+                    throw new IllegalArgumentException("Operation " + index + ": create needs a body");
+                }
+                Set<ConstraintViolation<TodoRequest>> violations = validator.validate(operation.getBody());
+                if (!violations.isEmpty()) {
+                    return failure(index, op, HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Operation " + index + ": "
+                            + String.join("; ", violations.stream().map(ConstraintViolation::getMessage).sorted().toList()));
+                }
+                return new BatchOperationResult(index, op, HttpStatus.CREATED.value(), todoService.createTodo(operation.getBody()), null);
+            }
+            if (GET.equals(op)) {
+                String id = resolveId(index, operation.getId(), results);
+                TodoResponse todo = todoService.getById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("To-Do item not found with ID: " + id));
+                return new BatchOperationResult(index, op, HttpStatus.OK.value(), todo, null);
+            }
+            if (PAGE.equals(op)) {
+                int page = operation.getPage() == null ? 0 : operation.getPage();
+                int size = operation.getSize() == null ? DEFAULT_PAGE_SIZE : operation.getSize();
+                if (page < 0 || size < 1) {
+                    throw new IllegalArgumentException("Operation " + index + ": page must be >= 0 and size >= 1");
+                }
+                // Larger sizes are capped, like Spring Data does for the Pageable of /paginated
+                size = Math.min(size, maxPageSize);
+                PageRequest pageable = PageRequest.of(page, size, parseSort(operation.getSort()));
+                return new BatchOperationResult(index, op, HttpStatus.OK.value(), todoService.getAll(pageable), null);
+            }
+            throw new IllegalArgumentException("Operation " + index + ": unknown op '" + op + "' (expected create, get or page)");
+        } catch (IllegalArgumentException e) {
+            return failure(index, op, HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT", e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return failure(index, op, HttpStatus.NOT_FOUND, "NOT_FOUND", e.getMessage());
+        } catch (DependencyFailedException e) {
+            return failure(index, op, HttpStatus.FAILED_DEPENDENCY, "DEPENDENCY_FAILED", e.getMessage());
+        } catch (ServiceOverloadedException e) {
+            return failure(index, op, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_OVERLOADED", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Batch operation {} ({}) failed", index, op, e);
+            return failure(index, op, HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "Operation failed");
+        }
+    }
+
+    // "$n" -> id of the todo created by operation n (an earlier create, so already finished)
+    private static String resolveId(int index, String id, BatchOperationResult[] results) {
+        if (id == null || !id.startsWith("$")) {
+            return id;
+        }
+        int reference;
+        try {
+            reference = Integer.parseInt(id.substring(1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Operation " + index + ": invalid reference " + id);
+        }
+        if (reference < 0 || reference >= index || !CREATE.equals(results[reference] == null ? null : results[reference].getOp())) {
+            throw new IllegalArgumentException("Operation " + index + ": " + id + " must refer to an earlier create");
+        }
+        if (!results[reference].isSuccessful()) {
+            throw new DependencyFailedException("Operation " + index + ": operation " + reference + " failed");
+        }
+        return String.valueOf(((TodoResponse) results[reference].getBody()).getId());
+    }
+
+    // Same allow-list as TodoController: only indexed fields
+    private static Sort parseSort(List<String> sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Sort.by("id").ascending();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String value : sort) {
+            String[] parts = value.split(",");
+            String property = parts[0].trim();
+            if (!TodoEntity.SORTABLE_FIELDS.contains(property)) {
+                throw new IllegalArgumentException("Unsupported sort property: " + property
+                        + " (allowed: " + String.join(", ", new TreeSet<>(TodoEntity.SORTABLE_FIELDS)) + ")");
+            }
+            boolean descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+            orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
+        }
+        return Sort.by(orders);
+    }
+
+    private static BatchOperationResult failure(int index, String op, HttpStatus status, String code, String message) {
+        return new BatchOperationResult(index, op, status.value(), null,
+                new ApiErrorResponse(code, message, status.value(), LocalDateTime.now()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Rolls back the transaction of a transactional batch; the failing result is already recorded
+    private static final class BatchFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private BatchFailedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class DependencyFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private DependencyFailedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.todo.service;
+
+import com.example.todo.cache.InvalidationBus;
+import com.example.todo.cache.InvalidationListener;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TodoCountCache class
+ * Number of todos per tenant, kept in memory so /paginated and /paginatedV2 do not need a
+ * SELECT COUNT(*) per request just to fill X-Total-Count and X-Total-Pages.
+ * All methods work on the tenant of the current thread (TenantContext), whose rows repository.count() counts.
+ * - Loaded with one COUNT(*) on first use (after the startup runners, which insert rows behind JPA's back).
+ * - Adjusted in place by TodoServiceImpl.createTodo and the bulk import.
+ * - Recounted from the database when older than app.todo.count.staleness-ms, so rows written by other
+ *   instances (multi-node setups) show up within that bound. 0 or less means never recount (single node).
+ *   Only one thread recounts, the others keep using the current value meanwhile.
+ * - invalidate() forces a recount of every tenant on next use, for bulk changes like a snapshot restore.
+ * - At most app.todo.count.max-tenants tenants are kept: when a new tenant goes over it, the least recently used
+ *   tenth of the counts is dropped (those tenants are counted again on next use). Any valid X-Client-Id creates
+ *   an entry, so without the bound the map would only grow while the bus is off.
+ * - With app.cache.invalidation.enabled=true, every local change is published on the InvalidationBus (key:
+ *   the tenant) and the other nodes recount that tenant on next use, instead of waiting for the staleness bound.
+ * A row inserted while a recount is running may be missed until the next recount; the value is a
+ * header for clients, not something to rely on for correctness.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Component
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class TodoCountCache {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoCountCache.class);
+
+    /** Name of this cache on the InvalidationBus */
+    public static final String CACHE_NAME = "todo-count";
+
+    private static final long NOT_LOADED = -1;
+
+    private final TodoRepository repository;
+    private final long stalenessNanos;
+    private final int maxTenants;
+    // Bounded by maxTenants (evictLeastRecentlyUsed), also emptied by invalidation
+    private final ConcurrentMap<String, TenantCount> counts = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private InvalidationBus invalidationBus;
+
+    public TodoCountCache(TodoRepository repository, @Value("${app.todo.count.staleness-ms:5000}") long stalenessMs,
+                          @Value("${app.todo.count.max-tenants:10000}") int maxTenants) {
+        this.repository = repository;
+        this.stalenessNanos = stalenessMs * 1_000_000;
+        this.maxTenants = Math.max(1, maxTenants);
+    }
+
+    @Autowired(required = false)
+    void setInvalidationBus(InvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, new InvalidationListener() {
+            @Override
+            public void invalidate(Set<String> tenants) {
+                tenants.forEach(counts::remove);
+            }
+
+            @Override
+            public void invalidateAll() {
+                counts.clear();
+            }
+        });
+    }
+
+    /** Current number of todos of the current tenant, counted from the database only on first use or when stale */
+    public long get() {
+        String tenant = TenantContext.current();
+        TenantCount tenantCount = counts.get(tenant);
+        if (tenantCount == null) {
+            tenantCount = counts.computeIfAbsent(tenant, key -> new TenantCount());
+            if (counts.size() > maxTenants) {
+                evictLeastRecentlyUsed();
+            }
+        }
+        tenantCount.usedAtNanos = System.nanoTime();
+        long current = tenantCount.count.get();
+        if (current == NOT_LOADED) {
+            // Nothing to return yet: wait for the thread that loads it
+            tenantCount.recountLock.lock();
+            try {
+                if (tenantCount.count.get() == NOT_LOADED) {
+                    recount(tenantCount);
+                }
+            } finally {
+                tenantCount.recountLock.unlock();
+            }
+            return tenantCount.count.get();
+        }
+        if (stalenessNanos > 0 && System.nanoTime() - tenantCount.loadedAtNanos > stalenessNanos
+                && tenantCount.recountLock.tryLock()) {
+            try {
+                recount(tenantCount);
+            } finally {
+                tenantCount.recountLock.unlock();
+            }
+            return tenantCount.count.get();
+        }
+        return current;
+    }
+
+    /**
+     * Adjust the count of the current tenant after rows were inserted (positive) or deleted (negative) by this instance
+     * @param delta Number of rows added
+     */
+    public void add(long delta) {
+        String tenant = TenantContext.current();
+        TenantCount tenantCount = counts.get(tenant);
+        // Not loaded yet: the first get() counts them anyway
+        if (tenantCount != null) {
+            tenantCount.count.getAndUpdate(current -> current == NOT_LOADED ? NOT_LOADED : current + delta);
+        }
+        // The other nodes' counts are wrong now (coalesced by the bus: one message per flush interval)
+        if (invalidationBus != null) {
+            invalidationBus.publish(CACHE_NAME, tenant);
+        }
+    }
+
+    /** Number of tenants whose count is kept */
+    int size() {
+        return counts.size();
+    }
+
+    /** Forget the counts of all tenants, the next get() counts the rows again */
+    public void invalidate() {
+        counts.clear();
+        if (invalidationBus != null) {
+            invalidationBus.publishAll(CACHE_NAME);
+        }
+    }
+
+    // Drop the least recently used tenth, so a stream of new tenants sorts the map once per maxTenants / 10 of them.
+    // Only one thread evicts, the others may go a little over maxTenants meanwhile.
+    private void evictLeastRecentlyUsed() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = counts.size() - maxTenants;
+            if (excess <= 0) {
+                return;
+            }
+            int toEvict = Math.max(excess, maxTenants / 10);
+            counts.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().usedAtNanos))
+                    .limit(toEvict)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(counts::remove);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recount(TenantCount tenantCount) {
+        long counted = repository.count();
+        tenantCount.count.set(counted);
+        tenantCount.loadedAtNanos = System.nanoTime();
+        logger.debug("Counted {} todos for tenant {}", counted, TenantContext.current());
+    }
+
+    private static final class TenantCount {
+        private final AtomicLong count = new AtomicLong(NOT_LOADED);
+        private final ReentrantLock recountLock = new ReentrantLock();
+        private volatile long loadedAtNanos;
+        private volatile long usedAtNanos = System.nanoTime();
+    }
+}
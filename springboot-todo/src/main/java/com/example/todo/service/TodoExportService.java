@@ -0,0 +1,206 @@
+package com.example.todo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * TodoExportService class
+ * Writes all todos as CSV (id,title,description, RFC 4180 quoting, UTF-8) to an output stream in constant memory:
+ * - a forward-only, read-only JDBC cursor with a large fetch size, in H2's lazy query execution mode, so H2
+ *   produces the rows while they are read instead of building the whole result first
+ * - each row is encoded straight into one reused byte buffer, which is flushed to the stream when full
+ * JPA store only (app.todo.store=jpa), the rows are read from the H2 todos table.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class TodoExportService {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoExportService.class);
+
+    private static final String SELECT_SQL = "SELECT id, title, description FROM todos WHERE tenant_id = ? ORDER BY tenant_id, id";
+    private static final byte[] HEADER = "id,title,description\r\n".getBytes();
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TodoExportService(JdbcTemplate jdbcTemplate, @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Write all todos of a tenant as CSV, ordered by id
+     * (ORDER BY tenant_id, id to match the idx_todos_tenant_id index: read presorted, nothing to sort before the first row)
+     * @param tenant The tenant, passed explicitly because the CSV is written on an async thread
+     * @param out Stream to write to; flushed, but not closed
+     * @return Number of rows written
+     */
+    public long writeCsv(String tenant, OutputStream out) {
+        long start = System.nanoTime();
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            setLazyQueryExecution(connection, true);
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setString(1, tenant);
+                statement.setFetchSize(fetchSize);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return write(resultSet, new CsvBuffer(out));
+                }
+            } finally {
+                // The connection goes back to the pool, do not leave the session setting behind
+                setLazyQueryExecution(connection, false);
+            }
+        });
+        long count = rows == null ? 0 : rows;
+        logger.info("Exported {} todos of tenant {} as CSV in {} ms", count, tenant, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static long write(ResultSet resultSet, CsvBuffer csv) throws SQLException {
+        long rows = 0;
+        try {
+            csv.raw(HEADER);
+            while (resultSet.next()) {
+                csv.number(resultSet.getLong(1));
+                csv.separator();
+                csv.field(resultSet.getString(2));
+                csv.separator();
+                csv.field(resultSet.getString(3));
+                csv.endOfRow();
+                rows++;
+            }
+            csv.flush();
+        } catch (IOException e) {
+            // Typically the client went away in the middle of the download
+            throw new UncheckedIOException("CSV export aborted after " + rows + " rows", e);
+        }
+        return rows;
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + enabled);
+        }
+    }
+
+    // Fixed-size output buffer with CSV escaping and UTF-8 encoding done in place, no String or byte[] per row
+    private static final class CsvBuffer {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+        private int position;
+
+        private CsvBuffer(OutputStream out) {
+            this.out = out;
+        }
+
+        private void raw(byte[] bytes) throws IOException {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void number(long value) throws IOException {
+            // Long.MIN_VALUE has 20 characters
+            ensure(20);
+            String digits = Long.toString(value);
+            for (int i = 0; i < digits.length(); i++) {
+                buffer[position++] = (byte) digits.charAt(i);
+            }
+        }
+
+        private void separator() throws IOException {
+            ensure(1);
+            buffer[position++] = ',';
+        }
+
+        private void endOfRow() throws IOException {
+            ensure(2);
+            buffer[position++] = '\r';
+            buffer[position++] = '\n';
+        }
+
+        // An empty field stands for null; fields with a separator, quote or line break are quoted
+        private void field(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quoted = needsQuotes(value);
+            if (quoted) {
+                ensure(1);
+                buffer[position++] = '"';
+            }
+            for (int i = 0; i < value.length(); i++) {
+                // Room for the longest encoding: a 4-byte UTF-8 sequence
+                ensure(4);
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"') {
+                        buffer[position++] = '"';
+                    }
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate, encoded as '?' like String.getBytes does
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            if (quoted) {
+                ensure(1);
+                buffer[position++] = '"';
+            }
+        }
+
+        private static boolean needsQuotes(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        private void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+            out.flush();
+        }
+    }
+}
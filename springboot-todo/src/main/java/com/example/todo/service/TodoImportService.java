@@ -0,0 +1,470 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.ImportResponse;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.model.TimeOrderedIdGenerator;
+import com.example.todo.tenant.TenantContext;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * TodoImportService class
+ * Streams a CSV or NDJSON file into the todos table, for migrations that would otherwise go through
+ * POST /api/todos/create one request at a time.
+ * - The file is read line by line through ImportLineReader (FileChannel + one reusable buffer), never as a whole.
+ * - CSV: the first line is the header, with a 'title' column and an optional 'description' column (any order).
+ *   Quoted fields ("a, ""b""") are supported, quoted fields spanning several lines are not. Records are split
+ *   straight from the line bytes and only the title and description fields are decoded to Strings.
+ * - NDJSON (.ndjson, .jsonl): one object per line, {"title": "...", "description": "..."}, parsed with the
+ *   Jackson streaming parser straight from the line bytes.
+ * - Invalid records (no title, too long, malformed line) are counted and skipped; the first ones are logged.
+ * - Valid records are inserted with JdbcTemplate batches, one transaction per batch (app.import.batch-size).
+ * - After each committed batch the byte offset is saved to <file>.checkpoint, so an interrupted import resumes
+ *   from there instead of from the beginning. A batch committed right before a crash, but not yet checkpointed,
+ *   is imported again on resume (at-least-once). The checkpoint is deleted when the import completes.
+ * JPA store only (app.todo.store=jpa), the rows go straight into the H2 todos table, for the tenant of the
+ * calling thread (X-Client-Id of the admin request, or the default tenant for TodoImportRunner).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
+public class TodoImportService {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoImportService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO todos (id, tenant_id, title, description) VALUES (?, ?, ?, ?)";
+    // Hibernate generates VARCHAR(255) for the String columns of TodoEntity
+    private static final int MAX_LENGTH = 255;
+    private static final int READ_BUFFER_BYTES = 1024 * 1024;
+    private static final long PROGRESS_INTERVAL_NANOS = 2_000_000_000L;
+    private static final int LOGGED_REJECTIONS = 10;
+
+    private enum Format { CSV, NDJSON }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoCountCache countCache;
+    // Same generator (and sequence) as the JPA inserts of this node, see TimeOrderedIdentifierGenerator
+    private final TimeOrderedIdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final Path importDirectory;
+    private final int batchSize;
+
+    public TodoImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             TodoCountCache countCache,
+                             ObjectMapper objectMapper,
+                             @Value("${app.import.directory:./data/import}") String importDirectory,
+                             @Value("${app.import.batch-size:1000}") int batchSize,
+                             @Value("${app.todo.id.node-id:0}") int nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countCache = countCache;
+        this.idGenerator = TimeOrderedIdGenerator.forNode(nodeId);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonFactory = objectMapper.getFactory();
+        this.importDirectory = Path.of(importDirectory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Resolve a file name received by the admin endpoint; only files inside app.import.directory can be imported
+     * @param name File name, relative to the import directory
+     * @return The absolute path of the file
+     */
+    public Path resolve(String name) {
+        Path file = importDirectory.resolve(name).normalize();
+        if (!file.startsWith(importDirectory)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory: " + name);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Import file not found: " + name);
+        }
+        return file;
+    }
+
+    /**
+     * Import a CSV or NDJSON file
+     * @param file The file to import
+     * @param resume Continue from the checkpoint of a previous, interrupted import of this file (if any)
+     * @return Summary of the import
+     */
+    public ImportResponse importFile(Path file, boolean resume) {
+        Format format = format(file);
+        Path checkpointFile = file.resolveSibling(file.getFileName() + ".checkpoint");
+        try {
+            Checkpoint checkpoint = resume ? Checkpoint.read(checkpointFile) : new Checkpoint(0, 0, 0, 0);
+            if (checkpoint.offset > 0) {
+                logger.info("Resuming import of {} at byte {} (line {}), {} rows already imported",
+                        file, checkpoint.offset, checkpoint.line, checkpoint.imported);
+            }
+            ImportResponse response = run(file, format, checkpoint, checkpointFile);
+            Files.deleteIfExists(checkpointFile);
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Import of " + file + " failed", e);
+        }
+    }
+
+    private ImportResponse run(Path file, Format format, Checkpoint checkpoint, Path checkpointFile) throws IOException {
+        long startNanos = System.nanoTime();
+        long fileSize = Files.size(file);
+        long offset = checkpoint.offset;
+        long line = checkpoint.line;
+        long imported = checkpoint.imported;
+        long rejected = checkpoint.rejected;
+
+        int[] columns = null;
+        if (format == Format.CSV) {
+            // The header is needed even when resuming in the middle of the file
+            try (ImportLineReader reader = new ImportLineReader(file, 0, READ_BUFFER_BYTES)) {
+                if (!reader.next()) {
+                    throw new IllegalArgumentException("CSV file is empty: " + file.getFileName());
+                }
+                columns = csvColumns(decode(reader));
+                if (offset < reader.offsetAfterLine()) {
+                    offset = reader.offsetAfterLine();
+                    line = 1;
+                }
+            }
+        }
+
+        long resumedFrom = checkpoint.offset;
+        long importedThisRun = 0;
+        long nextProgress = startNanos + PROGRESS_INTERVAL_NANOS;
+        Batch batch = new Batch(batchSize, TenantContext.current());
+        CsvField field = new CsvField();
+        try (ImportLineReader reader = new ImportLineReader(file, offset, READ_BUFFER_BYTES)) {
+            while (reader.next()) {
+                line++;
+                if (reader.lineLength() == 0) {
+                    continue;
+                }
+                String[] record = format == Format.CSV ? csvRecord(reader, columns, field) : jsonRecord(reader);
+                String error = record == null ? "malformed " + format + " record" : validate(record[0], record[1]);
+                if (error != null) {
+                    if (rejected++ < LOGGED_REJECTIONS) {
+                        logger.warn("Rejected line {} of {}: {}{}", line, file.getFileName(), error,
+                                rejected == LOGGED_REJECTIONS ? " (further rejected lines are only counted)" : "");
+                    }
+                } else {
+                    batch.add(idGenerator.nextId(), record[0], record[1]);
+                }
+                if (batch.size == batchSize) {
+                    importedThisRun += insert(batch);
+                    new Checkpoint(reader.offsetAfterLine(), line, imported + importedThisRun, rejected).write(checkpointFile);
+                    if (System.nanoTime() >= nextProgress) {
+                        nextProgress = System.nanoTime() + PROGRESS_INTERVAL_NANOS;
+                        logger.info("Import of {}: {} rows imported, {} rejected, {}% of the file, {} rows/s",
+                                file.getFileName(), imported + importedThisRun, rejected,
+                                fileSize == 0 ? 100 : reader.offsetAfterLine() * 100 / fileSize,
+                                rowsPerSecond(importedThisRun, System.nanoTime() - startNanos));
+                    }
+                }
+            }
+        }
+        importedThisRun += insert(batch);
+
+        long durationNanos = System.nanoTime() - startNanos;
+        long rowsPerSecond = rowsPerSecond(importedThisRun, durationNanos);
+        logger.info("Import of {} complete: {} rows imported ({} in this run), {} rejected, in {} ms, {} rows/s",
+                file.getFileName(), imported + importedThisRun, importedThisRun, rejected, durationNanos / 1_000_000, rowsPerSecond);
+        return new ImportResponse(file.toString(), imported + importedThisRun, rejected, resumedFrom,
+                durationNanos / 1_000_000, rowsPerSecond);
+    }
+
+    // Insert one batch in its own transaction and empty it
+    private int insert(Batch batch) {
+        if (batch.size == 0) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+        int inserted = batch.size;
+        countCache.add(inserted);
+        batch.size = 0;
+        return inserted;
+    }
+
+    private static String validate(String title, String description) {
+        if (title == null || title.isBlank()) {
+            return "title is missing";
+        }
+        if (title.length() > MAX_LENGTH) {
+            return "title longer than " + MAX_LENGTH + " characters";
+        }
+        if (description != null && description.length() > MAX_LENGTH) {
+            return "description longer than " + MAX_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    // ---------------------------------------------------------------- CSV
+
+    // Positions of the title and description columns in the header (description is optional, -1 if absent)
+    private static int[] csvColumns(String header) {
+        List<String> names = new ArrayList<>();
+        // Spreadsheet exports often start with a UTF-8 byte order mark
+        if (parseCsv(header.startsWith("\uFEFF") ? header.substring(1) : header, names) == null) {
+            throw new IllegalArgumentException("Malformed CSV header: " + header);
+        }
+        int title = -1;
+        int description = -1;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (name.equals("title")) {
+                title = i;
+            } else if (name.equals("description")) {
+                description = i;
+            }
+        }
+        if (title < 0) {
+            throw new IllegalArgumentException("CSV header must contain a 'title' column: " + header);
+        }
+        return new int[]{title, description};
+    }
+
+    // Title and description of the current line, same rules as parseCsv but on the line bytes: ',' and '"' are ASCII
+    // and never part of a multi-byte UTF-8 character, so the other columns are skipped without being decoded.
+    // Returns null for an unterminated quoted field or a line without the title column
+    private static String[] csvRecord(ImportLineReader reader, int[] columns, CsvField field) {
+        byte[] bytes = reader.bytes();
+        int end = reader.lineStart() + reader.lineLength();
+        String title = null;
+        String description = null;
+        int column = 0;
+        boolean wanted = column == columns[0] || column == columns[1];
+        boolean quoted = false;
+        field.length = 0;
+        for (int i = reader.lineStart(); i < end; i++) {
+            byte b = bytes[i];
+            if (quoted) {
+                if (b != '"') {
+                    if (wanted) {
+                        field.append(b);
+                    }
+                } else if (i + 1 < end && bytes[i + 1] == '"') {
+                    if (wanted) {
+                        field.append(b);
+                    }
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (b == '"') {
+                quoted = true;
+            } else if (b == ',') {
+                if (column == columns[0]) {
+                    title = field.decode();
+                } else if (column == columns[1]) {
+                    description = field.decode();
+                }
+                column++;
+                wanted = column == columns[0] || column == columns[1];
+                field.length = 0;
+            } else if (wanted) {
+                field.append(b);
+            }
+        }
+        if (quoted || column < columns[0]) {
+            return null;
+        }
+        if (column == columns[0]) {
+            title = field.decode();
+        } else if (column == columns[1]) {
+            description = field.decode();
+        }
+        return new String[]{title, description == null || description.isEmpty() ? null : description};
+    }
+
+    // Split one CSV line into fields (the header); returns null for an unterminated quoted field
+    private static List<String> parseCsv(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ---------------------------------------------------------------- NDJSON
+
+    private String[] jsonRecord(ImportLineReader reader) {
+        try (JsonParser parser = jsonFactory.createParser(reader.bytes(), reader.lineStart(), reader.lineLength())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String title = null;
+            String description = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!value.isScalarValue()) {
+                    // Nested objects/arrays are ignored (and make title/description invalid)
+                    parser.skipChildren();
+                } else if ("title".equals(name)) {
+                    title = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                } else if ("description".equals(name)) {
+                    description = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                }
+            }
+            return new String[]{title, description};
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String decode(ImportLineReader reader) {
+        return new String(reader.bytes(), reader.lineStart(), reader.lineLength(), StandardCharsets.UTF_8);
+    }
+
+    private static Format format(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return Format.NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file (expected .csv, .ndjson or .jsonl): " + file.getFileName());
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos <= 0 ? rows : rows * 1_000_000_000L / nanos;
+    }
+
+    // Bytes of the CSV field being read (quotes removed), reused from one field and line to the next
+    private static final class CsvField {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        private void append(byte b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+            bytes[length++] = b;
+        }
+
+        private String decode() {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    // Rows of the current batch, reused from one batch to the next
+    private static final class Batch implements BatchPreparedStatementSetter {
+        private final String tenant;
+        private final long[] ids;
+        private final String[] titles;
+        private final String[] descriptions;
+        private int size;
+
+        private Batch(int capacity, String tenant) {
+            this.tenant = tenant;
+            this.ids = new long[capacity];
+            this.titles = new String[capacity];
+            this.descriptions = new String[capacity];
+        }
+
+        private void add(long id, String title, String description) {
+            ids[size] = id;
+            titles[size] = title;
+            descriptions[size] = description;
+            size++;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, ids[i]);
+            ps.setString(2, tenant);
+            ps.setString(3, titles[i]);
+            ps.setString(4, descriptions[i]);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return size;
+        }
+    }
+
+    // Position in the file after the last committed batch, with the counters at that point
+    private record Checkpoint(long offset, long line, long imported, long rejected) {
+
+        private static Checkpoint read(Path file) throws IOException {
+            if (!Files.isRegularFile(file)) {
+                return new Checkpoint(0, 0, 0, 0);
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+            return new Checkpoint(
+                    Long.parseLong(properties.getProperty("offset", "0")),
+                    Long.parseLong(properties.getProperty("line", "0")),
+                    Long.parseLong(properties.getProperty("imported", "0")),
+                    Long.parseLong(properties.getProperty("rejected", "0")));
+        }
+
+        // Written to a temp file and moved, so a crash never leaves a half-written checkpoint
+        private void write(Path file) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("offset", Long.toString(offset));
+            properties.setProperty("line", Long.toString(line));
+            properties.setProperty("imported", Long.toString(imported));
+            properties.setProperty("rejected", Long.toString(rejected));
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                properties.store(writer, "Import checkpoint");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
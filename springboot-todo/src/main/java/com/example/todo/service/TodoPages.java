@@ -0,0 +1,80 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * TodoPages class
+ * Helpers shared by the TodoService implementations that do not sit on top of JPA:
+ * cutting a page out of an ordered iteration, and turning a Spring Data Sort into a Comparator.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+final class TodoPages {
+
+    private TodoPages() {
+    }
+
+    /**
+     * Skip to the page offset and collect one page of items.
+     * The iterator must already be in the requested order, so only offset + size items are visited.
+     * @param ordered Items in the requested order
+     * @param pageable Page number and size
+     * @param total Total number of items (for the page metadata)
+     * @return The requested page
+     */
+    static Page<TodoResponse> page(Iterator<TodoResponse> ordered, Pageable pageable, long total) {
+        List<TodoResponse> content = new ArrayList<>();
+        if (pageable.isUnpaged()) {
+            ordered.forEachRemaining(content::add);
+            return new PageImpl<>(content, pageable, total);
+        }
+        long toSkip = pageable.getOffset();
+        while (toSkip > 0 && ordered.hasNext()) {
+            ordered.next();
+            toSkip--;
+        }
+        while (content.size() < pageable.getPageSize() && ordered.hasNext()) {
+            content.add(ordered.next());
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Comparator for a Sort on the TodoResponse fields (id, title, description).
+     * Nulls sort first and the id is always used as the final tie-breaker, so the order is stable.
+     * @param sort The requested sort
+     * @return The comparator
+     * @throws IllegalArgumentException if the sort uses an unknown property
+     */
+    static Comparator<TodoResponse> comparator(Sort sort) {
+        Comparator<TodoResponse> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<TodoResponse> next = fieldComparator(order.getProperty());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<TodoResponse> byId = fieldComparator("id");
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    static Comparator<TodoResponse> fieldComparator(String property) {
+        return switch (property) {
+            case "id" -> Comparator.comparing(TodoResponse::getId);
+            case "title" -> Comparator.comparing(TodoResponse::getTitle, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "description" -> Comparator.comparing(TodoResponse::getDescription, Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+        };
+    }
+}
@@ -5,27 +5,52 @@ import com.example.todo.dto.TodoRequest;
 import com.example.todo.dto.TodoResponse;
 import com.example.todo.model.TodoEntity;
 import com.example.todo.repository.TodoRepository;
+import com.example.todo.tenant.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Service layer handles business logic
+ * Default store (app.todo.store=jpa): todos are kept in H2 through Spring Data JPA.
+ * Concurrent identical reads are coalesced (see SingleFlight): getById always (app.coalescing.enabled),
+ * getAll(Pageable) for identical pageables only when app.coalescing.pages.enabled=true.
+ * getAll(Pageable) runs a single query; the total comes from TodoCountCache instead of a SELECT COUNT(*).
+ * Everything is scoped to the tenant of the current thread (TenantContext): Hibernate filters the queries,
+ * and coalescing keys include the tenant, so a tenant never receives a result loaded for another one.
  */
 @Service
+@ConditionalOnProperty(name = "app.todo.store", havingValue = "jpa", matchIfMissing = true)
 public class TodoServiceImpl implements TodoService {
 
     private final Logger logger = LoggerFactory.getLogger(TodoServiceImpl.class);
 
     private final TodoRepository repository;
+    private final TodoCountCache countCache;
+    // null when coalescing is disabled
+    private final SingleFlight<TenantKey<Long>, Optional<TodoResponse>> byIdFlights;
+    private final SingleFlight<TenantKey<Pageable>, Page<TodoResponse>> pageFlights;
 
-    public TodoServiceImpl(TodoRepository repository) {
+    public TodoServiceImpl(TodoRepository repository,
+                           TodoCountCache countCache,
+                           @Value("${app.coalescing.enabled:true}") boolean coalescing,
+                           @Value("${app.coalescing.pages.enabled:false}") boolean pageCoalescing) {
         this.repository = repository;
+        this.countCache = countCache;
+        this.byIdFlights = coalescing ? new SingleFlight<>("getById") : null;
+        this.pageFlights = coalescing && pageCoalescing ? new SingleFlight<>("getAll(Pageable)") : null;
     }
 
     /**
@@ -57,8 +82,21 @@ public class TodoServiceImpl implements TodoService {
     @Override
     public Page<TodoResponse> getAll(Pageable pageable) {
         logger.info("Fetching paginated To-Do items, page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<TodoEntity> page = repository.findAll(pageable);
-        return page.map(this::toResponse);
+        if (pageFlights != null) {
+            // Pageable implementations (PageRequest) have value equality, so identical requests share one query
+            return pageFlights.execute(new TenantKey<>(TenantContext.current(), pageable), () -> findPage(pageable));
+        }
+        return findPage(pageable);
+    }
+
+    // One query for the content; PageImpl corrects the cached total on the last page (offset + content size).
+    // The query is ordered by tenantId first: it is constant (tenant_id = ?), so the order does not change,
+    // but the ORDER BY then matches the (tenant_id, ...) indexes and the page is read from the index presorted.
+    private Page<TodoResponse> findPage(Pageable pageable) {
+        Sort indexOrder = Sort.by("tenantId").and(pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("id"));
+        Pageable query = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), indexOrder);
+        List<TodoResponse> content = repository.findAllBy(query).stream().map(this::toResponse).toList();
+        return new PageImpl<>(content, pageable, countCache.get());
     }
 
     // Fetch by ID
@@ -72,13 +110,25 @@ public class TodoServiceImpl implements TodoService {
         logger.info("Fetching To-Do item by ID: {}", id);
         try {
             Long todoId = Long.parseLong(id);
-            return repository.findById(todoId).map(this::toResponse);
+            String tenant = TenantContext.current();
+            if (byIdFlights != null) {
+                return byIdFlights.execute(new TenantKey<>(tenant, todoId), () -> findById(tenant, todoId));
+            }
+            return findById(tenant, todoId);
         } catch (NumberFormatException e) {
             logger.error("Invalid ID format: {}", id);
             return Optional.empty();
         }
     }
 
+    // Loads by primary key are not guaranteed to carry Hibernate's tenant restriction (unlike queries),
+    // so the tenant of the row is checked here as well: another tenant's id is simply "not found"
+    private Optional<TodoResponse> findById(String tenant, Long todoId) {
+        return repository.findById(todoId)
+                .filter(entity -> tenant.equals(entity.getTenantId()))
+                .map(this::toResponse);
+    }
+
     /** Create a new To-Do item
      * @param request The TodoRequest containing title and description
      * @return The created TodoResponse
@@ -92,12 +142,28 @@ public class TodoServiceImpl implements TodoService {
         entity.setTitle(request.getTitle());
         entity.setDescription(request.getDescription());
         TodoEntity saved = repository.save(entity);
+        countCache.add(1);
         logger.info("To-Do item created with ID: {}", saved.getId());
 
         // Convert to TodoResponse and return
         return toResponse(saved);
     }
 
+    /**
+     * Calls and coalesced calls per coalesced operation, to see how much load coalescing absorbs
+     * @return Map of operation name to {calls, coalesced}
+     */
+    public Map<String, Map<String, Long>> getCoalescingStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        if (byIdFlights != null) {
+            stats.put("getById", Map.of("calls", byIdFlights.getCalls(), "coalesced", byIdFlights.getCoalesced()));
+        }
+        if (pageFlights != null) {
+            stats.put("getAll(Pageable)", Map.of("calls", pageFlights.getCalls(), "coalesced", pageFlights.getCoalesced()));
+        }
+        return stats;
+    }
+
     /** Convert TodoEntity to TodoResponse (helper method)
      * @param entity The TodoEntity to convert
      * @return The corresponding TodoResponse
@@ -105,4 +171,8 @@ public class TodoServiceImpl implements TodoService {
     private TodoResponse toResponse(TodoEntity entity) {
         return new TodoResponse(entity.getId(), entity.getTitle(), entity.getDescription());
     }
+
+    // Coalescing key: the same id or page of two tenants are different results
+    private record TenantKey<K>(String tenant, K key) {
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.todo.tenant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * TenantConfig class
+ * Registers the TenantInterceptor on /api/** (the health check excluded), ahead of the other interceptors.
+ * The interceptor is a bean, so work a request hands to other threads can take quota slots too (TodoBatchService).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Configuration
+public class TenantConfig implements WebMvcConfigurer {
+
+    private final int maxConcurrentRequests;
+    private final long retryAfterSeconds;
+
+    public TenantConfig(@Value("${app.tenant.max-concurrent-requests:16}") int maxConcurrentRequests,
+                        @Value("${app.tenant.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Bean
+    public TenantInterceptor tenantInterceptor() {
+        return new TenantInterceptor(maxConcurrentRequests, retryAfterSeconds);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tenantInterceptor())
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/todos/health")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
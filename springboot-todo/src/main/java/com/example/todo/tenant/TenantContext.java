@@ -0,0 +1,90 @@
+package com.example.todo.tenant;
+
+import java.util.regex.Pattern;
+
+/**
+ * TenantContext class
+ * Tenant of the current thread, taken from the X-Client-Id header by TenantInterceptor.
+ * Hibernate reads it through TenantIdentifierResolver when a session is opened, so every JPA query and insert
+ * of TodoEntity is scoped to it (the tenant_id column). Code that runs outside a request (startup runners,
+ * background threads) uses DEFAULT_TENANT unless it opens a scope with use().
+ * Work handed to other threads must carry the tenant along (see TodoBatchService, TodoExportController).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public final class TenantContext {
+
+    /** Tenant of requests without X-Client-Id and of work outside requests (seeder, import runner) */
+    public static final String DEFAULT_TENANT = "default";
+
+    /** Length of the tenant_id column */
+    public static final int MAX_LENGTH = 64;
+
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0," + (MAX_LENGTH - 1) + "}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /** Tenant of the current thread */
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant == null ? DEFAULT_TENANT : tenant;
+    }
+
+    /**
+     * Check a tenant id received from a client
+     * @return The tenant id
+     * @throws IllegalArgumentException when the tenant id is not 1..64 letters, digits, '.', '_' or '-'
+     */
+    public static String validate(String tenant) {
+        if (tenant == null || !VALID.matcher(tenant).matches()) {
+            throw new IllegalArgumentException("Invalid X-Client-Id (expected 1-" + MAX_LENGTH
+                    + " letters, digits, '.', '_' or '-'): " + tenant);
+        }
+        return tenant;
+    }
+
+    /**
+     * Make the given tenant current until the returned scope is closed (try-with-resources)
+     * @throws IllegalArgumentException when the tenant id is not valid, see validate()
+     */
+    public static Scope use(String tenant) {
+        validate(tenant);
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        return new Scope(previous);
+    }
+
+    /**
+     * Run the action with the given tenant current, and the previous one again afterwards
+     * @throws IllegalArgumentException when the tenant id is not valid, see validate()
+     */
+    public static void run(String tenant, Runnable action) {
+        Scope scope = use(tenant);
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /** Restores the tenant that was current before use() */
+    public static final class Scope implements AutoCloseable {
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * TenantIdentifierResolver class
+ * Gives Hibernate the tenant of the current thread (TenantContext) when a session is opened.
+ * Configured with spring.jpa.properties.hibernate.tenant_identifier_resolver, so it is also active in
+ * the @DataJpaTest slices; Hibernate instantiates it.
+ * Sessions are opened per service call, not per request (spring.jpa.open-in-view=false): the tenant is only
+ * known once TenantInterceptor ran, after Spring's open-in-view interceptor.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.todo.tenant;
+
+import com.example.todo.exception.TenantQuotaExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TenantInterceptor class
+ * Selects the tenant of a request from X-Client-Id (see TenantContext) and enforces a per-tenant quota of
+ * concurrent requests (app.tenant.max-concurrent-requests), so a tenant running big scans or exports cannot
+ * take all the capacity the others need: over the quota it gets 429 with Retry-After, while the other tenants
+ * are not affected. Runs before the global ConcurrencyLimitInterceptor, so rejected requests hold no global slot.
+ * Requests without X-Client-Id run as TenantContext.DEFAULT_TENANT (the controllers reject them anyway).
+ * Async requests (the CSV export) leave the servlet thread through afterConcurrentHandlingStarted, where the
+ * tenant scope is closed; their quota slot is held until afterCompletion of the async dispatch.
+ * Registered by TenantConfig.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TenantInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = TenantInterceptor.class.getName() + ".scope";
+    private static final String TENANT_ATTRIBUTE = TenantInterceptor.class.getName() + ".tenant";
+
+    private final int maxConcurrentRequests;
+    private final long retryAfterSeconds;
+    // Requests in progress per tenant; entries are removed when they drop to 0, so idle tenants cost nothing
+    private final ConcurrentMap<String, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public TenantInterceptor(int maxConcurrentRequests, long retryAfterSeconds) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader("X-Client-Id");
+        // Invalid ids are rejected with 400 (IllegalArgumentException), blank ones are left to the controllers
+        String tenant = header == null || header.isBlank() ? TenantContext.DEFAULT_TENANT : TenantContext.validate(header);
+        // An async request comes back through the interceptors once more; its quota slot is still held
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            if (!tryAcquire(tenant)) {
+                throw new TenantQuotaExceededException("Too many concurrent requests for client " + tenant
+                        + " (max " + maxConcurrentRequests + "), retry later", retryAfterSeconds);
+            }
+            request.setAttribute(TENANT_ATTRIBUTE, tenant);
+        }
+        request.setAttribute(SCOPE_ATTRIBUTE, TenantContext.use(tenant));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Called instead of afterCompletion when the handler started async processing: the servlet thread goes
+        // back to the pool now, the quota slot is released by afterCompletion of the async dispatch
+        closeScope(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // The servlet thread goes back to the pool: never leave the tenant behind
+        closeScope(request);
+        if (request.getAttribute(TENANT_ATTRIBUTE) instanceof String tenant) {
+            request.removeAttribute(TENANT_ATTRIBUTE);
+            release(tenant);
+        }
+    }
+
+    /** Requests in progress for the tenant, for tests and monitoring */
+    public int getInFlight(String tenant) {
+        return inFlight.getOrDefault(tenant, 0);
+    }
+
+    private void closeScope(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof TenantContext.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+
+    /**
+     * Take a slot of the tenant's quota, for work a request runs on other threads
+     * @param tenant The tenant
+     * @return true if the tenant is under its quota (release must then be called), false otherwise
+     */
+    public boolean tryAcquire(String tenant) {
+        boolean[] acquired = new boolean[1];
+        inFlight.compute(tenant, (key, current) -> {
+            int count = current == null ? 0 : current;
+            acquired[0] = count < maxConcurrentRequests;
+            return acquired[0] ? count + 1 : current;
+        });
+        return acquired[0];
+    }
+
+    /** Give back a slot taken with tryAcquire */
+    public void release(String tenant) {
+        inFlight.computeIfPresent(tenant, (key, current) -> current <= 1 ? null : current - 1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.exception.ApiErrorResponse;
+import com.example.todo.exception.GlobalExceptionHandler;
+import com.example.todo.exception.MissingHeadersException;
+import com.example.todo.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ErrorPathBenchmark class
+ * JMH benchmark for the per-request cost of the 404 (unknown id) and 400 (missing headers) paths,
+ * before and after making the exceptions stackless and the error logging rate limited.
+ * <p>
+ * The "before" methods reproduce the old code: an exception with a full stack trace, two logger.error calls
+ * and a new ApiErrorResponse. The "after" methods go through the real exceptions and GlobalExceptionHandler.
+ * A real request throws from roughly 100 frames deep (Tomcat, filters, Spring MVC), so the exceptions are
+ * created at a configurable stack depth. Filling in a stack trace costs in proportion to that depth.
+ * <p>
+ * Run it from the IDE (main method), or after mvn test-compile:
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.example.todo.benchmark.ErrorPathBenchmark
+ * (cp.txt from: mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test)
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(ErrorPathBenchmark.class);
+
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(1000);
+    }
+
+    // ---------------------------- 404 path ----------------------------
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> notFoundBefore() {
+        RuntimeException ex = atDepth(stackDepth, () -> new RuntimeException("To-Do item not found with ID: 42"));
+        logger.error("Handling ResourceNotFoundException in GlobalExceptionHandler: {}", ex.getMessage());
+        logger.error("ResourceNotFoundException: {}", ex.getMessage());
+        ApiErrorResponse error = new ApiErrorResponse("NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND.value(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> notFoundAfter() {
+        ResourceNotFoundException ex = atDepth(stackDepth, () -> new ResourceNotFoundException("To-Do item not found with ID: 42"));
+        return handler.handleResourceNotFound(ex);
+    }
+
+    // ---------------------------- 400 path ----------------------------
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> missingHeadersBefore() {
+        IllegalArgumentException ex = atDepth(stackDepth, () -> {
+            StringBuilder missingHeaders = new StringBuilder();
+            missingHeaders.append("X-Client-Id ");
+            missingHeaders.append("X-Request-Id ");
+            logger.error("Missing required headers: {}", missingHeaders.toString().trim());
+            return new IllegalArgumentException("Missing required headers: " + missingHeaders.toString().trim());
+        });
+        logger.error("Handling IllegalArgumentException in GlobalExceptionHandler: {}", ex.getMessage());
+        logger.error("IllegalArgumentException: {}", ex.getMessage());
+        ApiErrorResponse error = new ApiErrorResponse("INVALID_ARGUMENT", ex.getMessage(), HttpStatus.BAD_REQUEST.value(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> missingHeadersAfter() {
+        IllegalArgumentException ex = atDepth(stackDepth, () -> MissingHeadersException.of(true, true));
+        return handler.handleIllegalArgument(ex);
+    }
+
+    // Calls the supplier from 'depth' nested frames, to mimic the stack of a real request
+    private static <T> T atDepth(int depth, Supplier<T> supplier) {
+        return depth <= 0 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ErrorPathBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.SpringbootTodoApplication;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import com.example.todo.service.TodoService;
+import com.example.todo.tenant.TenantContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoServiceBenchmark class
+ * Throughput of the TodoService implementations (app.todo.store=jpa vs memory), measured on the service bean
+ * of a real application context without the web layer, with 4 concurrent threads.
+ * Everything runs as the tenant "benchmark" (the JPA store filters by tenant), and getById asks for the ids
+ * created in setUp: the ids are time-ordered, not 1..rows.
+ * See ErrorPathBenchmark for how to run the benchmarks.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoServiceBenchmark {
+
+    private static final String TENANT = "benchmark";
+
+    @Param({"jpa", "memory"})
+    private String store;
+
+    @Param({"10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private String[] ids;
+    private final Pageable firstPageByTitle = PageRequest.of(0, 20, Sort.by("title"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringbootTodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "app.todo.store=" + store,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.todo=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN");
+        if ("memory".equals(store)) {
+            builder.profiles("memory");
+        }
+        context = builder.run();
+        todoService = context.getBean(TodoService.class);
+        ids = new String[rows];
+        try (TenantContext.Scope scope = TenantContext.use(TENANT)) {
+            for (int i = 0; i < rows; i++) {
+                ids[i] = String.valueOf(todoService.createTodo(request("Todo " + i, "Description " + i)).getId());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<TodoResponse> getById() {
+        try (TenantContext.Scope scope = TenantContext.use(TENANT)) {
+            return todoService.getById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        }
+    }
+
+    @Benchmark
+    public Page<TodoResponse> firstPageSortedByTitle() {
+        try (TenantContext.Scope scope = TenantContext.use(TENANT)) {
+            return todoService.getAll(firstPageByTitle);
+        }
+    }
+
+    @Benchmark
+    public TodoResponse createTodo() {
+        try (TenantContext.Scope scope = TenantContext.use(TENANT)) {
+            return todoService.createTodo(request("Benchmark todo", "Created by TodoServiceBenchmark"));
+        }
+    }
+
+    private static TodoRequest request(String title, String description) {
+        TodoRequest request = new TodoRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        return request;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(TodoServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
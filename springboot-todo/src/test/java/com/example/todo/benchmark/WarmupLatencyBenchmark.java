@@ -0,0 +1,112 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.SpringbootTodoApplication;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.service.TodoService;
+import com.example.todo.tenant.TenantContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WarmupLatencyBenchmark class
+ * Latency distribution (p50, p99, ...) of the first minute of traffic after startup, with and without WarmupRunner.
+ * JMH runs every @Param value in its own fork, i.e. in a fresh JVM with a cold JIT, and there are no JMH warm-up
+ * iterations: the single 60 s measurement iteration is the "first minute" after the app reported ready.
+ * Compare the p0.99 lines of the SampleTime results of warmup=false and warmup=true.
+ * getById asks for todos of the tenant "benchmark" created in setUp (through the service bean, not HTTP,
+ * so the web layer stays cold): the todos of the dev seeder belong to the default tenant.
+ * See ErrorPathBenchmark for how to run the benchmarks.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, time = 60)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WarmupLatencyBenchmark {
+
+    private static final String TENANT = "benchmark";
+    private static final int TODOS = 5;
+
+    @Param({"false", "true"})
+    private boolean warmup;
+
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+    private String[] ids;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringbootTodoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "app.warmup.enabled=" + warmup,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.todo=WARN",
+                        "logging.level.com.example.todo.WarmupRunner=INFO",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN")
+                .profiles("dev")
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/todos";
+        TodoService todoService = context.getBean(TodoService.class);
+        ids = new String[TODOS];
+        try (TenantContext.Scope scope = TenantContext.use(TENANT)) {
+            for (int i = 0; i < TODOS; i++) {
+                TodoRequest request = new TodoRequest();
+                request.setTitle("Benchmark todo " + i);
+                request.setDescription("Created by WarmupLatencyBenchmark");
+                ids[i] = String.valueOf(todoService.createTodo(request).getId());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int paginated() throws IOException, InterruptedException {
+        return send("/paginated?page=0&size=10&sort=title,asc");
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        return send("/" + ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    private int send(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Client-Id", TENANT)
+                .header("X-Request-Id", "benchmark")
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(WarmupLatencyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
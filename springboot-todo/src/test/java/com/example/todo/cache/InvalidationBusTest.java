@@ -0,0 +1,243 @@
+package com.example.todo.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationBusTest {
+
+    // Flushed by the tests themselves, except in the UDP test
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final List<InvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void closeBuses() {
+        buses.forEach(InvalidationBus::close);
+    }
+
+    @Test
+    void should_sendOneCoalescedBatch_forRepeatedPublishes() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, NEVER);
+        InvalidationBus receiver = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        receiver.register("todos", listener);
+        introduce(sender, transport, receiver, listener);
+
+        for (int i = 0; i < 100; i++) {
+            sender.publish("todos", "1");
+        }
+        sender.publish("todos", "2");
+        sender.flush();
+
+        assertThat(transport.messages).hasSize(1);
+        receiver.receive(transport.messages.get(0));
+        assertThat(listener.keys).containsExactly(Set.of("1", "2"));
+        assertThat(listener.all).isZero();
+    }
+
+    @Test
+    void should_invalidateAll_whenSenderIsUnknown() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, NEVER);
+        sender.publish("todos", "1");
+        sender.flush();
+        sender.publish("todos", "2");
+        sender.flush();
+
+        // Late joiner: never saw the first message
+        InvalidationBus lateJoiner = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        lateJoiner.register("todos", listener);
+        lateJoiner.receive(transport.messages.get(1));
+
+        assertThat(listener.all).isEqualTo(1);
+        assertThat(listener.keys).isEmpty();
+        assertThat(lateJoiner.getFullInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void should_invalidateAll_whenAMessageWasLost() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, NEVER);
+        InvalidationBus receiver = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        receiver.register("todos", listener);
+        introduce(sender, transport, receiver, listener);
+
+        sender.publish("todos", "lost");
+        sender.flush();
+        sender.publish("todos", "3");
+        sender.flush();
+        receiver.receive(transport.messages.get(transport.messages.size() - 1));
+
+        assertThat(listener.all).isEqualTo(1);
+        assertThat(listener.keys).isEmpty();
+    }
+
+    @Test
+    void should_detectALostLastMessage_withTheHeartbeat() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, Duration.ZERO, NEVER);
+        InvalidationBus receiver = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        receiver.register("todos", listener);
+        introduce(sender, transport, receiver, listener);
+
+        sender.publish("todos", "lost");
+        sender.flush();
+        // Nothing published: heartbeat with the last sequence number
+        sender.flush();
+        byte[] heartbeat = transport.messages.get(transport.messages.size() - 1);
+        receiver.receive(heartbeat);
+
+        assertThat(listener.all).isEqualTo(1);
+        // Same heartbeat again: nothing new, nothing invalidated
+        receiver.receive(heartbeat);
+        assertThat(listener.all).isEqualTo(1);
+    }
+
+    @Test
+    void should_ignoreDuplicates_andOwnMessages() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, NEVER);
+        InvalidationBus receiver = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        receiver.register("todos", listener);
+        sender.register("todos", listener);
+        introduce(sender, transport, receiver, listener);
+
+        sender.publish("todos", "1");
+        sender.flush();
+        byte[] message = transport.messages.get(transport.messages.size() - 1);
+        receiver.receive(message);
+        receiver.receive(message);
+        sender.receive(message);
+
+        assertThat(listener.keys).containsExactly(Set.of("1"));
+    }
+
+    // Scenario: the application stops with a partial batch pending, long before the next flush interval
+    // Expected: the lifecycle sends it on stop(), and a publish after stop() still goes out with close()
+    @Test
+    void should_sendThePendingBatch_whenTheApplicationStops() throws Exception {
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus sender = bus(transport, NEVER);
+        InvalidationBus receiver = bus(new CapturingTransport(), NEVER);
+        RecordingListener listener = new RecordingListener();
+        receiver.register("todos", listener);
+        sender.start();
+        introduce(sender, transport, receiver, listener);
+        InvalidationBusLifecycle lifecycle = new InvalidationBusLifecycle(sender);
+        lifecycle.start();
+
+        sender.publish("todos", "last");
+        lifecycle.stop();
+        sender.publish("todos", "after-stop");
+        sender.close();
+
+        assertThat(lifecycle.isRunning()).isFalse();
+        receiver.receive(transport.messages.get(transport.messages.size() - 2));
+        receiver.receive(transport.messages.get(transport.messages.size() - 1));
+        assertThat(listener.keys).containsExactly(Set.of("last"), Set.of("after-stop"));
+        assertThat(listener.all).isZero();
+    }
+
+    @Test
+    void should_deliverBetweenNodes_overLoopbackUdp() throws Exception {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        UdpInvalidationTransport receiverTransport = new UdpInvalidationTransport(new InetSocketAddress(loopback, 0), List.of());
+        UdpInvalidationTransport senderTransport = new UdpInvalidationTransport(new InetSocketAddress(loopback, 0),
+                List.of(new InetSocketAddress(loopback, receiverTransport.getLocalPort())));
+        InvalidationBus receiver = bus(receiverTransport, Duration.ofMillis(5));
+        InvalidationBus sender = bus(senderTransport, Duration.ofMillis(5));
+        CountDownLatch invalidated = new CountDownLatch(1);
+        receiver.register("todo-count", new InvalidationListener() {
+            @Override
+            public void invalidate(Set<String> keys) {
+            }
+
+            @Override
+            public void invalidateAll() {
+                invalidated.countDown();
+            }
+        });
+        receiver.start();
+        sender.start();
+
+        sender.publishAll("todo-count");
+
+        assertThat(invalidated.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sender.getSentMessages()).isEqualTo(1);
+    }
+
+    // First message from a sender always invalidates everything; get that out of the way
+    private static void introduce(InvalidationBus sender, CapturingTransport transport,
+                                  InvalidationBus receiver, RecordingListener listener) throws Exception {
+        sender.publishAll("hello");
+        sender.flush();
+        receiver.receive(transport.messages.get(transport.messages.size() - 1));
+        listener.keys.clear();
+        listener.all = 0;
+    }
+
+    private InvalidationBus bus(InvalidationTransport transport, Duration flushInterval) {
+        return bus(transport, NEVER, flushInterval);
+    }
+
+    private InvalidationBus bus(InvalidationTransport transport, Duration heartbeatInterval, Duration flushInterval) {
+        InvalidationBus bus = new InvalidationBus(transport, flushInterval, heartbeatInterval);
+        buses.add(bus);
+        return bus;
+    }
+
+    private static final class CapturingTransport implements InvalidationTransport {
+        private final List<byte[]> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public int maxMessageBytes() {
+            return 65_507;
+        }
+
+        @Override
+        public void start(Consumer<byte[]> receiver) {
+        }
+
+        @Override
+        public void send(byte[] message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class RecordingListener implements InvalidationListener {
+        private final List<Set<String>> keys = new ArrayList<>();
+        private int all;
+
+        @Override
+        public void invalidate(Set<String> keys) {
+            this.keys.add(keys);
+        }
+
+        @Override
+        public void invalidateAll() {
+            all++;
+        }
+    }
+}
@@ -441,6 +441,24 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    // Negative Test Case for Pagination: sorting on a property that is not in the allow-list
+    // Only indexed fields (TodoEntity.SORTABLE_FIELDS) can be used for sorting, anything else is rejected with 400
+    // before the service layer (and the database) is called.
+    @Test
+    void should_respondWithBadRequest_whenUnsupportedSortPropertyIsProvided() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/todos/paginated")
+                        .header("x-client-id", "valid-client-id")
+                        .header("x-request-id", "valid-request-id")
+                        .param("page", "0")
+                        .param("size", "2")
+                        .param("sort", "createdAt,desc")) // Not a sortable field
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"))
+                .andExpect(jsonPath("$.message").value("Unsupported sort property: createdAt (allowed: description, id, title)"))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
     // Checking invalid size (zero) and missing required headers
     // This is currently not handled in the GlobalExceptionHandler class to generate a combined message for different types of errors.
     @Test
@@ -479,6 +497,22 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.description").value("This is a test to-do item."));
     }
 
+    // Scenario: a time-ordered id above 2^53, which a JavaScript number cannot hold exactly
+    // Expected: id stays a JSON number, idString carries the exact value as a string
+    @Test
+    void should_sendIdAsNumberAndAsString_whenIdIsAboveJavaScriptPrecision() throws Exception {
+        long id = 9_007_199_254_740_993L;
+        given(todoService.getById(String.valueOf(id)))
+                .willReturn(java.util.Optional.of(new TodoResponse(id, "Test To-Do", "This is a test to-do item.")));
+
+        mockMvc.perform(get("/api/todos/" + id)
+                        .header("x-client-id", "valid-client-id")
+                        .header("x-request-id", "valid-request-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.idString").value(String.valueOf(id)));
+    }
+
     // Negative Test case: Missing required headers for GET endpoint (getting single todo by id)
     @Test
     void should_raiseExceptionForGETTodoByIdEndpoint_whenRequestHeadersAreMissing() throws Exception {
@@ -600,4 +634,27 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.description").value("This is a test to-do item."));*/
         // .andExpect(header().string("X-Processed-By", startsWith("TodoController")))
     }
-}
\ No newline at end of file
+
+    // Scenario: /create with a blank title and a description over the 255 characters of its column
+    // Expected: 400 VALIDATION_FAILED with the constraint messages, the same ones the batch endpoint reports
+    @Test
+    void should_respondWithBadRequest_whenCreatingATodoWithABlankTitleOrTooLongValues() throws Exception {
+        mockMvc.perform(post("/api/todos/create")
+                        .header("x-client-id", "valid-client-id")
+                        .header("x-request-id", "valid-request-id")
+                        .contentType("application/json")
+                        .content("{\"title\":\"  \",\"description\":\"" + "d".repeat(256) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.message").value("Description must be at most 255 characters; Title is required"));
+
+        mockMvc.perform(post("/api/todos/create")
+                        .header("x-client-id", "valid-client-id")
+                        .header("x-request-id", "valid-request-id")
+                        .contentType("application/json")
+                        .content("{\"title\":\"" + "t".repeat(256) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.message").value("Title must be at most 255 characters"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.controller;
+
+import com.example.todo.service.TodoExportService;
+import com.example.todo.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // The real export unless a test stubs it
+    @MockitoSpyBean
+    private TodoExportService exportService;
+
+    // Scenario: a client exports its todos; the export streams asynchronously, MockMvc runs the first
+    // dispatch on the test thread like a servlet container thread.
+    // Expected: once the async processing has started, the dispatching thread is back to the default tenant,
+    // and the async dispatch streams the csv.
+    @Test
+    void should_clearTenantOfTheDispatchingThread_whenTheExportGoesAsync() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/todos/export.csv")
+                        .header("X-Client-Id", "export-client")
+                        .header("X-Request-Id", "export-request-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("id,title,description")));
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+    }
+
+    // Scenario: an export that keeps streaming for a while (rows written with pauses, like a slow database or client)
+    // Expected: the async request gets the configured timeout (30 min, not the container's 30 s default), and the
+    // whole body arrives
+    @Test
+    void should_streamTheWholeExport_whenItIsSlow() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,title,description\n".getBytes(StandardCharsets.UTF_8));
+            for (int row = 1; row <= 5; row++) {
+                Thread.sleep(200);
+                out.write((row + ",Todo " + row + ",\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            return 5L;
+        }).when(exportService).writeCsv(anyString(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/todos/export.csv")
+                        .header("X-Client-Id", "export-client")
+                        .header("X-Request-Id", "export-request-2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("id,title,description\n1,Todo 1,\n")))
+                .andExpect(content().string(endsWith("5,Todo 5,\n")));
+    }
+}
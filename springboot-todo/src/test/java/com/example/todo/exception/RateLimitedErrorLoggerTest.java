@@ -0,0 +1,82 @@
+package com.example.todo.exception;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * RateLimitedErrorLogger, driven by a fake clock so every call lands exactly inside or after the 1 s interval.
+ */
+class RateLimitedErrorLoggerTest {
+
+    private static final String SUMMARY = "[{}] {} ({} similar errors suppressed, {} in total)";
+
+    private final Logger logger = mock(Logger.class);
+    // Negative, like System.nanoTime() may be
+    private final AtomicLong clock = new AtomicLong(-TimeUnit.SECONDS.toNanos(5));
+    private final RateLimitedErrorLogger errorLog = new RateLimitedErrorLogger(logger, Duration.ofSeconds(1), clock::get);
+
+    // Scenario: the same error code 4 times within the interval
+    // Expected: only the first one is logged, all 4 are counted
+    @Test
+    void should_suppressRepeatedErrors_withinTheInterval() {
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 1");
+        for (int id = 2; id <= 4; id++) {
+            advance(300);
+            errorLog.log("NOT_FOUND", "To-Do item not found with ID: " + id);
+        }
+
+        verify(logger).error("[{}] {}", "NOT_FOUND", "To-Do item not found with ID: 1");
+        verifyNoMoreInteractions(logger);
+        assertThat(errorLog.getCount("NOT_FOUND")).isEqualTo(4);
+    }
+
+    // Scenario: 3 errors suppressed, then the same code once the interval is over, then again in the next interval
+    // Expected: the first line after the interval carries "3 similar errors suppressed, 5 in total"; the next
+    // interval has nothing suppressed, so its line is a plain one again
+    @Test
+    void should_logSuppressedCount_whenIntervalRollsOver() {
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 1");
+        for (int id = 2; id <= 4; id++) {
+            advance(100);
+            errorLog.log("NOT_FOUND", "To-Do item not found with ID: " + id);
+        }
+        advance(700);
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 5");
+        advance(1_000);
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 6");
+
+        verify(logger).error("[{}] {}", "NOT_FOUND", "To-Do item not found with ID: 1");
+        verify(logger).error(SUMMARY, "NOT_FOUND", "To-Do item not found with ID: 5", 3L, 5L);
+        verify(logger).error("[{}] {}", "NOT_FOUND", "To-Do item not found with ID: 6");
+        verifyNoMoreInteractions(logger);
+    }
+
+    // Scenario: a burst of NOT_FOUND, then a BAD_REQUEST within the same interval
+    // Expected: each error code has its own interval, so the BAD_REQUEST is logged
+    @Test
+    void should_rateLimitEachErrorCodeSeparately() {
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 1");
+        errorLog.log("NOT_FOUND", "To-Do item not found with ID: 2");
+        advance(10);
+        errorLog.log("BAD_REQUEST", "Invalid page size");
+
+        verify(logger).error("[{}] {}", "NOT_FOUND", "To-Do item not found with ID: 1");
+        verify(logger).error("[{}] {}", "BAD_REQUEST", "Invalid page size");
+        verifyNoMoreInteractions(logger);
+        assertThat(errorLog.getCounts()).isEqualTo(Map.of("BAD_REQUEST", 1L, "NOT_FOUND", 2L));
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.todo.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveConcurrencyLimiter, driven by a fake clock: every latency is injected, so each AIMD step is exact.
+ * The overload scenario models a "database" that serves 2 requests at a time in 5 ms each, hammered by 40 clients:
+ * a round admits as many clients as the limit allows, and the admitted requests queue behind each other.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int CLIENTS = 40;
+    private static final int BACKEND_CAPACITY = 2;
+    private static final long SERVICE_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final Duration THRESHOLD = Duration.ofMillis(12);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+    // Scenario: 40 clients per round against the 2-request backend, starting from a limit of 20.
+    // Expected: the limit backs off by 0.9 once per round (one reduction per batch) until the admitted requests
+    // are under the 12 ms threshold (4 in flight = 10 ms), then oscillates between 4 and 6; the admitted requests
+    // stay within 15 ms, where unlimited they would all wait 100 ms.
+    @Test
+    void should_shrinkLimitToBackendCapacity_whenBackendIsOverloaded() {
+        AdaptiveConcurrencyLimiter adaptive = limiter(20, 1, 1000, 0.9);
+        AdaptiveConcurrencyLimiter unlimited = limiter(1000, 1000, 1000, 0.9);
+
+        List<Integer> limits = new ArrayList<>();
+        long adaptiveMaxLatency = 0;
+        for (int round = 0; round < 16; round++) {
+            long latency = round(adaptive);
+            limits.add(adaptive.getLimit());
+            if (round >= 10) {
+                adaptiveMaxLatency = Math.max(adaptiveMaxLatency, latency);
+            }
+        }
+        long unlimitedLatency = round(unlimited);
+
+        assertThat(limits).containsExactly(18, 16, 14, 12, 10, 9, 8, 7, 6, 5, 4, 6, 5, 4, 6, 5);
+        assertThat(adaptiveMaxLatency).isEqualTo(TimeUnit.MILLISECONDS.toNanos(15));
+        assertThat(unlimitedLatency).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        // 40 - 20 rejected in the first round, 40 - 18 in the second, ...
+        assertThat(adaptive.getRejected()).isEqualTo(16L * CLIENTS - (20 + 18 + 16 + 14 + 12 + 10 + 9 + 8 + 7 + 6 + 5 + 4 + 6 + 5 + 4 + 6));
+        assertThat(unlimited.getRejected()).isZero();
+    }
+
+    // Scenario: 4 fast requests released one after the other, with a limit of 4.
+    // Expected: +1 per release while the limit is used (in flight >= limit / 2), then no more growth.
+    @Test
+    void should_growLimitByOne_whileLimitIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10, 0.5);
+        long start = acquire(limiter, 4);
+        assertThat(limiter.tryAcquire()).isFalse();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            limiter.release(start, false);
+            limits.add(limiter.getLimit());
+        }
+
+        // in flight before each release: 4 (>= 2), 3 (>= 2.5), 2 (< 3), 1 (< 3)
+        assertThat(limits).containsExactly(5, 6, 6, 6);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    // Scenario: the limit is at its maximum and requests keep being fast.
+    // Expected: it stays at the maximum.
+    @Test
+    void should_notGrowPastMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(3, 1, 3, 0.5);
+        long start = acquire(limiter, 3);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+        limiter.release(start, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    // Scenario: a batch of 4 requests admitted together, all over the latency threshold.
+    // Expected: one reduction for the whole batch (8 -> 4), not 8 -> 4 -> 2 -> 1 -> 1.
+    @Test
+    void should_shrinkLimitOnce_whenSeveralRequestsOfTheSameBatchAreSlow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1, 10, 0.5);
+        long batchStart = acquire(limiter, 4);
+        clock.addAndGet(THRESHOLD.toNanos() + 1);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.release(batchStart, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    // Scenario: fast requests that failed (e.g. 5xx), batch after batch.
+    // Expected: each batch halves the limit, down to the minimum and no further.
+    @Test
+    void should_shrinkLimitToMinimum_whenRequestsFail() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 2, 10, 0.5);
+
+        List<Integer> limits = new ArrayList<>();
+        for (int batch = 0; batch < 4; batch++) {
+            long start = acquire(limiter, 1);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            limiter.release(start, true);
+            limits.add(limiter.getLimit());
+        }
+
+        assertThat(limits).containsExactly(4, 2, 2, 2);
+    }
+
+    // Scenario: a request exactly at the threshold, then one just over it.
+    // Expected: the threshold itself counts as fast (+1), just over it as slow (x 0.5).
+    @Test
+    void should_compareLatencyWithThreshold() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10, 0.5);
+        long start = acquire(limiter, 2);
+        clock.addAndGet(THRESHOLD.toNanos());
+        limiter.release(start, false);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        start = acquire(limiter, 1);
+        clock.addAndGet(THRESHOLD.toNanos() + 1);
+        limiter.release(start, false);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    // Scenario: the limit shrunk by slow requests, reset while one of them is still in flight.
+    // Expected: back to the initial limit; the slow request released afterwards does not shrink it again.
+    @Test
+    void should_goBackToInitialLimit_whenReset() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1, 10, 0.5);
+        long start = acquire(limiter, 2);
+        clock.addAndGet(THRESHOLD.toNanos() + 1);
+        limiter.release(start, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        long slowStart = acquire(limiter, 1);
+        clock.addAndGet(THRESHOLD.toNanos() + 1);
+
+        limiter.reset();
+        limiter.release(slowStart, false);
+        limiter.release(start, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, minLimit, maxLimit, THRESHOLD, backoffRatio, clock::get);
+    }
+
+    // Admit the given number of requests now; returns their start time
+    private long acquire(AdaptiveConcurrencyLimiter limiter, int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        return clock.get();
+    }
+
+    // All the clients try at once, the admitted ones are served BACKEND_CAPACITY at a time and released together;
+    // returns the latency of the admitted requests (the last one served)
+    private long round(AdaptiveConcurrencyLimiter limiter) {
+        long start = clock.get();
+        int admitted = 0;
+        for (int i = 0; i < CLIENTS; i++) {
+            if (limiter.tryAcquire()) {
+                admitted++;
+            }
+        }
+        long latency = SERVICE_TIME_NANOS * ((admitted + BACKEND_CAPACITY - 1) / BACKEND_CAPACITY);
+        clock.addAndGet(latency);
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(start, false);
+        }
+        return latency;
+    }
+}
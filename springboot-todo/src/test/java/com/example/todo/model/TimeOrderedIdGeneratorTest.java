@@ -0,0 +1,130 @@
+package com.example.todo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void should_encodeTimestampAndNode_inTheId() {
+        long before = System.currentTimeMillis();
+        long id = TimeOrderedIdGenerator.forNode(17).nextId();
+        long after = System.currentTimeMillis();
+
+        assertThat(id).isPositive();
+        assertThat(TimeOrderedIdGenerator.nodeId(id)).isEqualTo(17);
+        // Can be ahead of the clock if the node's sequence was exhausted in an earlier test
+        assertThat(TimeOrderedIdGenerator.timestampMillis(id)).isGreaterThanOrEqualTo(before);
+        assertThat(TimeOrderedIdGenerator.timestampMillis(id)).isLessThanOrEqualTo(after + 1000);
+    }
+
+    @Test
+    void should_returnStrictlyIncreasingIds_whenSequenceOfAMillisecondIsExhausted() {
+        TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.forNode(18);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 50_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void should_returnUniqueIds_whenCalledConcurrently() throws Exception {
+        TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.forNode(19);
+        int threads = 8;
+        int idsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    // Monotonic per thread as well
+                    assertThat(i == 0 || ids[i] > ids[i - 1]).isTrue();
+                    all.add(ids[i]);
+                }
+            }
+            assertThat(all).hasSize(threads * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_neverCollide_acrossNodes() {
+        long a = TimeOrderedIdGenerator.forNode(20).nextId();
+        long b = TimeOrderedIdGenerator.forNode(21).nextId();
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(TimeOrderedIdGenerator.nodeId(a)).isEqualTo(20);
+        assertThat(TimeOrderedIdGenerator.nodeId(b)).isEqualTo(21);
+    }
+
+    @Test
+    void should_shareOneGeneratorPerNode() {
+        assertThat(TimeOrderedIdGenerator.forNode(22)).isSameAs(TimeOrderedIdGenerator.forNode(22));
+    }
+
+    // Scenario: an id stored by an earlier run is an hour ahead of the clock (clock set back across a restart)
+    // Expected: after advancePast the next ids are in the millisecond after it, and still strictly increasing
+    @Test
+    void should_continueAfterStoredId_whenClockIsBehindIt() {
+        TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.forNode(23);
+        long futureMillis = System.currentTimeMillis() + 3_600_000;
+        long storedId = ((futureMillis - TimeOrderedIdGenerator.EPOCH_MILLIS)
+                << (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS))
+                | (1000L << TimeOrderedIdGenerator.SEQUENCE_BITS) | 42;
+
+        generator.advancePast(storedId);
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(first).isGreaterThan(storedId);
+        assertThat(TimeOrderedIdGenerator.timestampMillis(first)).isEqualTo(futureMillis + 1);
+        assertThat(TimeOrderedIdGenerator.sequence(first)).isZero();
+        assertThat(second).isGreaterThan(first);
+    }
+
+    // Scenario: the stored ids are older than the clock
+    // Expected: advancePast changes nothing, the next id follows the clock
+    @Test
+    void should_followTheClock_whenStoredIdIsOlder() {
+        TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.forNode(24);
+        long storedId = TimeOrderedIdGenerator.forNode(25).nextId();
+
+        long before = System.currentTimeMillis();
+        generator.advancePast(storedId - (1000L << (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS)));
+        long id = generator.nextId();
+
+        assertThat(TimeOrderedIdGenerator.timestampMillis(id)).isGreaterThanOrEqualTo(before);
+        assertThat(TimeOrderedIdGenerator.timestampMillis(id)).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    void should_reject_whenNodeIdOutOfRange() {
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.forNode(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.forNode(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
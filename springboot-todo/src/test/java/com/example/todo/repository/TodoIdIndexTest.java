@@ -0,0 +1,79 @@
+package com.example.todo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoIdIndexTest {
+
+    // Scenario: ids appended in increasing order, then ids that fall in the middle, then a known id again
+    // Expected: lookups find every id, iteration is in id order both ways, put returns the replaced location
+    @Test
+    void should_keepIdsSorted_whenIdsArriveOutOfOrder() {
+        TodoIdIndex index = new TodoIdIndex();
+        for (long id = 10; id <= 5000; id += 10) {
+            assertThat(index.put(id, 1000 + id)).isEqualTo(TodoIdIndex.NO_LOCATION);
+        }
+        index.put(15, 1015);
+        index.put(5, 1005);
+
+        assertThat(index.put(15, 2015)).isEqualTo(1015);
+        assertThat(index.size()).isEqualTo(502);
+        assertThat(index.maxId()).isEqualTo(5000);
+        assertThat(index.get(15)).isEqualTo(2015);
+        assertThat(index.get(5)).isEqualTo(1005);
+        assertThat(index.get(4990)).isEqualTo(5990);
+        assertThat(index.get(11)).isEqualTo(TodoIdIndex.NO_LOCATION);
+        assertThat(ids(index, true).subList(0, 4)).containsExactly(5L, 10L, 15L, 20L);
+        assertThat(ids(index, false).subList(0, 2)).containsExactly(5000L, 4990L);
+    }
+
+    // Scenario: an iteration is started, then ids are added
+    // Expected: the iteration returns the ids as of its start
+    @Test
+    void should_iterateOverTheIdsAsOfTheCall() {
+        TodoIdIndex index = new TodoIdIndex();
+        index.put(2, 102);
+        index.put(4, 104);
+        PrimitiveIterator.OfLong ids = index.ids(true);
+
+        index.put(3, 103);
+        index.put(5, 105);
+
+        List<Long> seen = new ArrayList<>();
+        ids.forEachRemaining((long id) -> seen.add(id));
+        assertThat(seen).containsExactly(2L, 4L);
+    }
+
+    // Scenario: recovery records in log order, with ids rewritten later in the log (updates, compaction)
+    // Expected: sorted by id, the last record of each id kept, the earlier ones reported as superseded
+    @Test
+    void should_keepLastRecordOfEachId_whenLoadingRecoveredRecords() {
+        TodoIdIndex index = new TodoIdIndex();
+        long[] ids = {3, 1, 2, 1, 3, 4, 0, 0};
+        long[] locations = {10, 11, 12, 13, 14, 15, 0, 0};
+        List<Long> superseded = new ArrayList<>();
+
+        index.load(ids, locations, 6, superseded::add);
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(ids(index, true)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.get(1)).isEqualTo(13);
+        assertThat(index.get(3)).isEqualTo(14);
+        assertThat(superseded).containsExactlyInAnyOrder(11L, 10L);
+        // Appends continue after the loaded entries
+        index.put(9, 19);
+        assertThat(index.get(9)).isEqualTo(19);
+        assertThat(index.maxId()).isEqualTo(9);
+    }
+
+    private static List<Long> ids(TodoIdIndex index, boolean ascending) {
+        List<Long> ids = new ArrayList<>();
+        index.ids(ascending).forEachRemaining((long id) -> ids.add(id));
+        return ids;
+    }
+}
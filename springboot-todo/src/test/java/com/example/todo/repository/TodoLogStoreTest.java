@@ -0,0 +1,179 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoLogStoreTest {
+
+    private static final int SEGMENT_SIZE = 4 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_recoverAllTodos_whenReopened() throws IOException {
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            for (long id = 1; id <= 200; id++) {
+                store.append(todo(id, "Title " + id, id % 2 == 0 ? null : "Description " + id));
+            }
+        }
+
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, true)) {
+            assertThat(store.count()).isEqualTo(200);
+            assertThat(store.maxId()).isEqualTo(200);
+            TodoEntity todo = store.find(7).orElseThrow();
+            assertThat(todo.getTitle()).isEqualTo("Title 7");
+            assertThat(todo.getDescription()).isEqualTo("Description 7");
+            assertThat(store.find(8).orElseThrow().getDescription()).isNull();
+            assertThat(store.find(201)).isEmpty();
+        }
+        // 200 records of ~40 bytes do not fit in one 4 KB segment
+        assertThat(segmentCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void should_iterateInIdOrder() throws IOException {
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            store.append(todo(3, "c", "c"));
+            store.append(todo(1, "a", "a"));
+            store.append(todo(2, "b", "b"));
+
+            List<Long> ascending = new ArrayList<>();
+            store.iterator(true).forEachRemaining(todo -> ascending.add(todo.getId()));
+            List<Long> descending = new ArrayList<>();
+            store.iterator(false).forEachRemaining(todo -> descending.add(todo.getId()));
+
+            assertThat(ascending).containsExactly(1L, 2L, 3L);
+            assertThat(descending).containsExactly(3L, 2L, 1L);
+        }
+    }
+
+    @Test
+    void should_dropTornRecord_whenTheLastWriteWasIncomplete() throws IOException {
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            store.append(todo(1, "kept", "kept"));
+            store.append(todo(2, "torn", "torn"));
+        }
+        // Corrupt one payload byte of the second record, as if the crash happened halfway through writing it
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        int secondRecord = TodoLogStore.HEADER_BYTES + 8 + 4 + 4 + 4 + 4;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), secondRecord + TodoLogStore.HEADER_BYTES + 14);
+        }
+
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            assertThat(store.count()).isEqualTo(1);
+            assertThat(store.find(2)).isEmpty();
+            // The log was truncated at the torn record, so new records are appended in its place
+            store.append(todo(2, "rewritten", "rewritten"));
+        }
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            assertThat(store.find(2).orElseThrow().getTitle()).isEqualTo("rewritten");
+        }
+    }
+
+    @Test
+    void should_deleteSegmentAndKeepLatestVersions_whenCompacting() throws IOException {
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            // Fill a few segments, then write every id again: the old segments only hold dead records
+            for (long id = 1; id <= 100; id++) {
+                store.append(todo(id, "old " + id, "old"));
+            }
+            for (long id = 1; id <= 100; id++) {
+                store.append(todo(id, "new " + id, "new"));
+            }
+            long segmentsBefore = segmentCount();
+
+            assertThat(store.compact(0.5)).isPositive();
+
+            assertThat(segmentCount()).isLessThan(segmentsBefore);
+            assertThat(store.count()).isEqualTo(100);
+            assertThat(store.find(1).orElseThrow().getTitle()).isEqualTo("new 1");
+        }
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, true)) {
+            assertThat(store.count()).isEqualTo(100);
+            assertThat(store.find(100).orElseThrow().getTitle()).isEqualTo("new 100");
+        }
+    }
+
+    // Scenario: the compactor runs once the store was closed (shutdown racing a scheduled compaction)
+    // Expected: nothing is copied or deleted, and every todo is still there after reopening
+    @Test
+    void should_notCompact_whenStoreIsClosed() throws IOException {
+        TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false);
+        for (long id = 1; id <= 100; id++) {
+            store.append(todo(id, "old " + id, "old"));
+        }
+        for (long id = 1; id <= 100; id++) {
+            store.append(todo(id, "new " + id, "new"));
+        }
+        long segmentsBefore = segmentCount();
+        store.close();
+
+        assertThat(store.compact(0.5)).isZero();
+
+        assertThat(segmentCount()).isEqualTo(segmentsBefore);
+        try (TodoLogStore reopened = TodoLogStore.open(directory, SEGMENT_SIZE, false, true)) {
+            assertThat(reopened.count()).isEqualTo(100);
+            assertThat(reopened.find(100).orElseThrow().getTitle()).isEqualTo("new 100");
+        }
+    }
+
+    @Test
+    void should_recoverLatestVersions_whenIdsAreOutOfLogOrder() throws IOException {
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, false)) {
+            for (long id = 1; id <= 100; id++) {
+                store.append(todo(id, "old " + id, "old"));
+            }
+            // Rewritten in reverse order, like records moved by compaction: later in the log, lower ids
+            for (long id = 50; id >= 1; id--) {
+                store.append(todo(id, "new " + id, "new"));
+            }
+        }
+
+        try (TodoLogStore store = TodoLogStore.open(directory, SEGMENT_SIZE, false, true)) {
+            assertThat(store.count()).isEqualTo(100);
+            assertThat(store.maxId()).isEqualTo(100);
+            assertThat(store.find(1).orElseThrow().getTitle()).isEqualTo("new 1");
+            assertThat(store.find(50).orElseThrow().getTitle()).isEqualTo("new 50");
+            assertThat(store.find(51).orElseThrow().getTitle()).isEqualTo("old 51");
+            List<Long> ids = new ArrayList<>();
+            store.iterator(true).forEachRemaining(todo -> ids.add(todo.getId()));
+            assertThat(ids).isEqualTo(LongStream.rangeClosed(1, 100).boxed().toList());
+            // The superseded records were counted as dead bytes during recovery: 50 of the ~120 records of the
+            // first segment are dead
+            assertThat(store.compact(0.25)).isPositive();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static TodoEntity todo(long id, String title, String description) {
+        TodoEntity todo = new TodoEntity();
+        todo.setId(id);
+        todo.setTitle(title);
+        todo.setDescription(description);
+        return todo;
+    }
+}
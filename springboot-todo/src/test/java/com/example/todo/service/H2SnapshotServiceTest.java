@@ -0,0 +1,100 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.SnapshotResponse;
+import com.example.todo.model.TimeOrderedIdGenerator;
+import com.example.todo.model.TodoEntity;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trip of H2SnapshotService against the test H2 database: snapshot, wipe, restore.
+ * Not transactional, because DROP ALL OBJECTS and RUNSCRIPT commit on their own.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class H2SnapshotServiceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    // Not part of the @DataJpaTest slice, so this provider is empty
+    @Autowired
+    private ObjectProvider<TodoCountCache> countCache;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_restoreTodos_whenSnapshotWasTaken() {
+        todoRepository.deleteAll();
+        todoRepository.saveAll(List.of(todo("Buy groceries", "Milk and eggs"), todo("Workout", "1 hour gym session")));
+        H2SnapshotService snapshotService =
+                new H2SnapshotService(new JdbcTemplate(dataSource), countCache, directory.resolve("snapshot.sql.gz").toString(), false, 0);
+
+        SnapshotResponse written = snapshotService.snapshot();
+        todoRepository.deleteAll();
+        SnapshotResponse restored = snapshotService.restore().orElseThrow();
+
+        assertThat(written.getBytes()).isPositive();
+        assertThat(restored.getRows()).isEqualTo(written.getRows());
+        assertThat(todoRepository.findAll())
+                .extracting(TodoEntity::getTitle)
+                .containsExactlyInAnyOrder("Buy groceries", "Workout");
+        todoRepository.deleteAll();
+    }
+
+    @Test
+    void should_returnEmpty_whenThereIsNoSnapshotFile() {
+        H2SnapshotService snapshotService =
+                new H2SnapshotService(new JdbcTemplate(dataSource), countCache, directory.resolve("missing.sql.gz").toString(), false, 0);
+
+        assertThat(snapshotService.restore()).isEmpty();
+    }
+
+    // Scenario: the snapshot holds a todo whose id is a minute ahead of the clock (the clock was set back across the restart)
+    // Expected: the todo created after the restore gets an id above it, not one that may collide with a restored id
+    @Test
+    void should_createIdsAfterTheRestoredOnes_whenClockIsBehindTheSnapshot() {
+        todoRepository.deleteAll();
+        long futureMillis = System.currentTimeMillis() + 60_000;
+        long futureId = ((futureMillis - TimeOrderedIdGenerator.EPOCH_MILLIS)
+                << (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS)) | 7;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO todos (id, tenant_id, title, description) VALUES (?, ?, ?, ?)",
+                futureId, TenantContext.DEFAULT_TENANT, "From the future", "Written by a clock ahead of this one");
+        H2SnapshotService snapshotService =
+                new H2SnapshotService(jdbcTemplate, countCache, directory.resolve("snapshot.sql.gz").toString(), false, 0);
+        snapshotService.snapshot();
+
+        snapshotService.restore();
+        TodoEntity created = todoRepository.save(todo("After restore", "Created with the clock behind"));
+
+        assertThat(created.getId()).isGreaterThan(futureId);
+        assertThat(TimeOrderedIdGenerator.timestampMillis(created.getId())).isGreaterThan(futureMillis);
+        todoRepository.deleteAll();
+    }
+
+    private static TodoEntity todo(String title, String description) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setDescription(description);
+        return todo;
+    }
+}
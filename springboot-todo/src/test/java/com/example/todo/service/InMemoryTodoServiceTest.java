@@ -0,0 +1,88 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTodoServiceTest {
+
+    private InMemoryTodoService todoService;
+
+    @BeforeEach
+    void setUp() {
+        todoService = new InMemoryTodoService();
+        todoService.createTodo(request("Read book", "Chapter 5"));
+        todoService.createTodo(request("Buy groceries", "Milk and eggs"));
+        todoService.createTodo(request("Workout", "1 hour gym session"));
+        todoService.createTodo(request("Call Mom", null));
+        todoService.createTodo(request("Bake cake", "Chocolate"));
+    }
+
+    @Test
+    void should_assignIncreasingIds_andFindTodosById() {
+        assertThat(todoService.getById("1")).map(TodoResponse::getTitle).contains("Read book");
+        assertThat(todoService.getById("5")).map(TodoResponse::getTitle).contains("Bake cake");
+        assertThat(todoService.getById("6")).isEmpty();
+        // Same behaviour as the JPA service for ids that are not numbers
+        assertThat(todoService.getById("abc")).isEmpty();
+        assertThat(todoService.getAll().getCount()).isEqualTo(5);
+    }
+
+    @Test
+    void should_returnPagesInIdOrder_withCorrectMetadata() {
+        Page<TodoResponse> page = todoService.getAll(PageRequest.of(1, 2, Sort.by("id").ascending()));
+
+        assertThat(page.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 4L);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+
+        Page<TodoResponse> descending = todoService.getAll(PageRequest.of(0, 2, Sort.by("id").descending()));
+        assertThat(descending.getContent()).extracting(TodoResponse::getId).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void should_returnPagesInTitleOrder_whenSortedByTitle() {
+        Page<TodoResponse> page = todoService.getAll(PageRequest.of(0, 3, Sort.by("title")));
+        assertThat(page.getContent()).extracting(TodoResponse::getTitle)
+                .containsExactly("Bake cake", "Buy groceries", "Call Mom");
+
+        Page<TodoResponse> lastPage = todoService.getAll(PageRequest.of(1, 3, Sort.by("title").descending()));
+        assertThat(lastPage.getContent()).extracting(TodoResponse::getTitle)
+                .containsExactly("Buy groceries", "Bake cake");
+    }
+
+    @Test
+    void should_sortNullsFirst_whenSortedByDescription() {
+        Page<TodoResponse> page = todoService.getAll(PageRequest.of(0, 2, Sort.by("description")));
+        assertThat(page.getContent()).extracting(TodoResponse::getTitle).containsExactly("Call Mom", "Workout");
+    }
+
+    @Test
+    void should_returnEmptyPage_whenPageIsOutOfRange() {
+        Page<TodoResponse> page = todoService.getAll(PageRequest.of(3, 2, Sort.by("id")));
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.isLast()).isTrue();
+    }
+
+    @Test
+    void should_rejectUnknownSortProperty() {
+        assertThatThrownBy(() -> todoService.getAll(PageRequest.of(0, 2, Sort.by("createdAt"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort property: createdAt");
+    }
+
+    private TodoRequest request(String title, String description) {
+        TodoRequest request = new TodoRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        return request;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.todo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 10;
+
+    @Test
+    void should_runLoaderOnce_whenSameKeyIsRequestedConcurrently() throws Exception {
+        SingleFlight<Long, String> flights = new SingleFlight<>("test");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            // The first caller blocks inside the loader until all the others have joined its flight
+            Future<String> leader = executor.submit(() -> flights.execute(1L, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "todo-1";
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < CALLERS; i++) {
+                followers.add(executor.submit(() -> flights.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "unexpected";
+                })));
+            }
+            waitUntil(() -> flights.getCoalesced() == CALLERS - 1);
+            releaseLoader.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("todo-1");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("todo-1");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(flights.getCalls()).isEqualTo(CALLERS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_runLoaderAgain_whenPreviousFlightHasCompleted() {
+        SingleFlight<Long, String> flights = new SingleFlight<>("test");
+        AtomicInteger loads = new AtomicInteger();
+
+        flights.execute(1L, () -> "v" + loads.incrementAndGet());
+        String second = flights.execute(1L, () -> "v" + loads.incrementAndGet());
+
+        // No caching: sequential calls each load
+        assertThat(second).isEqualTo("v2");
+        assertThat(flights.getCoalesced()).isZero();
+    }
+
+    @Test
+    void should_propagateLoaderException_toTheCaller() {
+        SingleFlight<Long, String> flights = new SingleFlight<>("test");
+
+        assertThatThrownBy(() -> flights.execute(1L, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+        // The failed flight is gone, the next call loads again
+        assertThat(flights.execute(1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
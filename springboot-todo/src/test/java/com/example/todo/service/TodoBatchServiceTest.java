@@ -0,0 +1,277 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.BatchOperation;
+import com.example.todo.dto.BatchOperationResult;
+import com.example.todo.dto.BatchRequest;
+import com.example.todo.dto.BatchResponse;
+import com.example.todo.dto.TodoRequest;
+import com.example.todo.dto.TodoResponse;
+import com.example.todo.limiter.AdaptiveConcurrencyLimiter;
+import com.example.todo.tenant.TenantContext;
+import com.example.todo.tenant.TenantInterceptor;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoBatchServiceTest {
+
+    private static final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final InMemoryTodoService todoService = new InMemoryTodoService();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AdaptiveConcurrencyLimiter readLimiter =
+            new AdaptiveConcurrencyLimiter("read", 10, 1, 10, Duration.ofSeconds(10), 0.9);
+    private final TenantInterceptor tenantQuota = new TenantInterceptor(10, 1);
+    private final TodoBatchService batchService = new TodoBatchService(todoService,
+            new StaticListableBeanFactory(Map.of("transactionManager", transactionManager))
+                    .getBeanProvider(PlatformTransactionManager.class),
+            new StaticListableBeanFactory().getBeanProvider(TodoCountCache.class),
+            new StaticListableBeanFactory(Map.of("readConcurrencyLimiter", readLimiter))
+                    .getBeanProvider(AdaptiveConcurrencyLimiter.class),
+            new StaticListableBeanFactory(Map.of("tenantInterceptor", tenantQuota)).getBeanProvider(TenantInterceptor.class),
+            validator, 5, 4, 4, 2000);
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    void should_runCreateGetAndPage_inOneBatch_withReferenceToCreatedId() {
+        todoService.createTodo(todo("Existing"));
+
+        BatchResponse response = batchService.execute(batch(false,
+                create("Buy milk"),
+                get("$0"),
+                get("1"),
+                page(0, 10)));
+
+        List<BatchOperationResult> results = response.getResults();
+        assertThat(results).extracting(BatchOperationResult::getStatus).containsExactly(201, 200, 200, 200);
+        assertThat(((TodoResponse) results.get(1).getBody()).getTitle()).isEqualTo("Buy milk");
+        assertThat(((TodoResponse) results.get(2).getBody()).getTitle()).isEqualTo("Existing");
+        // The read after the create sees it
+        assertThat(((Page<?>) results.get(3).getBody()).getTotalElements()).isEqualTo(2);
+        assertThat(response.isRolledBack()).isFalse();
+    }
+
+    @Test
+    void should_reportPerOperationStatuses_andContinue_whenNotTransactional() {
+        BatchResponse response = batchService.execute(batch(false,
+                get("404"),
+                op("delete"),
+                page(0, 10, "foo,asc"),
+                create("Still created")));
+
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(404, 400, 400, 201);
+        assertThat(response.getResults().get(0).getError().getCode()).isEqualTo("NOT_FOUND");
+        assertThat(todoService.getAll().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_failDependentGet_whenReferencedCreateFailed() {
+        BatchResponse response = batchService.execute(batch(false, op("create"), get("$0"), get("$5")));
+
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(400, 424, 400);
+    }
+
+    @Test
+    void should_rollBack_andSkipTheRest_whenAnOperationOfATransactionalBatchFails() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        BatchResponse response = batchService.execute(batch(true, create("First"), get("999"), create("Never")));
+
+        assertThat(response.isRolledBack()).isTrue();
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(201, 404, 424);
+        verify(transactionManager).rollback(any(TransactionStatus.class));
+        verify(transactionManager, never()).commit(any());
+        // Never reached the service
+        assertThat(todoService.getAll().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_commit_whenAllOperationsOfATransactionalBatchSucceed() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        BatchResponse response = batchService.execute(batch(true, create("A"), create("B"), get("$1")));
+
+        assertThat(response.isRolledBack()).isFalse();
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(201, 201, 200);
+        verify(transactionManager).commit(any(TransactionStatus.class));
+    }
+
+    @Test
+    void should_runManyIndependentReads_andKeepRequestOrder() {
+        for (int i = 1; i <= 5; i++) {
+            todoService.createTodo(todo("Todo " + i));
+        }
+
+        BatchResponse response = batchService.execute(batch(false, get("5"), get("4"), get("3"), get("2"), get("1")));
+
+        assertThat(response.getResults()).extracting(result -> ((TodoResponse) result.getBody()).getTitle())
+                .containsExactly("Todo 5", "Todo 4", "Todo 3", "Todo 2", "Todo 1");
+    }
+
+    // Scenario: the read limiter is full (limit 1, taken by another request) when a batch of 5 reads starts
+    // Expected: no helper thread is started (one rejected attempt), the request thread runs all the reads
+    @Test
+    void should_runReadsOnRequestThread_whenReadLimiterHasNoFreeSlot() {
+        AdaptiveConcurrencyLimiter fullLimiter = new AdaptiveConcurrencyLimiter("read", 1, 1, 1, Duration.ofSeconds(10), 0.9);
+        assertThat(fullLimiter.tryAcquire()).isTrue();
+        TodoBatchService limitedBatchService = batchService(fullLimiter, tenantQuota);
+        for (int i = 1; i <= 5; i++) {
+            todoService.createTodo(todo("Todo " + i));
+        }
+
+        try {
+            BatchResponse response = limitedBatchService.execute(batch(false, get("1"), get("2"), get("3"), get("4"), get("5")));
+
+            assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(200, 200, 200, 200, 200);
+            assertThat(fullLimiter.getRejected()).isEqualTo(1);
+            assertThat(fullLimiter.getInFlight()).isEqualTo(1);
+            assertThat(tenantQuota.getInFlight(TenantContext.DEFAULT_TENANT)).isZero();
+        } finally {
+            limitedBatchService.shutdown();
+        }
+    }
+
+    // Scenario: the tenant already uses its whole quota (1 request, the batch itself) when its batch of reads starts
+    // Expected: no helper thread and no read limiter slot is taken, the reads still succeed
+    @Test
+    void should_runReadsOnRequestThread_whenTenantQuotaIsUsed() {
+        TenantInterceptor fullQuota = new TenantInterceptor(1, 1);
+        assertThat(fullQuota.tryAcquire(TenantContext.DEFAULT_TENANT)).isTrue();
+        TodoBatchService limitedBatchService = batchService(readLimiter, fullQuota);
+        for (int i = 1; i <= 5; i++) {
+            todoService.createTodo(todo("Todo " + i));
+        }
+
+        try {
+            BatchResponse response = limitedBatchService.execute(batch(false, get("1"), get("2"), get("3"), get("4"), get("5")));
+
+            assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(200, 200, 200, 200, 200);
+            assertThat(fullQuota.getInFlight(TenantContext.DEFAULT_TENANT)).isEqualTo(1);
+            assertThat(readLimiter.getInFlight()).isZero();
+            assertThat(readLimiter.getRejected()).isZero();
+        } finally {
+            limitedBatchService.shutdown();
+        }
+    }
+
+    // Scenario: a batch of reads with free slots
+    // Expected: the helper threads give their limiter and quota slots back once the batch is done
+    @Test
+    void should_releaseHelperSlots_whenBatchIsDone() {
+        for (int i = 1; i <= 5; i++) {
+            todoService.createTodo(todo("Todo " + i));
+        }
+
+        batchService.execute(batch(false, get("1"), get("2"), get("3"), get("4"), get("5")));
+
+        assertThat(readLimiter.getInFlight()).isZero();
+        assertThat(tenantQuota.getInFlight(TenantContext.DEFAULT_TENANT)).isZero();
+    }
+
+    // Scenario: a page operation asking for 5000 todos, like /paginated?size=5000
+    // Expected: the page size is capped at 2000
+    @Test
+    void should_capPageSize() {
+        BatchResponse response = batchService.execute(batch(false, page(0, 5000)));
+
+        assertThat(((Page<?>) response.getResults().get(0).getBody()).getSize()).isEqualTo(2000);
+    }
+
+    // Scenario: create operations with a blank title and with a 300-character description
+    // Expected: a 400 VALIDATION_FAILED for each, nothing created, the valid create of the batch still runs
+    @Test
+    void should_rejectInvalidCreateBodies_perOperation() {
+        TodoRequest tooLong = todo("Long description");
+        tooLong.setDescription("x".repeat(300));
+        BatchOperation longCreate = op("create");
+        longCreate.setBody(tooLong);
+
+        BatchResponse response = batchService.execute(batch(false, create(" "), longCreate, create("Valid")));
+
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(400, 400, 201);
+        assertThat(response.getResults().get(0).getError().getCode()).isEqualTo("VALIDATION_FAILED");
+        assertThat(response.getResults().get(0).getError().getMessage()).contains("Title is required");
+        assertThat(response.getResults().get(1).getError().getMessage()).contains("Description must be at most 255 characters");
+        assertThat(todoService.getAll().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_reject_emptyOrTooLargeBatches() {
+        assertThatThrownBy(() -> batchService.execute(batch(false))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batchService.execute(batch(false, get("1"), get("1"), get("1"), get("1"), get("1"), get("1"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("max 5");
+    }
+
+    private TodoBatchService batchService(AdaptiveConcurrencyLimiter limiter, TenantInterceptor quota) {
+        return new TodoBatchService(todoService,
+                new StaticListableBeanFactory(Map.of("transactionManager", transactionManager))
+                        .getBeanProvider(PlatformTransactionManager.class),
+                new StaticListableBeanFactory().getBeanProvider(TodoCountCache.class),
+                new StaticListableBeanFactory(Map.of("readConcurrencyLimiter", limiter))
+                        .getBeanProvider(AdaptiveConcurrencyLimiter.class),
+                new StaticListableBeanFactory(Map.of("tenantInterceptor", quota)).getBeanProvider(TenantInterceptor.class),
+                validator, 5, 4, 4, 2000);
+    }
+
+    private static BatchRequest batch(boolean transactional, BatchOperation... operations) {
+        BatchRequest request = new BatchRequest();
+        request.setTransactional(transactional);
+        request.setOperations(List.of(operations));
+        return request;
+    }
+
+    private static BatchOperation op(String name) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(name);
+        return operation;
+    }
+
+    private static BatchOperation create(String title) {
+        BatchOperation operation = op("create");
+        operation.setBody(todo(title));
+        return operation;
+    }
+
+    private static BatchOperation get(String id) {
+        BatchOperation operation = op("get");
+        operation.setId(id);
+        return operation;
+    }
+
+    private static BatchOperation page(int page, int size, String... sort) {
+        BatchOperation operation = op("page");
+        operation.setPage(page);
+        operation.setSize(size);
+        operation.setSort(List.of(sort));
+        return operation;
+    }
+
+    private static TodoRequest todo(String title) {
+        TodoRequest request = new TodoRequest();
+        request.setTitle(title);
+        return request;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.todo.service;
+
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoCountCacheTest {
+
+    private final TodoRepository repository = mock(TodoRepository.class);
+
+    @Test
+    void should_countOnce_andThenTrackAdditions_whenNotStale() {
+        when(repository.count()).thenReturn(10L);
+        TodoCountCache countCache = new TodoCountCache(repository, 0, 100);
+
+        assertThat(countCache.get()).isEqualTo(10);
+        countCache.add(1);
+        countCache.add(5);
+
+        assertThat(countCache.get()).isEqualTo(16);
+        verify(repository, times(1)).count();
+    }
+
+    @Test
+    void should_recount_whenOlderThanStalenessBound() throws InterruptedException {
+        when(repository.count()).thenReturn(10L, 42L);
+        TodoCountCache countCache = new TodoCountCache(repository, 1, 100);
+
+        assertThat(countCache.get()).isEqualTo(10);
+        Thread.sleep(5);
+
+        // e.g. rows inserted by another instance
+        assertThat(countCache.get()).isEqualTo(42);
+    }
+
+    @Test
+    void should_recount_whenInvalidated() {
+        when(repository.count()).thenReturn(10L, 3L);
+        TodoCountCache countCache = new TodoCountCache(repository, 0, 100);
+        countCache.get();
+
+        countCache.invalidate();
+        countCache.add(1);
+
+        assertThat(countCache.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_keepOneCountPerTenant() {
+        when(repository.count()).thenReturn(10L, 20L);
+        TodoCountCache countCache = new TodoCountCache(repository, 0, 100);
+
+        try (TenantContext.Scope scope = TenantContext.use("tenant-a")) {
+            assertThat(countCache.get()).isEqualTo(10);
+            countCache.add(1);
+        }
+        try (TenantContext.Scope scope = TenantContext.use("tenant-b")) {
+            assertThat(countCache.get()).isEqualTo(20);
+        }
+        try (TenantContext.Scope scope = TenantContext.use("tenant-a")) {
+            assertThat(countCache.get()).isEqualTo(11);
+        }
+    }
+
+    // Scenario: 12 tenants with room for 10, tenant-0 used again before tenant-10 and tenant-11 come in
+    // Expected: the map stays at 10 tenants, the least recently used ones are dropped and counted again on next use,
+    // tenant-0 keeps its adjusted count
+    @Test
+    void should_dropLeastRecentlyUsedTenants_whenOverMaxTenants() throws InterruptedException {
+        when(repository.count()).thenReturn(10L);
+        TodoCountCache countCache = new TodoCountCache(repository, 0, 10);
+        for (int i = 0; i < 10; i++) {
+            try (TenantContext.Scope ignored = TenantContext.use("tenant-" + i)) {
+                countCache.get();
+            }
+            Thread.sleep(1);
+        }
+        try (TenantContext.Scope ignored = TenantContext.use("tenant-0")) {
+            countCache.add(1);
+            countCache.get();
+        }
+
+        for (int i = 10; i < 12; i++) {
+            try (TenantContext.Scope ignored = TenantContext.use("tenant-" + i)) {
+                countCache.get();
+            }
+        }
+
+        assertThat(countCache.size()).isEqualTo(10);
+        try (TenantContext.Scope ignored = TenantContext.use("tenant-0")) {
+            assertThat(countCache.get()).isEqualTo(11);
+        }
+        verify(repository, times(12)).count();
+    }
+}
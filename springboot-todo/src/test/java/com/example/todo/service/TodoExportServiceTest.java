@@ -0,0 +1,71 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TodoEntity;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TodoExportServiceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void should_writeRfc4180Csv_orderedById() {
+        todoRepository.deleteAll();
+        List<TodoEntity> saved = todoRepository.saveAll(List.of(
+                todo("Buy groceries", "Milk, eggs and \"fresh\" bread"),
+                todo("Café ☕ 😀", null),
+                todo("Workout", "1 hour\ngym session")));
+        // Small fetch size, so the rows come in several round trips
+        TodoExportService exportService = new TodoExportService(new JdbcTemplate(dataSource), 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.writeCsv(TenantContext.DEFAULT_TENANT, out);
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,description\r\n"
+                        + saved.get(0).getId() + ",Buy groceries,\"Milk, eggs and \"\"fresh\"\" bread\"\r\n"
+                        + saved.get(1).getId() + ",Café ☕ 😀,\r\n"
+                        + saved.get(2).getId() + ",Workout,\"1 hour\ngym session\"\r\n");
+    }
+
+    @Test
+    void should_exportOnlyTheRowsOfTheGivenTenant() {
+        todoRepository.deleteAll();
+        TodoEntity mine = todoRepository.saveAndFlush(todo("Mine", null));
+        // Another tenant's row, inserted behind Hibernate's tenant filter
+        new JdbcTemplate(dataSource).update("INSERT INTO todos (id, tenant_id, title) VALUES (?, 'other', 'Not mine')", mine.getId() + 1);
+        TodoExportService exportService = new TodoExportService(new JdbcTemplate(dataSource), 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.writeCsv(TenantContext.DEFAULT_TENANT, out);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("Not mine");
+        // Hibernate does not see it either
+        assertThat(todoRepository.findAll()).extracting(TodoEntity::getTitle).containsExactly("Mine");
+    }
+
+    private static TodoEntity todo(String title, String description) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setDescription(description);
+        return todo;
+    }
+}
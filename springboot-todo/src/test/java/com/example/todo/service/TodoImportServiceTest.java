@@ -0,0 +1,142 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.ImportResponse;
+import com.example.todo.model.TodoEntity;
+import com.example.todo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TodoImportService against the test H2 database.
+ * Not transactional, the service commits one transaction per batch.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoImportServiceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @TempDir
+    Path directory;
+
+    private TodoImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        // Batches of 2 rows, so the small files below span several batches and checkpoints
+        importService = new TodoImportService(new JdbcTemplate(dataSource), transactionManager,
+                new TodoCountCache(todoRepository, 0, 100), new ObjectMapper(),
+                directory.toString(), 2, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    @Test
+    void should_importValidCsvRows_andRejectInvalidOnes() throws IOException {
+        Path file = Files.writeString(directory.resolve("todos.csv"), """
+                description,title
+                "Milk, eggs and ""fresh"" bread",Buy groceries
+                1 hour gym session,Workout
+                no title,
+                Finish chapter 5,Read book
+                """);
+
+        ImportResponse response = importService.importFile(file, true);
+
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(todoRepository.findAll())
+                .extracting(TodoEntity::getTitle, TodoEntity::getDescription)
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder(
+                        "(Buy groceries, Milk, eggs and \"fresh\" bread)",
+                        "(Workout, 1 hour gym session)",
+                        "(Read book, Finish chapter 5)");
+        assertThat(directory.resolve("todos.csv.checkpoint")).doesNotExist();
+    }
+
+    // Scenario: CSV with extra columns and multi-byte UTF-8 in quoted and unquoted fields
+    // Expected: the fields are split on the bytes and decoded intact, the extra columns are ignored
+    @Test
+    void should_decodeUtf8Fields_whenCsvHasExtraColumns() throws IOException {
+        Path file = Files.writeString(directory.resolve("todos.csv"), """
+                id,title,owner,description
+                1,Café au lait,"Zoë, ""the"" barista",Prix: 3 €
+                2,"Réunion, 10h",Zoë,
+                """);
+
+        ImportResponse response = importService.importFile(file, true);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isZero();
+        assertThat(todoRepository.findAll())
+                .extracting(TodoEntity::getTitle, TodoEntity::getDescription)
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder("(Café au lait, Prix: 3 €)", "(Réunion, 10h, null)");
+    }
+
+    @Test
+    void should_importNdjsonRecords() throws IOException {
+        Path file = Files.writeString(directory.resolve("todos.ndjson"), """
+                {"title": "Buy groceries", "description": "Milk", "tags": ["ignored"]}
+                {"title": "Workout"}
+                {"title": "broken"
+                {"description": "no title"}
+                """);
+
+        ImportResponse response = importService.importFile(file, true);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(todoRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void should_continueFromCheckpoint_whenResuming() throws IOException {
+        String rows = "title\nfirst\nsecond\nthird\n";
+        Path file = Files.writeString(directory.resolve("resume.csv"), rows);
+        // As if a previous run committed the first batch ("first", "second") and then died
+        Files.writeString(directory.resolve("resume.csv.checkpoint"),
+                "offset=" + "title\nfirst\nsecond\n".length() + "\nline=3\nimported=2\nrejected=0\n");
+
+        ImportResponse response = importService.importFile(file, true);
+
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(todoRepository.findAll()).extracting(TodoEntity::getTitle).containsExactly("third");
+    }
+
+    @Test
+    void should_rejectFilesOutsideTheImportDirectory() {
+        assertThatThrownBy(() -> importService.resolve("../outside.csv"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("inside the import directory");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.todo.tenant;
+
+import com.example.todo.exception.TenantQuotaExceededException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantInterceptorTest {
+
+    private final TenantInterceptor interceptor = new TenantInterceptor(2, 1);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void should_setTenantFromHeader_andClearItAfterTheRequest() {
+        MockHttpServletRequest request = request("client-1");
+
+        interceptor.preHandle(request, response, null);
+        assertThat(TenantContext.current()).isEqualTo("client-1");
+        assertThat(interceptor.getInFlight("client-1")).isEqualTo(1);
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+        assertThat(interceptor.getInFlight("client-1")).isZero();
+    }
+
+    @Test
+    void should_rejectOnlyTheTenantOverItsQuota() {
+        MockHttpServletRequest first = request("busy");
+        MockHttpServletRequest second = request("busy");
+        interceptor.preHandle(first, response, null);
+        interceptor.afterCompletion(first, response, null, null);
+        // Requests still in progress: no afterCompletion yet, only the thread's tenant is cleared
+        interceptor.preHandle(first, response, null);
+        interceptor.preHandle(second, response, null);
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("busy"), response, null))
+                .isInstanceOf(TenantQuotaExceededException.class);
+        MockHttpServletRequest other = request("quiet");
+        assertThat(interceptor.preHandle(other, response, null)).isTrue();
+
+        // Reverse order: all on this one test thread, each request restores the tenant it found
+        interceptor.afterCompletion(other, response, null, null);
+        interceptor.afterCompletion(second, response, null, null);
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.getInFlight("busy")).isZero();
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+    }
+
+    // Scenario: a handler starts async processing (the CSV export), then the async dispatch completes.
+    // Expected: the tenant is cleared from the servlet thread as soon as it is released, the quota slot
+    // is held until afterCompletion of the async dispatch.
+    @Test
+    void should_clearTenantWhenAsyncStarts_andKeepTheSlotUntilTheAsyncDispatchCompletes() {
+        MockHttpServletRequest request = request("exporter");
+
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+        assertThat(interceptor.getInFlight("exporter")).isEqualTo(1);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        assertThat(TenantContext.current()).isEqualTo("exporter");
+        assertThat(interceptor.getInFlight("exporter")).isEqualTo(1);
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+        assertThat(interceptor.getInFlight("exporter")).isZero();
+    }
+
+    @Test
+    void should_rejectInvalidClientIds() {
+        assertThatThrownBy(() -> interceptor.preHandle(request("../etc"), response, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor.preHandle(request("x".repeat(65)), response, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_useDefaultTenant_whenHeaderIsMissing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos/all");
+
+        interceptor.preHandle(request, response, null);
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+        assertThat(interceptor.getInFlight(TenantContext.DEFAULT_TENANT)).isEqualTo(1);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos/paginated");
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.winttodo;
+
+import com.example.winttodo.service.H2SnapshotService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restores the last H2 snapshot on application startup (see H2SnapshotService).
+ * Runs with the highest precedence, so before TodoDataSeeder (which then finds the todos and skips seeding).
+ * Runners are called before the ApplicationReadyEvent, so the readiness state only switches to
+ * ACCEPTING_TRAFFIC once the restore is complete.
+ * Enable with app.snapshot.enabled=true and app.snapshot.restore-on-startup=true
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = {"app.snapshot.enabled", "app.snapshot.restore-on-startup"}, havingValue = "true")
+public class SnapshotRestoreRunner implements ApplicationRunner {
+
+    private final H2SnapshotService snapshotService;
+
+    public SnapshotRestoreRunner(H2SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        snapshotService.restore();
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.winttodo;
 
-import com.example.winttodo.model.TodoEntity;
 import com.example.winttodo.repository.TodoRepository;
+import com.example.winttodo.seed.TodoSeedGenerator;
+import com.example.winttodo.seed.TodoSeedGenerator.SeedTodo;
+import com.example.winttodo.seed.TodoSeedWriter;
+import com.example.winttodo.seed.TodoSeedWriter.SeedIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,23 +12,60 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-import java.util.Random;
-
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TodoDataSeeder class
+ * Fills the empty database with app.initial-todo-count generated todos (up to millions), with tags, comments,
+ * history, due dates and assignees (see TodoSeedGenerator), to have representative volumes for the listings.
+ * - The ids are cut in chunks of app.seed.batch-size todos; a fork-join pool of app.seed.parallelism threads
+ *   splits the chunk range until one task per chunk, each task generates its chunk and writes it with
+ *   JDBC batches in its own transaction (TodoSeedWriter).
+ * - Each chunk has its own random seed (app.seed.random-seed + chunk), so the data set is the same on every run,
+ *   whatever the thread that generated a chunk.
+ * - The todo ids are reserved from todos_seq before anything is written (TodoSeedWriter.reserveTodoIds): the
+ *   application already takes requests while seeding, and its creates must not get an id of a seeded todo.
+ * - Progress is logged every 5% instead of one line per todo.
+ * Keep the parallelism below the size of the connection pool (10 by default): every task holds a connection.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
 @Component
 @Profile("dev") // Optional: only runs on 'dev' profile (omit if you want always)
 public class TodoDataSeeder implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(TodoDataSeeder.class);
     private final TodoRepository todoRepository;
+    private final TodoSeedWriter todoSeedWriter;
 
     @Value("${app.initial-todo-count:12}") // default to 12 if not set
     private int seedCount;
 
-    private final int MAX_TODOS = 12; // max 12 demo todos available
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.seed.user-count:1000}")
+    private int userCount;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    private final int MAX_TODOS = 10_000_000; // upper bound of a seeding run
 
-    public TodoDataSeeder(TodoRepository todoRepository) {
+    public TodoDataSeeder(TodoRepository todoRepository, TodoSeedWriter todoSeedWriter) {
         this.todoRepository = todoRepository;
+        this.todoSeedWriter = todoSeedWriter;
     }
 
     @Override
@@ -36,40 +76,95 @@ public class TodoDataSeeder implements CommandLineRunner {
         }
 
         int count = Math.max(1, Math.min(seedCount, MAX_TODOS)); // ensure between 1 and MAX_TODOS
-        logger.info("Seeding {} demo todos...", count);
-
-        // Example pool of fake user IDs
-        long[] userIds = {101L, 102L, 103L, 104L, 105L, 106L};
-        Random rand = new Random();
+        int chunkSize = Math.max(1, batchSize);
+        int chunks = (count + chunkSize - 1) / chunkSize;
+        int threads = Math.max(1, parallelism);
+        logger.info("Seeding {} todos in {} batches of {} on {} threads...", count, chunks, chunkSize, threads);
+
+        Progress progress = new Progress(count);
+        SeedIds ids = todoSeedWriter.reserveTodoIds(count);
+        TodoSeedGenerator generator = new TodoSeedGenerator(userCount, LocalDateTime.now());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new SeedTask(0, chunks, count, chunkSize, ids, generator, progress));
+        } finally {
+            pool.shutdown();
+        }
 
-        for (int i = 1; i <= count; i++) {
-            TodoEntity todo = new TodoEntity();
-            todo.setTitle("Task #" + i);
-            todo.setDescription("This is the description for task #" + i + ".");
+        long elapsedMs = Math.max(1, progress.elapsedMs());
+        logger.info("Inserted {} todos ({} rows in all tables) in {} ms: {} todos/s, {} rows/s",
+                count, progress.rows.get(), elapsedMs, count * 1000L / elapsedMs, progress.rows.get() * 1000 / elapsedMs);
+    }
 
-            // Assign a random due date: 1–30 days in the future
-            int daysToAdd = rand.nextInt(30) + 1;
-            LocalDate dueDate = LocalDate.now().plusDays(daysToAdd);
-            todo.setDueDate(dueDate);
+    /** Seeds the chunks [fromChunk, toChunk): splits the range in two until a single chunk is left */
+    private class SeedTask extends RecursiveAction {
+        private final int fromChunk;
+        private final int toChunk;
+        private final int count;
+        private final int chunkSize;
+        private final SeedIds ids;
+        private final TodoSeedGenerator generator;
+        private final Progress progress;
+
+        SeedTask(int fromChunk, int toChunk, int count, int chunkSize, SeedIds ids, TodoSeedGenerator generator,
+                 Progress progress) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.count = count;
+            this.chunkSize = chunkSize;
+            this.ids = ids;
+            this.generator = generator;
+            this.progress = progress;
+        }
 
-            // Assign a random user from the pool
-            long assignedUserId = userIds[rand.nextInt(userIds.length)];
-            todo.setAssignedUserId(assignedUserId);
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new SeedTask(fromChunk, middle, count, chunkSize, ids, generator, progress),
+                        new SeedTask(middle, toChunk, count, chunkSize, ids, generator, progress));
+                return;
+            }
+            // todos 0..count-1, chunk c holds [c * chunkSize, (c + 1) * chunkSize), each with its reserved id
+            int first = fromChunk * chunkSize;
+            int last = Math.min(count, first + chunkSize) - 1;
+            SplittableRandom random = new SplittableRandom(randomSeed + fromChunk);
+            List<SeedTodo> todos = new ArrayList<>(last - first + 1);
+            for (int todo = first; todo <= last; todo++) {
+                todos.add(generator.generate(ids.get(todo), random));
+            }
+            progress.add(todos.size(), todoSeedWriter.write(todos));
+        }
+    }
 
-            // Set every 3rd task as archived for variety
-            todo.setArchived(i % 3 == 0);
+    /** Counts the inserted todos and logs every 5% */
+    private static class Progress {
+        private static final int STEPS = 20;
 
-            // Add optional tags to every 2nd task
-            if (i % 2 == 0) {
-                todo.getTags().add("demo");
-                todo.getTags().add("sample");
-            }
+        private final int total;
+        private final long start = System.nanoTime();
+        private final AtomicLong todos = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicInteger reportedStep = new AtomicInteger();
 
-            todoRepository.save(todo);
+        Progress(int total) {
+            this.total = total;
+        }
 
-            logger.info("Inserted demo todo: {}, due {}, assigned to {}", todo.getTitle(), dueDate, assignedUserId);
+        void add(int todoCount, long rowCount) {
+            long done = todos.addAndGet(todoCount);
+            rows.addAndGet(rowCount);
+            int step = (int) (done * STEPS / total);
+            int reported = reportedStep.get();
+            // one thread logs each step, smaller steps reached concurrently are skipped
+            if (step > reported && step < STEPS && reportedStep.compareAndSet(reported, step)) {
+                long elapsedMs = Math.max(1, elapsedMs());
+                logger.info("Seeded {}/{} todos ({}%), {} todos/s", done, total, step * 100 / STEPS, done * 1000 / elapsedMs);
+            }
         }
 
-        logger.info("Inserted {} todo(s) with random due dates and assignee.", count);
+        long elapsedMs() {
+            return (System.nanoTime() - start) / 1_000_000;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.example.winttodo.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * TodoArchiveJob class
+ * Background job moving the archived todos out of the live tables, batch after batch (see TodoArchiveStore.moveArchived).
+ * Every batch is its own short transaction, so requests on the live tables only ever wait for one batch.
+ * A run stops when a batch comes back short (nothing left to move) or after max-batches-per-run batches.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class TodoArchiveJob {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoArchiveJob.class);
+
+    private final TodoArchiveStore todoArchiveStore;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TodoArchiveJob(TodoArchiveStore todoArchiveStore,
+                          @Value("${app.archive.batch-size:500}") int batchSize,
+                          @Value("${app.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        if (batchSize < 1 || maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("app.archive.batch-size and app.archive.max-batches-per-run must be at least 1");
+        }
+        this.todoArchiveStore = todoArchiveStore;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Move the archived todos to the archive tables
+     * @return Number of todos moved by this run
+     */
+    @Scheduled(initialDelayString = "${app.archive.initial-delay-ms:60000}", fixedDelayString = "${app.archive.interval-ms:300000}")
+    public int archive() {
+        long start = System.nanoTime();
+        int moved = 0;
+        int batches = 0;
+        int lastBatch;
+        do {
+            lastBatch = todoArchiveStore.moveArchived(batchSize);
+            moved += lastBatch;
+            batches++;
+        } while (lastBatch == batchSize && batches < maxBatchesPerRun);
+        if (moved > 0) {
+            logger.info("Moved {} archived todos to the archive in {} batches ({} ms)",
+                    moved, batches, (System.nanoTime() - start) / 1_000_000);
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.winttodo.archive;
+
+import com.example.winttodo.dto.CommentResponse;
+import com.example.winttodo.dto.HistoryEventResponse;
+import com.example.winttodo.model.TodoEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TodoArchiveStore class
+ * Cold store for archived todos: todos_archive, todo_tags_archive, todo_comments_archive and todo_history_archive.
+ * - moveArchived(): moves one batch of archived todos (with their tags, comments and history) out of the live tables,
+ *   INSERT ... SELECT then DELETE in one transaction, so a todo is always in exactly one of the two stores.
+ *   The todo rows of the batch are locked first (FOR UPDATE); appends lock the same row and refuse archived todos
+ *   (TodoActivityServiceImpl), so no comment or history row can be committed between the copy and the delete.
+ * - The find methods return archived todos as detached TodoEntity objects (archived = true, tags filled in),
+ *   so the service merges them with the live rows like any other todo.
+ * The live tables then only hold live data: the archived = false ranges of their indexes stay dense.
+ * The archive tables are created here (H2 SQL, like H2SnapshotService) and are never updated, only appended to.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Repository
+public class TodoArchiveStore implements InitializingBean {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoArchiveStore.class);
+
+    private static final String TODO_COLUMNS = "id, title, description, completed, completed_at, assigned_user_id, due_date";
+
+    private static final List<String> SCHEMA = List.of(
+            """
+            CREATE TABLE IF NOT EXISTS todos_archive (
+                id BIGINT PRIMARY KEY,
+                title VARCHAR(255),
+                description VARCHAR(255),
+                completed BOOLEAN NOT NULL,
+                completed_at TIMESTAMP(6),
+                assigned_user_id BIGINT,
+                due_date DATE,
+                archived_at TIMESTAMP(6) NOT NULL
+            )""",
+            "CREATE INDEX IF NOT EXISTS idx_todos_archive_due_date_id ON todos_archive (due_date, id)",
+            "CREATE INDEX IF NOT EXISTS idx_todos_archive_assignee ON todos_archive (assigned_user_id, completed, due_date)",
+            "CREATE TABLE IF NOT EXISTS todo_tags_archive (todo_id BIGINT NOT NULL, tag VARCHAR(255))",
+            "CREATE INDEX IF NOT EXISTS idx_todo_tags_archive_todo_id ON todo_tags_archive (todo_id)",
+            """
+            CREATE TABLE IF NOT EXISTS todo_comments_archive (
+                id BIGINT PRIMARY KEY,
+                todo_id BIGINT NOT NULL,
+                comment VARCHAR(2000),
+                author VARCHAR(255),
+                created_at TIMESTAMP(6) NOT NULL
+            )""",
+            "CREATE INDEX IF NOT EXISTS idx_todo_comments_archive_todo_id_created_at ON todo_comments_archive (todo_id, created_at)",
+            """
+            CREATE TABLE IF NOT EXISTS todo_history_archive (
+                id BIGINT PRIMARY KEY,
+                todo_id BIGINT NOT NULL,
+                event VARCHAR(255),
+                actor VARCHAR(255),
+                details VARCHAR(2000),
+                created_at TIMESTAMP(6) NOT NULL
+            )""",
+            "CREATE INDEX IF NOT EXISTS idx_todo_history_archive_todo_id_created_at ON todo_history_archive (todo_id, created_at)"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TodoArchiveStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SCHEMA.forEach(ddl -> jdbcTemplate.getJdbcOperations().execute(ddl));
+    }
+
+    /**
+     * Move the oldest archived todos (by id) of the live tables to the archive tables
+     * @param batchSize Maximum number of todos moved
+     * @return Number of todos moved, less than batchSize when there is nothing left to move
+     */
+    @Transactional
+    public int moveArchived(int batchSize) {
+        // a range of idx_todos_archived_id; the rows stay locked until the commit, see the class comment
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM todos WHERE archived = TRUE ORDER BY id LIMIT :limit FOR UPDATE",
+                new MapSqlParameterSource("limit", batchSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("INSERT INTO todos_archive (" + TODO_COLUMNS + ", archived_at) SELECT " + TODO_COLUMNS
+                + ", CURRENT_TIMESTAMP FROM todos WHERE id IN (:ids)", params);
+        jdbcTemplate.update("INSERT INTO todo_tags_archive (todo_id, tag) SELECT todo_id, tag FROM todo_tags WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("INSERT INTO todo_comments_archive (id, todo_id, comment, author, created_at) "
+                + "SELECT id, todo_id, comment, author, created_at FROM todo_comments WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("INSERT INTO todo_history_archive (id, todo_id, event, actor, details, created_at) "
+                + "SELECT id, todo_id, event, actor, details, created_at FROM todo_history WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM todo_tags WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM todo_comments WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM todo_history WHERE todo_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM todos WHERE id IN (:ids)", params);
+        logger.debug("Moved {} archived todos to the archive (ids {} to {})", ids.size(), ids.get(0), ids.get(ids.size() - 1));
+        return ids.size();
+    }
+
+    /**
+     * @return Number of todos in the archive
+     */
+    public long count() {
+        Long count = jdbcTemplate.getJdbcOperations().queryForObject("SELECT COUNT(*) FROM todos_archive", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Number of todos per (assignee, archived, completed) in the live and the archive tables together.
+     * One statement, so H2 reads both tables from the same snapshot: a batch moved by moveArchived() meanwhile
+     * is counted once, either still live or already archived. A full scan, run by the stats reconciliation job only.
+     * @param today Todos due before this day are counted as overdue
+     * @return One StatusCount per (assignee, archived, completed)
+     */
+    public List<StatusCount> countByAssigneeAndStatus(LocalDate today) {
+        return jdbcTemplate.query("""
+                SELECT assigned_user_id, archived, completed, COUNT(*) AS todo_count,
+                       SUM(CASE WHEN due_date < :today THEN 1 ELSE 0 END) AS overdue_count
+                FROM (SELECT assigned_user_id, archived, completed, due_date FROM todos
+                      UNION ALL
+                      SELECT assigned_user_id, TRUE, completed, due_date FROM todos_archive) t
+                GROUP BY assigned_user_id, archived, completed""",
+                new MapSqlParameterSource("today", today), (rs, rowNum) -> {
+                    long userId = rs.getLong("assigned_user_id");
+                    return new StatusCount(rs.wasNull() ? null : userId, rs.getBoolean("archived"),
+                            rs.getBoolean("completed"), rs.getLong("todo_count"), rs.getLong("overdue_count"));
+                });
+    }
+
+    /** Todos of one assignee (null: unassigned) in one state, overdue: how many of them are due before the given day */
+    public record StatusCount(Long userId, boolean archived, boolean completed, long count, long overdue) {
+    }
+
+    /**
+     * @param id Todo id
+     * @return true if the todo has been moved to the archive
+     */
+    public boolean exists(long id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM todos_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id), Integer.class).isEmpty();
+    }
+
+    /**
+     * @return Every archived todo with its tags, ordered by id
+     */
+    public List<TodoEntity> findAll() {
+        return withTags(jdbcTemplate.query("SELECT " + TODO_COLUMNS + " FROM todos_archive ORDER BY id", TODO_ROW_MAPPER));
+    }
+
+    /**
+     * Archive counterpart of TodoRepository.findDueAfter: due in [from, to], after (from, afterId), in (due_date, id) order
+     */
+    public List<TodoEntity> findDueAfter(LocalDate from, LocalDate to, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return withTags(jdbcTemplate.query("SELECT " + TODO_COLUMNS + """
+                 FROM todos_archive
+                WHERE due_date >= :from AND due_date <= :to AND (due_date > :from OR id > :afterId)
+                ORDER BY due_date, id LIMIT :limit""", params, TODO_ROW_MAPPER));
+    }
+
+    /**
+     * Archive counterpart of TodoRepository.findAssignedDueAfter
+     */
+    public List<TodoEntity> findAssignedDueAfter(Long userId, boolean completed, LocalDate from, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("completed", completed)
+                .addValue("from", from)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return withTags(jdbcTemplate.query("SELECT " + TODO_COLUMNS + """
+                 FROM todos_archive
+                WHERE assigned_user_id = :userId AND completed = :completed
+                  AND due_date >= :from AND (due_date > :from OR id > :afterId)
+                ORDER BY due_date, id LIMIT :limit""", params, TODO_ROW_MAPPER));
+    }
+
+    /**
+     * Archive counterpart of TodoRepository.findAssignedWithoutDueDateAfter
+     */
+    public List<TodoEntity> findAssignedWithoutDueDateAfter(Long userId, boolean completed, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("completed", completed)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return withTags(jdbcTemplate.query("SELECT " + TODO_COLUMNS + """
+                 FROM todos_archive
+                WHERE assigned_user_id = :userId AND completed = :completed AND due_date IS NULL AND id > :afterId
+                ORDER BY id LIMIT :limit""", params, TODO_ROW_MAPPER));
+    }
+
+    /**
+     * Comments of an archived todo, oldest first
+     */
+    public Page<CommentResponse> findComments(long todoId, Pageable pageable) {
+        MapSqlParameterSource params = pageParams(todoId, pageable);
+        List<CommentResponse> comments = jdbcTemplate.query("""
+                SELECT id, todo_id, comment, author, created_at FROM todo_comments_archive
+                WHERE todo_id = :todoId ORDER BY created_at, id LIMIT :limit OFFSET :offset""", params, (rs, rowNum) -> {
+            CommentResponse commentResponse = new CommentResponse();
+            commentResponse.setId(rs.getLong("id"));
+            commentResponse.setTodoId(rs.getLong("todo_id"));
+            commentResponse.setComment(rs.getString("comment"));
+            commentResponse.setAuthor(rs.getString("author"));
+            commentResponse.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            return commentResponse;
+        });
+        return new PageImpl<>(comments, pageable, countOf("todo_comments_archive", params));
+    }
+
+    /**
+     * History of an archived todo, oldest first
+     */
+    public Page<HistoryEventResponse> findHistory(long todoId, Pageable pageable) {
+        MapSqlParameterSource params = pageParams(todoId, pageable);
+        List<HistoryEventResponse> history = jdbcTemplate.query("""
+                SELECT id, todo_id, event, actor, details, created_at FROM todo_history_archive
+                WHERE todo_id = :todoId ORDER BY created_at, id LIMIT :limit OFFSET :offset""", params, (rs, rowNum) -> {
+            HistoryEventResponse historyEventResponse = new HistoryEventResponse();
+            historyEventResponse.setId(rs.getLong("id"));
+            historyEventResponse.setTodoId(rs.getLong("todo_id"));
+            historyEventResponse.setEvent(rs.getString("event"));
+            historyEventResponse.setActor(rs.getString("actor"));
+            historyEventResponse.setDetails(rs.getString("details"));
+            historyEventResponse.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            return historyEventResponse;
+        });
+        return new PageImpl<>(history, pageable, countOf("todo_history_archive", params));
+    }
+
+    private static MapSqlParameterSource pageParams(long todoId, Pageable pageable) {
+        return new MapSqlParameterSource()
+                .addValue("todoId", todoId)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+    }
+
+    private long countOf(String table, MapSqlParameterSource params) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE todo_id = :todoId", params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /** Fill in the tags of the given archived todos with one query */
+    private List<TodoEntity> withTags(List<TodoEntity> todos) {
+        if (todos.isEmpty()) {
+            return todos;
+        }
+        Map<Long, TodoEntity> byId = new HashMap<>();
+        todos.forEach(todo -> byId.put(todo.getId(), todo));
+        jdbcTemplate.query("SELECT todo_id, tag FROM todo_tags_archive WHERE todo_id IN (:ids)",
+                new MapSqlParameterSource("ids", new ArrayList<>(byId.keySet())),
+                rs -> {
+                    byId.get(rs.getLong("todo_id")).getTags().add(rs.getString("tag"));
+                });
+        return todos;
+    }
+
+    private static final RowMapper<TodoEntity> TODO_ROW_MAPPER = (rs, rowNum) -> {
+        TodoEntity todo = new TodoEntity();
+        todo.setId(rs.getLong("id"));
+        todo.setTitle(rs.getString("title"));
+        todo.setDescription(rs.getString("description"));
+        todo.setCompleted(rs.getBoolean("completed"));
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        todo.setCompletedAt(completedAt == null ? null : completedAt.toLocalDateTime());
+        long assignedUserId = rs.getLong("assigned_user_id");
+        todo.setAssignedUserId(rs.wasNull() ? null : assignedUserId);
+        todo.setDueDate(rs.getObject("due_date", LocalDate.class));
+        todo.setArchived(true);
+        return todo;
+    };
+}
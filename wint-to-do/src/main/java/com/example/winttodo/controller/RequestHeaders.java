@@ -0,0 +1,34 @@
+package com.example.winttodo.controller;
+
+import org.slf4j.Logger;
+
+/**
+ * RequestHeaders class
+ * Basic validation of the X-Request-Id and X-Client-Id headers, shared by the todo controllers.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+final class RequestHeaders {
+
+    private RequestHeaders() {
+    }
+
+    /**
+     * @throws IllegalArgumentException listing the missing (empty) headers, mapped to 400 by GlobalExceptionHandler
+     */
+    static void validate(Logger logger, String requestId, String clientId) {
+        StringBuilder missingHeaders = new StringBuilder();
+        if (requestId == null || requestId.isEmpty()) {
+            missingHeaders.append("X-Request-Id ");
+        }
+        if (clientId == null || clientId.isEmpty()) {
+            missingHeaders.append("X-Client-Id ");
+        }
+        if (!missingHeaders.isEmpty()) {
+            String errorMsg = "Missing required headers: " + missingHeaders.toString().trim();
+            logger.error(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+    }
+}
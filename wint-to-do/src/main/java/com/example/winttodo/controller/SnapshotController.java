@@ -0,0 +1,41 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.dto.SnapshotResponse;
+import com.example.winttodo.service.H2SnapshotService;
+import com.example.winttodo.tracing.Traced;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SnapshotController class
+ * Admin endpoint to write an H2 snapshot on demand (see H2SnapshotService).
+ * Only registered when app.snapshot.enabled=true.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@Traced
+@RequestMapping("/api/admin")
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+public class SnapshotController {
+
+    private final Logger logger = LoggerFactory.getLogger(SnapshotController.class);
+    private final H2SnapshotService snapshotService;
+
+    public SnapshotController(H2SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    // Write a compressed snapshot of the H2 database.
+    // It is restored on the next startup when app.snapshot.restore-on-startup=true
+    @PostMapping("/snapshot")
+    ResponseEntity<SnapshotResponse> snapshot() {
+        return ResponseEntity.ok(snapshotService.snapshot());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.dto.CommentRequest;
+import com.example.winttodo.dto.CommentResponse;
+import com.example.winttodo.dto.HistoryEventRequest;
+import com.example.winttodo.dto.HistoryEventResponse;
+import com.example.winttodo.service.TodoActivityService;
+import com.example.winttodo.tracing.Traced;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * TodoActivityController class
+ * Comments and history of a todo, as paginated, append-only subresources:
+ * - GET  /api/todos/{id}/comments?page=&size=  and  POST /api/todos/{id}/comments
+ * - GET  /api/todos/{id}/history?page=&size=   and  POST /api/todos/{id}/history
+ * Pages are in chronological order (oldest first). An unknown todo id returns 404.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@Traced
+@RequestMapping("/api/todos/{id}")
+public class TodoActivityController {
+
+    // Upper bound of the page size, so one request never reads thousands of comments at once
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(TodoActivityController.class);
+
+    private final TodoActivityService todoActivityService;
+
+    public TodoActivityController(TodoActivityService todoActivityService) {
+        this.todoActivityService = todoActivityService;
+    }
+
+    @PostMapping("/comments")
+    ResponseEntity<CommentResponse> addComment(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id,
+            @Valid @RequestBody CommentRequest commentRequest
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        CommentResponse commentResponse = todoActivityService.addComment(id, commentRequest);
+        logger.info("Added comment {} to todo {}", commentResponse.getId(), id);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("X-Processed-By", "TodoActivityController")
+                .body(commentResponse);
+    }
+
+    @GetMapping("/comments")
+    ResponseEntity<Page<CommentResponse>> getComments(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        Page<CommentResponse> comments = todoActivityService.getComments(id, pageRequest(page, size));
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoActivityController")
+                .body(comments);
+    }
+
+    @PostMapping("/history")
+    ResponseEntity<HistoryEventResponse> addHistoryEvent(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id,
+            @Valid @RequestBody HistoryEventRequest historyEventRequest
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        HistoryEventResponse historyEventResponse = todoActivityService.addHistoryEvent(id, historyEventRequest);
+        logger.info("Added history event {} to todo {}", historyEventResponse.getId(), id);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("X-Processed-By", "TodoActivityController")
+                .body(historyEventResponse);
+    }
+
+    @GetMapping("/history")
+    ResponseEntity<Page<HistoryEventResponse>> getHistory(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        Page<HistoryEventResponse> history = todoActivityService.getHistory(id, pageRequest(page, size));
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoActivityController")
+                .body(history);
+    }
+
+    /** Page request with a size between 1 and MAX_PAGE_SIZE (PageRequest rejects a negative page with 400) */
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.dto.BulkTodoRequest;
+import com.example.winttodo.dto.BulkTodoResponse;
+import com.example.winttodo.service.TodoBulkService;
+import com.example.winttodo.tracing.Traced;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * TodoBulkController class
+ * POST /api/todos/bulk: creates up to BulkTodoRequest.MAX_TODOS todos (tags and comments included) in one call.
+ * The whole body is validated first (400 VALIDATION_FAILED listing every invalid field, nothing inserted),
+ * then everything is inserted in one transaction with batched inserts (see TodoBulkServiceImpl).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@Traced
+@RequestMapping("/api/todos/bulk")
+public class TodoBulkController {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoBulkController.class);
+
+    private final TodoBulkService todoBulkService;
+
+    public TodoBulkController(TodoBulkService todoBulkService) {
+        this.todoBulkService = todoBulkService;
+    }
+
+    @PostMapping()
+    ResponseEntity<BulkTodoResponse> createTodos(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @Valid @RequestBody BulkTodoRequest bulkTodoRequest
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        logger.debug("Request Body: {}", bulkTodoRequest);
+        BulkTodoResponse bulkTodoResponse = todoBulkService.createTodos(bulkTodoRequest.getTodos());
+        logger.info("Created {} todos in bulk", bulkTodoResponse.getCreated());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("X-Processed-By", "TodoBulkController")
+                .body(bulkTodoResponse);
+    }
+}
@@ -1,23 +1,29 @@
 package com.example.winttodo.controller;
 
+import com.example.winttodo.dto.CursorPage;
+import com.example.winttodo.dto.TagMatch;
 import com.example.winttodo.dto.TodoFullResponse;
 import com.example.winttodo.dto.TodoRequest;
 import com.example.winttodo.dto.TodoResponse;
+import com.example.winttodo.dto.TodoStatsResponse;
 import com.example.winttodo.service.TodoService;
-import com.example.winttodo.utils.LogUtils;
+import com.example.winttodo.tracing.Traced;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
@@ -28,9 +34,13 @@ import java.util.List;
  * @since : 2025-09-17, Wednesday
  **/
 @RestController
+@Traced
 @RequestMapping("/api/todos")
 public class TodoController {
 
+    // Upper bound of the page size of the keyset listings (/due, /upcoming)
+    static final int MAX_PAGE_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(TodoController.class);
 
     private final TodoService todoService;
@@ -50,13 +60,6 @@ public class TodoController {
             @RequestHeader ("X-Client-Id") String clientId,
             @Valid @RequestBody TodoRequest todoRequest
     ) {
-        // Log method entry with headers and body
-        //logger.info("Entering createTodo method in {}", this.getClass().getSimpleName());
-        logger.info("Entering {}.{}",
-                this.getClass().getSimpleName(),
-                Thread.currentThread().getStackTrace()[1].getMethodName()
-        );
-
         // validate headers (basic validation)
         validateHeaders(requestId, clientId);
 
@@ -95,28 +98,45 @@ public class TodoController {
     }
 
     // Pagination endpoint
+    // Optional tag filter: ?tags=urgent,shopping&match=all (todos having every tag, default) or match=any (at least one).
+    // With tags the listing is keyset paginated over the tag index: a Slice in id order without total count, the next
+    // one is ?afterId=<id of the last todo> (page stays 0). match and afterId without tags are rejected (400).
     @GetMapping()
-    ResponseEntity<Page<TodoResponse>> getAllTodosPaginated(
+    ResponseEntity<Slice<TodoResponse>> getAllTodosPaginated(
             @RequestHeader ("X-Request-Id") String requestId,
             @RequestHeader ("X-Client-Id") String clientId,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "tags", required = false) List<String> tags,
+            @RequestParam(value = "match", required = false) String match,
+            @RequestParam(value = "afterId", required = false) Long afterId
     ) {
         // Log method entry with headers and query params
         /*logger.info("Entering {}.{}",
                 this.getClass().getSimpleName(),
                 Thread.currentThread().getStackTrace()[1].getMethodName()
         );*/
-        LogUtils.logMethodEntry(logger, this);
         // validate headers (basic validation)
         validateHeaders(requestId, clientId);
 
-        // Create Pageable object using PageRequest.of(page, size)
-        logger.info("Fetching todos - page: {}, size: {}", page, size);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("id").ascending());
-
-        // Call service to get paginated todos
-        Page<TodoResponse> todoPage = todoService.findAllByArchivedFalse(pageable);
+        // Call service to get paginated todos, filtered by tags when some are given
+        Slice<TodoResponse> todoPage;
+        if (tags != null && !tags.isEmpty()) {
+            if (page != 0) {
+                throw new IllegalArgumentException("'page' is not supported with 'tags', pass the id of the last todo as 'afterId'");
+            }
+            TagMatch tagMatch = match == null ? TagMatch.ALL : TagMatch.from(match);
+            logger.info("Filtering todos by tags: {} (match {}) after id {}, size: {}", tags, tagMatch, afterId, size);
+            todoPage = todoService.findAllByTags(tags, tagMatch, afterId == null ? 0 : afterId, boundedSize(size));
+        } else {
+            if (match != null || afterId != null) {
+                throw new IllegalArgumentException("'match' and 'afterId' are only supported with 'tags'");
+            }
+            // Create Pageable object using PageRequest.of(page, size)
+            logger.info("Fetching todos - page: {}, size: {}", page, size);
+            Pageable pageable = PageRequest.of(page, size, Sort.by("id").ascending());
+            todoPage = todoService.findAllByArchivedFalse(pageable);
+        }
         logger.info("Fetched {} todos on page {}", todoPage.getNumberOfElements(), todoPage.getNumber());
 
         return ResponseEntity.ok()
@@ -126,6 +146,88 @@ public class TodoController {
 
     }
 
+    // Todos due between 'from' and 'to' (ISO dates, both optional and inclusive), ordered by due date then id.
+    // Keyset pagination: pass the nextCursor of the response as ?cursor= to get the next page.
+    @GetMapping("/due")
+    ResponseEntity<CursorPage<TodoResponse>> getDueTodos(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        validateHeaders(requestId, clientId);
+        logger.info("Fetching todos due from {} to {} (includeArchived: {}, cursor: {})", from, to, includeArchived, cursor);
+        CursorPage<TodoResponse> duePage = todoService.findDue(from, to, includeArchived, cursor, boundedSize(size));
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoController")
+                .body(duePage);
+    }
+
+    // The next 'limit' open todos due today or later (reminders)
+    @GetMapping("/upcoming")
+    ResponseEntity<List<TodoResponse>> getUpcomingTodos(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        validateHeaders(requestId, clientId);
+        List<TodoResponse> upcoming = todoService.findUpcoming(boundedSize(limit));
+        logger.info("Fetched {} upcoming todos", upcoming.size());
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoController")
+                .body(upcoming);
+    }
+
+    // Counts of open, completed, archived and overdue todos in total, plus those of one assignee with ?userId=
+    // or of every assignee with ?allUsers=true (not both).
+    // Served from in-memory counters (see TodoStatsCounters), reconciled with the database periodically.
+    @GetMapping("/stats")
+    ResponseEntity<TodoStatsResponse> getStats(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @RequestParam(value = "userId", required = false) Long userId,
+            @RequestParam(value = "allUsers", defaultValue = "false") boolean allUsers
+    ) {
+        validateHeaders(requestId, clientId);
+        TodoStatsResponse stats = todoService.getStats(userId, allUsers);
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoController")
+                .body(stats);
+    }
+
+    // Mark a todo as completed (idempotent)
+    @PatchMapping("/{id}/complete")
+    ResponseEntity<TodoResponse> completeTodo(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id
+    ) {
+        validateHeaders(requestId, clientId);
+        logger.info("Completing todo {}", id);
+        TodoResponse todoResponse = todoService.completeTodo(id);
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoController")
+                .body(todoResponse);
+    }
+
+    // Archive a todo (idempotent); it leaves the live tables with the next run of the archive job
+    @PatchMapping("/{id}/archive")
+    ResponseEntity<TodoResponse> archiveTodo(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("id") Long id
+    ) {
+        validateHeaders(requestId, clientId);
+        logger.info("Archiving todo {}", id);
+        TodoResponse todoResponse = todoService.archiveTodo(id);
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "TodoController")
+                .body(todoResponse);
+    }
+
     // getAllTodos without pagination (includes even the archived ones)
     @GetMapping("/all")
     ResponseEntity<Iterable<TodoFullResponse>> getAllTodos(
@@ -137,7 +239,6 @@ public class TodoController {
                 this.getClass().getSimpleName(),
                 Thread.currentThread().getStackTrace()[1].getMethodName()
         );*/
-        LogUtils.logMethodEntry(logger, this);
         // validate headers (basic validation)
         validateHeaders(requestId, clientId);
         logger.info("Fetching all todos (including archived)");
@@ -148,20 +249,14 @@ public class TodoController {
                 .body(responseList);
     }
 
+    /** Page size / limit between 1 and MAX_PAGE_SIZE */
+    private static int boundedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
     /** Basic validation for required headers */
     private void validateHeaders(String requestId, String clientId) {
-        StringBuilder missingHeaders = new StringBuilder();
-        if (requestId == null || requestId.isEmpty()) {
-            missingHeaders.append("X-Request-Id ");
-        }
-        if (clientId == null || clientId.isEmpty()) {
-            missingHeaders.append("X-Client-Id ");
-        }
-        if (!missingHeaders.isEmpty()) {
-            String errorMsg = "Missing required headers: " + missingHeaders.toString().trim();
-            logger.error(errorMsg);
-            throw new IllegalArgumentException(errorMsg);
-        }
+        RequestHeaders.validate(logger, requestId, clientId);
     }
 
 }
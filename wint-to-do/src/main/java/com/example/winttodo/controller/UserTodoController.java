@@ -0,0 +1,68 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.dto.CursorPage;
+import com.example.winttodo.dto.TodoResponse;
+import com.example.winttodo.service.TodoService;
+import com.example.winttodo.tracing.Traced;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+
+/**
+ * UserTodoController class
+ * Todos assigned to one user (per-user dashboards):
+ * GET /api/users/{userId}/todos?completed=&archived=&cursor=&size=
+ * - completed: true, false or any (default any)
+ * - archived: true, false or any (default false: the archived todos are not shown unless asked for)
+ * Ordered by due date (todos without due date last), keyset paginated with nextCursor.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@RestController
+@Traced
+@RequestMapping("/api/users/{userId}/todos")
+public class UserTodoController {
+
+    private final Logger logger = LoggerFactory.getLogger(UserTodoController.class);
+
+    private final TodoService todoService;
+
+    public UserTodoController(TodoService todoService) {
+        this.todoService = todoService;
+    }
+
+    @GetMapping()
+    ResponseEntity<CursorPage<TodoResponse>> getTodosOfUser(
+            @RequestHeader ("X-Request-Id") String requestId,
+            @RequestHeader ("X-Client-Id") String clientId,
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "completed", defaultValue = "any") String completed,
+            @RequestParam(value = "archived", defaultValue = "false") String archived,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        RequestHeaders.validate(logger, requestId, clientId);
+        logger.info("Fetching todos of user {} (completed: {}, archived: {}, cursor: {})", userId, completed, archived, cursor);
+        CursorPage<TodoResponse> todoPage = todoService.findByAssignee(userId,
+                parseFilter("completed", completed), parseFilter("archived", archived), cursor,
+                Math.max(1, Math.min(size, TodoController.MAX_PAGE_SIZE)));
+        return ResponseEntity.ok()
+                .header("X-Processed-By", "UserTodoController")
+                .body(todoPage);
+    }
+
+    /** "true" / "false" / "any" (null: no filter), anything else is a 400 */
+    private static Boolean parseFilter(String name, String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            case "any" -> null;
+            default -> throw new IllegalArgumentException(
+                    "Invalid " + name + " value: " + value + " (expected true, false or any)");
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.winttodo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * BulkTodoRequest class
+ * Body of POST /api/todos/bulk: the todos to create, validated as a whole (every element, @Valid)
+ * before anything is written, so a payload is either inserted completely or rejected with all its errors.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BulkTodoRequest {
+
+    public static final int MAX_TODOS = 10_000;
+
+    @NotEmpty(message = "At least one todo is required")
+    @Size(max = MAX_TODOS, message = "At most " + MAX_TODOS + " todos per request")
+    private List<@Valid @NotNull TodoRequest> todos;
+
+    public List<TodoRequest> getTodos() {
+        return todos;
+    }
+
+    public void setTodos(List<TodoRequest> todos) {
+        this.todos = todos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkTodoRequest[todos=%d]", todos == null ? 0 : todos.size());
+    }
+}
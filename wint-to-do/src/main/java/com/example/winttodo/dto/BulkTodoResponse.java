@@ -0,0 +1,60 @@
+package com.example.winttodo.dto;
+
+import java.util.List;
+
+/**
+ * BulkTodoResponse class
+ * Result of POST /api/todos/bulk: the ids of the created todos (in request order) and the rows written.
+ * - rows: todos + tag rows + comment rows; rowsPerSecond is rows over elapsedMs, measured around the transaction.
+ *   Comparing it with a loop over POST /api/todos for the same payload gives the gain of batching.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class BulkTodoResponse {
+    private final List<Long> ids;
+    private final long tagRows;
+    private final long commentRows;
+    private final long elapsedMs;
+
+    public BulkTodoResponse(List<Long> ids, long tagRows, long commentRows, long elapsedMs) {
+        this.ids = List.copyOf(ids);
+        this.tagRows = tagRows;
+        this.commentRows = commentRows;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public int getCreated() {
+        return ids.size();
+    }
+
+    public long getTagRows() {
+        return tagRows;
+    }
+
+    public long getCommentRows() {
+        return commentRows;
+    }
+
+    public long getRows() {
+        return ids.size() + tagRows + commentRows;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public long getRowsPerSecond() {
+        return getRows() * 1000 / Math.max(1, elapsedMs);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkTodoResponse[created=%d, tagRows=%d, commentRows=%d, elapsedMs=%d]",
+                ids.size(), tagRows, commentRows, elapsedMs);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.winttodo.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * CommentRequest class
+ * Body of POST /api/todos/{id}/comments
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class CommentRequest {
+    @NotBlank(message = "Comment is mandatory")
+    @Size(max = 2000, message = "Comment must be at most 2000 characters")
+    private String comment;
+    @Size(max = 255, message = "Author must be at most 255 characters")
+    private String author;
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommentRequest[comment=%s, author=%s]", comment, author);
+    }
+}
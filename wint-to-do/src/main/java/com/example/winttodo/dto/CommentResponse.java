@@ -0,0 +1,63 @@
+package com.example.winttodo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * CommentResponse class
+ * A comment of a todo, as returned by GET/POST /api/todos/{id}/comments
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class CommentResponse {
+    private Long id;
+    private Long todoId;
+    private String comment;
+    private String author;
+    private LocalDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    public void setTodoId(Long todoId) {
+        this.todoId = todoId;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommentResponse[id=%s, todoId=%s, comment=%s, author=%s, createdAt=%s]", id, todoId, comment, author, createdAt);
+    }
+}
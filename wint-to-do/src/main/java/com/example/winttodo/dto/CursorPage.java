@@ -0,0 +1,43 @@
+package com.example.winttodo.dto;
+
+import java.util.List;
+
+/**
+ * CursorPage class
+ * One page of a keyset (cursor) paginated listing.
+ * - nextCursor: pass it back as ?cursor= to get the next page, null on the last page.
+ * Unlike Page there is no total count: counting would read the whole range, the page itself reads only its rows.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = List.copyOf(content);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return content.size();
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isLast() {
+        return nextCursor == null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CursorPage[size=%d, nextCursor=%s]", content.size(), nextCursor);
+    }
+}
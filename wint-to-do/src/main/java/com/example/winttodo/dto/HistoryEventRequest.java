@@ -0,0 +1,48 @@
+package com.example.winttodo.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * HistoryEventRequest class
+ * Body of POST /api/todos/{id}/history
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class HistoryEventRequest {
+    @NotBlank(message = "Event is mandatory")
+    private String event;
+    private String actor;
+    @Size(max = 2000, message = "Details must be at most 2000 characters")
+    private String details;
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HistoryEventRequest[event=%s, actor=%s, details=%s]", event, actor, details);
+    }
+}
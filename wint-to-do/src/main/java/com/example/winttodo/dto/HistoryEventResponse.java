@@ -0,0 +1,72 @@
+package com.example.winttodo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * HistoryEventResponse class
+ * An entry of the history of a todo, as returned by GET/POST /api/todos/{id}/history
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class HistoryEventResponse {
+    private Long id;
+    private Long todoId;
+    private String event;
+    private String actor;
+    private String details;
+    private LocalDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    public void setTodoId(Long todoId) {
+        this.todoId = todoId;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HistoryEventResponse[id=%s, todoId=%s, event=%s, actor=%s, details=%s, createdAt=%s]", id, todoId, event, actor, details, createdAt);
+    }
+}
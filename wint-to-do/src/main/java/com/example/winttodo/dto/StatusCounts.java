@@ -0,0 +1,44 @@
+package com.example.winttodo.dto;
+
+/**
+ * StatusCounts class
+ * Number of todos per status; overdue is the part of open whose due date is before the day of the counts
+ * (the day of the last reconciliation, see TodoStatsCounters).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class StatusCounts {
+    private final long open;
+    private final long completed;
+    private final long archived;
+    private final long overdue;
+
+    public StatusCounts(long open, long completed, long archived, long overdue) {
+        this.open = open;
+        this.completed = completed;
+        this.archived = archived;
+        this.overdue = overdue;
+    }
+
+    public long getOpen() {
+        return open;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getArchived() {
+        return archived;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatusCounts[open=%d, completed=%d, archived=%d, overdue=%d]", open, completed, archived, overdue);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.winttodo.dto;
+
+import java.util.Locale;
+
+/**
+ * TagMatch enum
+ * How the tags of GET /api/todos?tags=a,b&match=all|any are combined.
+ * - ALL: the todo has every requested tag (intersection)
+ * - ANY: the todo has at least one of the requested tags (union)
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public enum TagMatch {
+    ALL,
+    ANY;
+
+    /**
+     * Parse the match query parameter (case-insensitive)
+     * @param value "all" or "any"
+     * @return TagMatch
+     * @throws IllegalArgumentException if the value is neither "all" nor "any"
+     */
+    public static TagMatch from(String value) {
+        if (value != null) {
+            for (TagMatch match : values()) {
+                if (match.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return match;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid match value: " + value + " (expected 'all' or 'any')");
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.winttodo.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 import java.util.List;
 
 /**
  * TodoRequest class
+ * The size limits are the ones of the VARCHAR(255) columns, so an over-long value is a 400 before anything is
+ * written (for the bulk endpoint: before the transaction starts), not a database error halfway through.
  *
  * @author : kjss920
  * @since : 2025-09-18, Thursday
  **/
 public class TodoRequest {
     @NotBlank(message = "Title is mandatory")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
+    @Size(max = 255, message = "Description must be at most 255 characters")
     private String description;
     @FutureOrPresent(message = "Due date must not be in the past")
     private LocalDate dueDate;
-    private List<String> tags;
+    private List<@NotBlank(message = "Tags must not be blank")
+                 @Size(max = 255, message = "Tags must be at most 255 characters") String> tags;
+    @Positive(message = "Assigned user id must be positive")
+    private Long assignedUserId;
+    // Initial comments, inserted with the todo
+    private List<@Valid CommentRequest> comments;
 
     public String getTitle() {
         return title;
@@ -52,8 +64,25 @@ public class TodoRequest {
         this.tags = tags;
     }
 
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(Long assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    public List<CommentRequest> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentRequest> comments) {
+        this.comments = comments;
+    }
+
     @Override
     public String toString() {
-        return String.format("TodoRequest[title=%s, description=%s, dueDate=%s, tags=%s]", title, description, dueDate, tags);
+        return String.format("TodoRequest[title=%s, description=%s, dueDate=%s, tags=%s, assignedUserId=%s, comments=%d]",
+                title, description, dueDate, tags, assignedUserId, comments == null ? 0 : comments.size());
     }
 }
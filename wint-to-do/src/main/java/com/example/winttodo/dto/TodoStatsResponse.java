@@ -0,0 +1,41 @@
+package com.example.winttodo.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * TodoStatsResponse class
+ * Response of GET /api/todos/stats: counts of all todos and per assignee (by user id).
+ * - reconciledAt: last time the counts were recomputed from the database, null before the first reconciliation.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TodoStatsResponse {
+    private final StatusCounts total;
+    private final Map<Long, StatusCounts> users;
+    private final LocalDateTime reconciledAt;
+
+    public TodoStatsResponse(StatusCounts total, Map<Long, StatusCounts> users, LocalDateTime reconciledAt) {
+        this.total = total;
+        this.users = users;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public StatusCounts getTotal() {
+        return total;
+    }
+
+    public Map<Long, StatusCounts> getUsers() {
+        return users;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TodoStatsResponse[total=%s, users=%d, reconciledAt=%s]", total, users.size(), reconciledAt);
+    }
+}
@@ -8,7 +8,7 @@ package com.example.winttodo.exception;
  **/
 
 import com.example.winttodo.dto.ApiErrorResponse;
-import com.example.winttodo.utils.LogUtils;
+import com.example.winttodo.tracing.Traced;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +28,7 @@ import static java.util.stream.Collectors.toList;
  * Handles validation and other exceptions globally, ensuring meaningful error JSON is returned.
  */
 @RestControllerAdvice
+@Traced
 public class GlobalExceptionHandler {
 
     // Logger can be added here for better traceability
@@ -45,7 +46,6 @@ public class GlobalExceptionHandler {
 //                this.getClass().getSimpleName(),
 //                Thread.currentThread().getStackTrace()[1].getMethodName()
 //        );
-        LogUtils.logMethodEntry(logger, this);
         logger.error(ex.getMessage(), ex);
 
         // For each error, build a readable message like: "Field 'title': Title is mandatory"
@@ -125,7 +125,6 @@ public class GlobalExceptionHandler {
 //                this.getClass().getSimpleName(),
 //                Thread.currentThread().getStackTrace()[1].getMethodName()
 //        );
-        LogUtils.logMethodEntry(logger, this);
         logger.error(ex.getMessage(), ex);
         ApiErrorResponse errorResponse = new ApiErrorResponse(
                 "MISSING_HEADER",
@@ -138,6 +137,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    // Handle ResourceNotFoundException
+    // This is thrown by the services when a todo id does not exist
+    // Return ResponseEntity with 404 status and error body; the message is enough, no stack trace is logged.
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
+        logger.warn(ex.getMessage());
+        ApiErrorResponse errorResponse = new ApiErrorResponse(
+                "NOT_FOUND",
+                ex.getMessage(),
+                HttpStatus.NOT_FOUND.value(),
+                LocalDateTime.now(),
+                List.of(ex.getMessage()),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     // Handle IllegalArgumentException
     // This is thrown manually in controller for missing headers
     // and can also be thrown by various Java methods for invalid arguments
@@ -159,7 +175,6 @@ public class GlobalExceptionHandler {
 //                this.getClass().getSimpleName(),
 //                Thread.currentThread().getStackTrace()[1].getMethodName()
 //        );
-        LogUtils.logMethodEntry(logger, this);
 
         logger.error(ex.getMessage(), ex);
         // Build error response
@@ -0,0 +1,15 @@
+package com.example.winttodo.exception;
+
+/**
+ * ResourceNotFoundException class
+ * Thrown when a todo id does not exist, mapped to 404 by GlobalExceptionHandler.
+ * Created without a stack trace: the handler only uses the message.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class ResourceNotFoundException extends RuntimeException {
+    public ResourceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,19 +1,62 @@
 package com.example.winttodo.model;
 
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
-@Embeddable
+/**
+ * TodoComment class
+ * A comment of a todo, stored as its own append-only row (it used to be an element of TodoEntity.comments).
+ * - Adding a comment is one INSERT, whatever the number of comments the todo already has
+ *   (an @ElementCollection was deleted and re-inserted as a whole on every change).
+ * - Reading a todo no longer reads its comments; they are paged by (todo_id, created_at) instead.
+ * - @Immutable: Hibernate never issues an UPDATE for a comment.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Entity
+@Immutable
+@Table(name = "todo_comments",
+        indexes = @Index(name = "idx_todo_comments_todo_id_created_at", columnList = "todo_id, created_at"))
 public class TodoComment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_comments_seq")
+    @SequenceGenerator(name = "todo_comments_seq", sequenceName = "todo_comments_seq",
+            allocationSize = TodoEntity.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    // Lazy and only referenced by id: appending a comment does not load the todo
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "todo_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TodoEntity todo;
+
+    @Column(length = 2000)
     private String comment;
     private String author;
-    private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected TodoComment() {
+        // for JPA
+    }
+
+    public TodoComment(TodoEntity todo, String comment, String author, LocalDateTime createdAt) {
+        this.todo = todo;
+        this.comment = comment;
+        this.author = author;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public TodoEntity getTodo() { return todo; }
     public String getComment() { return comment; }
-    public void setComment(String comment) { this.comment = comment; }
     public String getAuthor() { return author; }
-    public void setAuthor(String author) { this.author = author; }
     public LocalDateTime getCreatedAt() { return createdAt; }
-    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
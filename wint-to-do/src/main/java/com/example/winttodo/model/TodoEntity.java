@@ -1,18 +1,51 @@
 package com.example.winttodo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * TodoEntity class
+ * The tags collection is lazy; how it is loaded is chosen per use case (fetch plan), never one query per todo:
+ * - GRAPH_TAGS: tags fetched in the same query (join), for lists that show tags of every row (/api/todos/all).
+ * - @BatchSize: when the tags are touched anyway (e.g. tags of a page), the tags of up to
+ *   BATCH_SIZE todos of the persistence context are loaded with one IN (...) query.
+ */
 @Entity
-@Table(name = "todos")
+// Indexes, each serving one listing as an ordered range (the primary key id is the last column of every H2 index):
+// - (archived, id): the paginated listing of the non-archived todos ordered by id
+// - (archived, due_date, id): due-date ranges and "upcoming" (keyset)
+// - (assigned_user_id, archived, completed, due_date): the todos of one assignee (keyset, per-user dashboards)
+@Table(name = "todos",
+        indexes = {
+                @Index(name = "idx_todos_archived_id", columnList = "archived, id"),
+                @Index(name = "idx_todos_archived_due_date_id", columnList = "archived, due_date, id"),
+                @Index(name = "idx_todos_assignee_archived_completed_due_date",
+                        columnList = "assigned_user_id, archived, completed, due_date")
+        })
+@NamedEntityGraph(name = TodoEntity.GRAPH_TAGS, attributeNodes = @NamedAttributeNode("tags"))
 public class TodoEntity {
 
+    /** Entity graph: the todo with its tags */
+    public static final String GRAPH_TAGS = "TodoEntity.tags";
+
+    /** Collections of this many todos are initialized together (larger than the usual page size) */
+    public static final int BATCH_SIZE = 100;
+
+    /**
+     * Ids reserved per sequence call (pooled optimizer), for todos, comments and history events.
+     * The id is known before the INSERT, so inserts can be grouped in JDBC batches
+     * (an IDENTITY id is only known after its own INSERT, which rules batching out).
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String title;
@@ -23,21 +56,20 @@ public class TodoEntity {
 
     private boolean archived = false;
 
+    @Column(name = "assigned_user_id")
     private Long assignedUserId;
+    @Column(name = "due_date")
     private LocalDate dueDate;
 
     @ElementCollection
-    @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"))
+    @BatchSize(size = BATCH_SIZE)
+    // (tag, todo_id) index: the todos having a tag are one index range scan (inverted index), see TodoRepository
+    @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"),
+            indexes = @Index(name = "idx_todo_tags_tag_todo_id", columnList = "tag, todo_id"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
 
-    @ElementCollection
-    @CollectionTable(name = "todo_comments", joinColumns = @JoinColumn(name = "todo_id"))
-    private List<TodoComment> comments = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(name = "todo_history", joinColumns = @JoinColumn(name = "todo_id"))
-    private List<TodoHistoryEvent> history = new ArrayList<>();
+    // Comments and history are separate append-only tables (TodoComment, TodoHistoryEvent), not collections of the todo
 
     // --- Getters and Setters ---
     public Long getId() { return id; }
@@ -58,10 +90,6 @@ public class TodoEntity {
     public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
     public List<String> getTags() { return tags; }
     public void setTags(List<String> tags) { this.tags = tags; }
-    public List<TodoComment> getComments() { return comments; }
-    public void setComments(List<TodoComment> comments) { this.comments = comments; }
-    public List<TodoHistoryEvent> getHistory() { return history; }
-    public void setHistory(List<TodoHistoryEvent> history) { this.history = history; }
 
     @Override
     public String toString() {
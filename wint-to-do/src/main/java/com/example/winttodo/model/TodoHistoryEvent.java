@@ -1,22 +1,62 @@
 package com.example.winttodo.model;
 
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
-@Embeddable
+/**
+ * TodoHistoryEvent class
+ * One entry of the history of a todo, stored as its own append-only row (it used to be an element of TodoEntity.history).
+ * Same model as TodoComment: one INSERT per event, paged by (todo_id, created_at), never updated.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Entity
+@Immutable
+@Table(name = "todo_history",
+        indexes = @Index(name = "idx_todo_history_todo_id_created_at", columnList = "todo_id, created_at"))
 public class TodoHistoryEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_history_seq")
+    @SequenceGenerator(name = "todo_history_seq", sequenceName = "todo_history_seq",
+            allocationSize = TodoEntity.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    // Lazy and only referenced by id: appending an event does not load the todo
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "todo_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TodoEntity todo;
+
     private String event;
-    private LocalDateTime timestamp = LocalDateTime.now();
     private String actor;
+    @Column(length = 2000)
     private String details;
 
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected TodoHistoryEvent() {
+        // for JPA
+    }
+
+    public TodoHistoryEvent(TodoEntity todo, String event, String actor, String details, LocalDateTime createdAt) {
+        this.todo = todo;
+        this.event = event;
+        this.actor = actor;
+        this.details = details;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public TodoEntity getTodo() { return todo; }
     public String getEvent() { return event; }
-    public void setEvent(String event) { this.event = event; }
-    public LocalDateTime getTimestamp() { return timestamp; }
-    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
     public String getActor() { return actor; }
-    public void setActor(String actor) { this.actor = actor; }
     public String getDetails() { return details; }
-    public void setDetails(String details) { this.details = details; }
-}
\ No newline at end of file
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,12 @@
+package com.example.winttodo.repository;
+
+import com.example.winttodo.model.TodoComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoCommentRepository extends JpaRepository<TodoComment, Long> {
+
+    // Comments of one todo, a range of the idx_todo_comments_todo_id_created_at index (sort by createdAt, id)
+    Page<TodoComment> findByTodoId(Long todoId, Pageable pageable);
+}
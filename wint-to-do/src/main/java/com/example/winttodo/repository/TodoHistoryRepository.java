@@ -0,0 +1,12 @@
+package com.example.winttodo.repository;
+
+import com.example.winttodo.model.TodoHistoryEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoHistoryRepository extends JpaRepository<TodoHistoryEvent, Long> {
+
+    // History of one todo, a range of the idx_todo_history_todo_id_created_at index (sort by createdAt, id)
+    Page<TodoHistoryEvent> findByTodoId(Long todoId, Pageable pageable);
+}
@@ -1,13 +1,141 @@
 package com.example.winttodo.repository;
 
 import com.example.winttodo.model.TodoEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<TodoEntity, Long> {
 
     // Derived query method to find all non-archived todos with pagination
+    // The tags of the page are loaded afterwards with one batched query (@BatchSize on TodoEntity.tags):
+    // join-fetching a collection together with LIMIT/OFFSET would make Hibernate paginate in memory.
     Page<TodoEntity> findAllByArchivedFalse(Pageable pageable);
 
+    // Non-archived todos having ALL the given tags and an id above afterId, in id order (keyset pagination).
+    // Driven by the idx_todo_tags_tag_todo_id range of one tag, the rarest one (see countTodosWithTag): the range
+    // (drivingTag, afterId..) is read in todo_id order and each todo is checked for the other tags through its own
+    // todo_tags rows, so a page stops after size + 1 matches, whatever its position. tagCount must be the number of
+    // distinct tags. No count query: the Slice only tells whether there is a next page.
+    // A todo carrying the driving tag twice comes back twice (the caller drops the copy).
+    // The pageable must be unsorted and at page 0 (the position is afterId, the order is fixed here).
+    @Query(value = """
+            select t.* from todo_tags g join todos t on t.id = g.todo_id
+            where g.tag = :drivingTag and g.todo_id > :afterId
+              and t.archived = false
+              and (select count(distinct o.tag) from todo_tags o
+                   where o.todo_id = g.todo_id and o.tag in (:tags)) = :tagCount
+            order by g.todo_id""",
+            nativeQuery = true)
+    Slice<TodoEntity> findAllByAllTags(@Param("tags") Collection<String> tags, @Param("tagCount") long tagCount,
+                                       @Param("drivingTag") String drivingTag, @Param("afterId") long afterId,
+                                       Pageable pageable);
+
+    // Ids of the non-archived todos having the tag, above afterId, in id order: one range of idx_todo_tags_tag_todo_id.
+    // The ANY match merges the ranges of its tags (union), see TodoServiceImpl.findAllByTags.
+    // The pageable must be unsorted and at page 0.
+    @Query(value = """
+            select g.todo_id from todo_tags g join todos t on t.id = g.todo_id
+            where g.tag = :tag and g.todo_id > :afterId and t.archived = false
+            order by g.todo_id""",
+            nativeQuery = true)
+    Slice<Long> findIdsByTag(@Param("tag") String tag, @Param("afterId") long afterId, Pageable pageable);
+
+    // Number of todo_tags rows of the tag, counted up to 'cap': enough to pick the rarest tag of a query
+    // without reading the whole range of a frequent one
+    @Query(value = "select count(*) from (select g.todo_id from todo_tags g where g.tag = :tag limit :cap) c",
+            nativeQuery = true)
+    long countTodosWithTag(@Param("tag") String tag, @Param("cap") int cap);
+
+    // The todos with the given ids, with their tags (for a page of ids found through the tag index)
+    @EntityGraph(TodoEntity.GRAPH_TAGS)
+    List<TodoEntity> findWithTagsByIdIn(Collection<Long> ids);
+
+    // Todos with the given archived flag, due in [from, to] and positioned after (from, afterId), in (due_date, id) order.
+    // Keyset pagination: the next page passes the last (dueDate, id) as (from, afterId), there is no OFFSET to skip,
+    // so every page is one range scan of idx_todos_archived_due_date_id that stops after 'limit' rows.
+    // First page: afterId = Long.MIN_VALUE.
+    @Query("""
+            select t from TodoEntity t
+            where t.archived = :archived
+              and t.dueDate >= :from and t.dueDate <= :to
+              and (t.dueDate > :from or t.id > :afterId)
+            order by t.dueDate, t.id""")
+    List<TodoEntity> findDueAfter(@Param("archived") boolean archived, @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to, @Param("afterId") long afterId, Limit limit);
+
+    // The next 'limit' open (not archived, not completed) todos due on or after 'from', read in index order
+    @Query("""
+            select t from TodoEntity t
+            where t.archived = false and t.completed = false and t.dueDate >= :from
+            order by t.dueDate, t.id""")
+    List<TodoEntity> findUpcoming(@Param("from") LocalDate from, Limit limit);
+
+    // Todos of one assignee with the given archived and completed flags, due on or after 'from' and positioned after
+    // (from, afterId), in (due_date, id) order. One range of idx_todos_assignee_archived_completed_due_date
+    // stopping after 'limit' rows: the cost follows the size of the page, not the size of the table.
+    @Query("""
+            select t from TodoEntity t
+            where t.assignedUserId = :userId and t.archived = :archived and t.completed = :completed
+              and t.dueDate >= :from
+              and (t.dueDate > :from or t.id > :afterId)
+            order by t.dueDate, t.id""")
+    List<TodoEntity> findAssignedDueAfter(@Param("userId") Long userId, @Param("archived") boolean archived,
+                                          @Param("completed") boolean completed, @Param("from") LocalDate from,
+                                          @Param("afterId") long afterId, Limit limit);
+
+    // Todos of one assignee with the given flags and no due date, after afterId in id order
+    // (the due_date IS NULL part of the same index, where the rows are ordered by id)
+    @Query("""
+            select t from TodoEntity t
+            where t.assignedUserId = :userId and t.archived = :archived and t.completed = :completed
+              and t.dueDate is null and t.id > :afterId
+            order by t.id""")
+    List<TodoEntity> findAssignedWithoutDueDateAfter(@Param("userId") Long userId, @Param("archived") boolean archived,
+                                                     @Param("completed") boolean completed,
+                                                     @Param("afterId") long afterId, Limit limit);
+
+    // All todos (archived included) with their tags in a single query, for /api/todos/all
+    @EntityGraph(TodoEntity.GRAPH_TAGS)
+    @Query("select t from TodoEntity t")
+    List<TodoEntity> findAllWithTags();
+
+    // One todo with its tags (initialized, so they can still be read once the todo is detached by a bulk update)
+    @EntityGraph(TodoEntity.GRAPH_TAGS)
+    Optional<TodoEntity> findWithTagsById(Long id);
+
+    // Archived flag of the todo, empty when there is no such todo. The row stays locked until the end of the
+    // transaction: an append holds it so TodoArchiveStore.moveArchived cannot move the todo under a new comment.
+    @Query(value = "SELECT archived FROM todos WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Boolean> lockArchivedFlag(@Param("id") Long id);
+
+    // Completes the todo if it is still open (not completed, not archived); returns 1 if it did, 0 otherwise.
+    // The condition makes the transition happen once even for concurrent calls, so the stats counters move once.
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("""
+            update TodoEntity t set t.completed = true, t.completedAt = :completedAt
+            where t.id = :id and t.completed = false and t.archived = false""")
+    int markCompleted(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
+
+    // Archives the todo if it is not archived and its completed flag is still the given one; returns 1 if it did.
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("""
+            update TodoEntity t set t.archived = true
+            where t.id = :id and t.archived = false and t.completed = :completed""")
+    int markArchived(@Param("id") Long id, @Param("completed") boolean completed);
 }
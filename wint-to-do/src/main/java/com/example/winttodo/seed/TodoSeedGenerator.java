@@ -0,0 +1,167 @@
+package com.example.winttodo.seed;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * TodoSeedGenerator class
+ * Random but realistic todos for TodoDataSeeder, shaped like the data the listings have to deal with:
+ * - tags: 0 to 4 per todo from a vocabulary of 30, skewed (a few tags are on most todos, most tags are rare);
+ * - assignees: skewed over userCount users (some users have many todos), 5% unassigned;
+ * - due dates: 15% without, the others from 60 days ago to 180 days ahead (so some are overdue);
+ * - completed / archived: past-due todos are mostly completed, completed todos are often archived;
+ * - comments: none for half of the todos, up to 8 for a few; history: CREATED, then ASSIGNED, UPDATED,
+ *   COMPLETED and ARCHIVED as they apply, in chronological order.
+ * Stateless: the same id and random state always give the same todo, so generation can run on any thread.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TodoSeedGenerator {
+
+    public record SeedComment(String comment, String author, LocalDateTime createdAt) {
+    }
+
+    public record SeedHistoryEvent(String event, String actor, String details, LocalDateTime createdAt) {
+    }
+
+    public record SeedTodo(long id, String title, String description, boolean completed, LocalDateTime completedAt,
+                           boolean archived, Long assignedUserId, LocalDate dueDate, List<String> tags,
+                           List<SeedComment> comments, List<SeedHistoryEvent> history) {
+    }
+
+    private static final String[] VERBS = {
+            "Review", "Write", "Update", "Fix", "Plan", "Call", "Email", "Prepare", "Book", "Pay",
+            "Clean", "Organize", "Test", "Deploy", "Refactor", "Buy", "Schedule", "Submit", "Renew", "Back up"
+    };
+
+    private static final String[] OBJECTS = {
+            "quarterly report", "pull request", "release notes", "dentist appointment", "electricity bill",
+            "team meeting", "onboarding guide", "garage", "travel insurance", "project budget",
+            "database migration", "birthday gift", "passport", "conference talk", "customer feedback",
+            "laptop", "invoice", "weekly groceries", "car service", "API documentation"
+    };
+
+    // Most popular first: picked with a skewed index
+    private static final String[] TAGS = {
+            "work", "personal", "urgent", "home", "finance", "health", "shopping", "errand", "meeting", "backend",
+            "frontend", "bug", "feature", "family", "travel", "learning", "admin", "devops", "reading", "fitness",
+            "garden", "car", "kids", "ops", "design", "research", "legal", "hr", "sales", "support"
+    };
+
+    private static final String[] PEOPLE = {"alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi"};
+
+    private static final String[] COMMENTS = {
+            "Started on this today.", "Blocked until we hear back from the vendor.", "Can we move this to next week?",
+            "Half done, the rest needs a second pair of eyes.", "Added the details we discussed.",
+            "Reminder sent.", "This turned out bigger than expected.", "Done on my side, please double-check.",
+            "Waiting for the invoice.", "Low priority for now."
+    };
+
+    private final int userCount;
+    private final LocalDate today;
+    private final LocalDateTime now;
+
+    public TodoSeedGenerator(int userCount, LocalDateTime now) {
+        if (userCount < 1) {
+            throw new IllegalArgumentException("userCount must be at least 1");
+        }
+        this.userCount = userCount;
+        this.now = now;
+        this.today = now.toLocalDate();
+    }
+
+    /**
+     * @param id Id of the todo
+     * @param random Random state of the calling task
+     * @return One todo with its tags, comments and history
+     */
+    public SeedTodo generate(long id, SplittableRandom random) {
+        String title = VERBS[random.nextInt(VERBS.length)] + " " + OBJECTS[random.nextInt(OBJECTS.length)];
+        String description = "Generated todo #" + id + ": " + title.toLowerCase() + ".";
+
+        Long assignedUserId = random.nextInt(100) < 5 ? null : 1 + (long) (skewed(random, 2.0) * userCount);
+        LocalDate dueDate = random.nextInt(100) < 15 ? null : today.plusDays(random.nextInt(-60, 181));
+        LocalDateTime createdAt = now.minusDays(random.nextInt(1, 366)).minusSeconds(random.nextInt(86_400));
+
+        boolean pastDue = dueDate != null && dueDate.isBefore(today);
+        boolean completed = random.nextInt(100) < (pastDue ? 70 : 20);
+        LocalDateTime completedAt = completed ? between(random, createdAt, now) : null;
+        boolean archived = random.nextInt(100) < (completed ? 40 : pastDue ? 10 : 2);
+
+        List<String> tags = new ArrayList<>(4);
+        int tagCount = pick(random, 20, 35, 25, 15, 5);
+        while (tags.size() < tagCount) {
+            String tag = TAGS[(int) (skewed(random, 2.5) * TAGS.length)];
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+
+        int commentCount = pick(random, 50, 25, 12, 13);
+        if (commentCount == 3 && random.nextInt(100) < 40) {
+            commentCount = random.nextInt(4, 9);
+        }
+        List<SeedComment> comments = new ArrayList<>(commentCount);
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(new SeedComment(COMMENTS[random.nextInt(COMMENTS.length)],
+                    PEOPLE[random.nextInt(PEOPLE.length)], between(random, createdAt, now)));
+        }
+        comments.sort((a, b) -> a.createdAt().compareTo(b.createdAt()));
+
+        String owner = PEOPLE[random.nextInt(PEOPLE.length)];
+        List<SeedHistoryEvent> history = new ArrayList<>(5);
+        history.add(new SeedHistoryEvent("CREATED", owner, "Created with " + tags.size() + " tags", createdAt));
+        LocalDateTime last = createdAt;
+        if (assignedUserId != null) {
+            last = notAfterNow(last.plusMinutes(random.nextInt(1, 120)));
+            history.add(new SeedHistoryEvent("ASSIGNED", owner, "Assigned to user " + assignedUserId, last));
+        }
+        if (dueDate != null && random.nextInt(100) < 30) {
+            last = notAfterNow(last.plusHours(random.nextInt(1, 72)));
+            history.add(new SeedHistoryEvent("UPDATED", owner, "Due date set to " + dueDate, last));
+        }
+        if (completed) {
+            last = completedAt.isAfter(last) ? completedAt : last;
+            history.add(new SeedHistoryEvent("COMPLETED", owner, null, last));
+        }
+        if (archived) {
+            last = notAfterNow(last.plusDays(random.nextInt(1, 30)));
+            history.add(new SeedHistoryEvent("ARCHIVED", owner, null, last));
+        }
+
+        return new SeedTodo(id, title, description, completed, completedAt, archived, assignedUserId, dueDate,
+                tags, comments, history);
+    }
+
+    private LocalDateTime notAfterNow(LocalDateTime time) {
+        return time.isAfter(now) ? now : time;
+    }
+
+    /** Value in [0, 1), concentrated towards 0 (the larger the exponent, the stronger) */
+    private static double skewed(SplittableRandom random, double exponent) {
+        return Math.pow(random.nextDouble(), exponent);
+    }
+
+    /** Index drawn with the given weights (percentages summing to 100) */
+    private static int pick(SplittableRandom random, int... weights) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /** Instant between from and to (from when the range is empty) */
+    private static LocalDateTime between(SplittableRandom random, LocalDateTime from, LocalDateTime to) {
+        long seconds = Duration.between(from, to).getSeconds();
+        return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds));
+    }
+}
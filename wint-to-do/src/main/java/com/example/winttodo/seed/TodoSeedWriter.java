@@ -0,0 +1,141 @@
+package com.example.winttodo.seed;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.seed.TodoSeedGenerator.SeedComment;
+import com.example.winttodo.seed.TodoSeedGenerator.SeedHistoryEvent;
+import com.example.winttodo.seed.TodoSeedGenerator.SeedTodo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TodoSeedWriter class
+ * Writes generated todos with plain JDBC batches: per call, one transaction and one batch per table
+ * (todos, todo_tags, todo_comments, todo_history), whatever the number of rows.
+ * Thread-safe: every seeding task calls write() with its own chunk of todos.
+ * Every id comes from the id sequences, like the ids Hibernate generates, because the application already takes
+ * requests while the seeder runs: reserveTodoIds() reserves the todo ids before anything is written, write()
+ * reserves the comment and history ids of its chunk. A reservation draws sequence values and owns the block
+ * (value - allocationSize, value] of each one, as Hibernate's pooled optimizer does, so seeded rows and rows
+ * created meanwhile by the application never share an id. The blocks start past the highest id of the live and
+ * the archive tables (a restored snapshot may hold ids above the sequence).
+ * Only meant for empty live tables (TodoDataSeeder checks it).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Component
+public class TodoSeedWriter {
+
+    private static final String INSERT_TODO = """
+            INSERT INTO todos (id, title, description, completed, completed_at, archived, assigned_user_id, due_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_TAG = "INSERT INTO todo_tags (todo_id, tag) VALUES (?, ?)";
+    private static final String INSERT_COMMENT =
+            "INSERT INTO todo_comments (id, todo_id, comment, author, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO todo_history (id, todo_id, event, actor, details, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int BLOCK = TodoEntity.ID_ALLOCATION_SIZE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TodoSeedWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Insert the todos with their tags, comments and history in one transaction
+     * @param todos Todos of one chunk
+     * @return Number of rows inserted (all tables)
+     */
+    public long write(List<SeedTodo> todos) {
+        List<Object[]> todoRows = new ArrayList<>(todos.size());
+        List<Object[]> tagRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        List<Object[]> historyRows = new ArrayList<>();
+        int commentCount = todos.stream().mapToInt(todo -> todo.comments().size()).sum();
+        int historyCount = todos.stream().mapToInt(todo -> todo.history().size()).sum();
+        SeedIds commentIds = reserve("todo_comments_seq", commentCount, "todo_comments", "todo_comments_archive");
+        SeedIds historyIds = reserve("todo_history_seq", historyCount, "todo_history", "todo_history_archive");
+        int commentIndex = 0;
+        int historyIndex = 0;
+
+        for (SeedTodo todo : todos) {
+            todoRows.add(new Object[]{todo.id(), todo.title(), todo.description(), todo.completed(), todo.completedAt(),
+                    todo.archived(), todo.assignedUserId(), todo.dueDate()});
+            for (String tag : todo.tags()) {
+                tagRows.add(new Object[]{todo.id(), tag});
+            }
+            for (SeedComment comment : todo.comments()) {
+                commentRows.add(new Object[]{commentIds.get(commentIndex++), todo.id(), comment.comment(), comment.author(), comment.createdAt()});
+            }
+            for (SeedHistoryEvent event : todo.history()) {
+                historyRows.add(new Object[]{historyIds.get(historyIndex++), todo.id(), event.event(), event.actor(), event.details(), event.createdAt()});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TODO, todoRows);
+            jdbcTemplate.batchUpdate(INSERT_TAG, tagRows);
+            jdbcTemplate.batchUpdate(INSERT_COMMENT, commentRows);
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, historyRows);
+        });
+        return todoRows.size() + tagRows.size() + commentRows.size() + historyRows.size();
+    }
+
+    /**
+     * Reserve the ids of the todos to seed, before any of them is written
+     * @param count Number of todos
+     * @return count ids, never handed out by todos_seq to anyone else
+     */
+    public SeedIds reserveTodoIds(int count) {
+        return reserve("todos_seq", count, "todos", "todos_archive");
+    }
+
+    // Draw enough values of the sequence for count ids, skipping the blocks that are not entirely above the ids
+    // already in the tables. The sequence is never restarted, so a concurrent draw cannot get a reserved block.
+    private SeedIds reserve(String sequence, int count, String... tables) {
+        long floor = 0;
+        for (String table : tables) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            floor = Math.max(floor, maxId == null ? 0 : maxId);
+        }
+        long[] blockEnds = new long[(count + BLOCK - 1) / BLOCK];
+        int blocks = 0;
+        while (blocks < blockEnds.length) {
+            // One round trip for all the values; the first round also skips the blocks up to the floor
+            for (long value : draw(sequence, blockEnds.length - blocks)) {
+                if (value - BLOCK >= floor && blocks < blockEnds.length) {
+                    blockEnds[blocks++] = value;
+                }
+            }
+            if (blocks < blockEnds.length) {
+                long next = draw(sequence, 1).get(0);
+                if (next - BLOCK < floor) {
+                    draw(sequence, (int) Math.min(Integer.MAX_VALUE, (floor - next) / BLOCK + 1));
+                }
+            }
+        }
+        return new SeedIds(blockEnds);
+    }
+
+    private List<Long> draw(String sequence, int values) {
+        return jdbcTemplate.queryForList("SELECT NEXT VALUE FOR " + sequence + " FROM SYSTEM_RANGE(1, ?)", Long.class, values);
+    }
+
+    /** Ids reserved from a sequence: the BLOCK ids of every block, in block order */
+    public record SeedIds(long[] blockEnds) {
+
+        /** The index-th reserved id */
+        public long get(int index) {
+            return blockEnds[index / BLOCK] - BLOCK + 1 + index % BLOCK;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.dto.SnapshotResponse;
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.tracing.Traced;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * H2SnapshotService class
+ * Dumps the in-memory H2 database (schema and data) to a gzip-compressed SQL script and loads it back,
+ * so a restart does not begin empty or reseed row by row.
+ * - snapshot(): SCRIPT TO ... COMPRESSION GZIP, written to a temp file first and then moved over the old snapshot,
+ *   so a crash during the dump never leaves a half-written snapshot behind.
+ * - restore(): DROP ALL OBJECTS + RUNSCRIPT FROM ... COMPRESSION GZIP. H2 replays the script in bulk,
+ *   which is much faster than inserting through JPA.
+ *   The id sequences are then moved past the restored ids: a snapshot taken before the ids came from sequences
+ *   has none, and a sequence may lag behind rows inserted with explicit ids (TodoDataSeeder, archive).
+ * - A snapshot is also taken on shutdown (app.snapshot.on-shutdown), before the DataSource is closed.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@Traced
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+public class H2SnapshotService {
+
+    private final Logger logger = LoggerFactory.getLogger(H2SnapshotService.class);
+
+    // Pooled id sequences, with the tables holding the ids they generated (the archive keeps the ids of moved rows)
+    private static final List<IdSequence> ID_SEQUENCES = List.of(
+            new IdSequence("todos_seq", "todos", "todos_archive"),
+            new IdSequence("todo_comments_seq", "todo_comments", "todo_comments_archive"),
+            new IdSequence("todo_history_seq", "todo_history", "todo_history_archive"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path file;
+    private final boolean onShutdown;
+
+    public H2SnapshotService(JdbcTemplate jdbcTemplate,
+                             @Value("${app.snapshot.file:./data/wint-todo-db-snapshot.sql.gz}") String file,
+                             @Value("${app.snapshot.on-shutdown:true}") boolean onShutdown) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.file = Path.of(file).toAbsolutePath();
+        this.onShutdown = onShutdown;
+    }
+
+    /**
+     * Write a compressed dump of the whole database to the snapshot file
+     * @return Description of the written snapshot
+     */
+    public synchronized SnapshotResponse snapshot() {
+        long start = System.nanoTime();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            jdbcTemplate.execute("SCRIPT TO " + literal(temp) + " COMPRESSION GZIP");
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long rows = countRows();
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            logger.info("Snapshot of {} rows written to {} ({} bytes) in {} ms", rows, file, Files.size(file), durationMs);
+            return new SnapshotResponse(file.toString(), rows, Files.size(file), durationMs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Replace the content of the database with the snapshot file, if there is one
+     * @return Description of the restored snapshot, empty if there is no snapshot file
+     */
+    public synchronized Optional<SnapshotResponse> restore() {
+        if (!Files.isRegularFile(file)) {
+            logger.info("No snapshot found at {}, starting with the current database", file);
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("RUNSCRIPT FROM " + literal(file) + " COMPRESSION GZIP");
+        restartIdSequences();
+        long rows = countRows();
+        long durationNanos = System.nanoTime() - start;
+        // Restore throughput, to check that large datasets come back in seconds
+        long rowsPerSecond = durationNanos == 0 ? rows : rows * 1_000_000_000L / durationNanos;
+        try {
+            logger.info("Restored {} rows from {} ({} bytes) in {} ms, {} rows/s",
+                    rows, file, Files.size(file), durationNanos / 1_000_000, rowsPerSecond);
+            return Optional.of(new SnapshotResponse(file.toString(), rows, Files.size(file), durationNanos / 1_000_000));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read snapshot " + file, e);
+        }
+    }
+
+    // Beans are destroyed before the DataSource they depend on, so the database is still open here
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (!onShutdown) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            logger.error("Snapshot on shutdown failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create the id sequences missing from the restored schema and restart all of them after the highest id in use.
+     * Hibernate's pooled optimizer uses the block (value - allocationSize, value], so the restart value is
+     * one allocation above the last id.
+     */
+    private void restartIdSequences() {
+        Set<String> tables = jdbcTemplate.queryForList(
+                        "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                        String.class).stream()
+                .map(table -> table.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        for (IdSequence sequence : ID_SEQUENCES) {
+            long lastId = 0;
+            for (String table : sequence.tables()) {
+                if (tables.contains(table)) {
+                    Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                    lastId = Math.max(lastId, maxId == null ? 0 : maxId);
+                }
+            }
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence.name()
+                    + " START WITH 1 INCREMENT BY " + TodoEntity.ID_ALLOCATION_SIZE);
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence.name()
+                    + " RESTART WITH " + (lastId + TodoEntity.ID_ALLOCATION_SIZE + 1));
+            logger.info("Sequence {} restarted after id {}", sequence.name(), lastId);
+        }
+    }
+
+    private long countRows() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                String.class);
+        long rows = 0;
+        for (String table : tables) {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"" + table.replace("\"", "\"\"") + "\"", Long.class);
+            rows += count == null ? 0 : count;
+        }
+        return rows;
+    }
+
+    // SCRIPT and RUNSCRIPT take the file name as a string literal, not as a bind parameter
+    private static String literal(Path path) {
+        return "'" + path.toString().replace("'", "''") + "'";
+    }
+
+    private record IdSequence(String name, String... tables) {
+    }
+}
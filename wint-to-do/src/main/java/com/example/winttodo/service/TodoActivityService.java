@@ -0,0 +1,21 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.dto.CommentRequest;
+import com.example.winttodo.dto.CommentResponse;
+import com.example.winttodo.dto.HistoryEventRequest;
+import com.example.winttodo.dto.HistoryEventResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Comments and history of a todo: append-only, read page by page (oldest first).
+// Every method throws ResourceNotFoundException when the todo does not exist.
+public interface TodoActivityService {
+
+    CommentResponse addComment(Long todoId, CommentRequest commentRequest);
+
+    Page<CommentResponse> getComments(Long todoId, Pageable pageable);
+
+    HistoryEventResponse addHistoryEvent(Long todoId, HistoryEventRequest historyEventRequest);
+
+    Page<HistoryEventResponse> getHistory(Long todoId, Pageable pageable);
+}
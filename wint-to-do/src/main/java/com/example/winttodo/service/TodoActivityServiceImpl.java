@@ -0,0 +1,148 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.archive.TodoArchiveStore;
+import com.example.winttodo.dto.CommentRequest;
+import com.example.winttodo.dto.CommentResponse;
+import com.example.winttodo.dto.HistoryEventRequest;
+import com.example.winttodo.dto.HistoryEventResponse;
+import com.example.winttodo.exception.ResourceNotFoundException;
+import com.example.winttodo.model.TodoComment;
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.model.TodoHistoryEvent;
+import com.example.winttodo.repository.TodoCommentRepository;
+import com.example.winttodo.repository.TodoHistoryRepository;
+import com.example.winttodo.repository.TodoRepository;
+import com.example.winttodo.tracing.Traced;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * TodoActivityServiceImpl class
+ * Appends and pages the comments and history of a todo.
+ * - Append: a primary key lookup of the archived flag, which locks the todo row, and one INSERT. The todo is only
+ *   referenced (getReferenceById), never loaded, and the existing comments are never read, so the cost does not
+ *   grow with their number. Appending to an archived todo is a 404 like any todo that is not live, also while it
+ *   still waits in the live tables for TodoArchiveStore.moveArchived; the row lock keeps the move from running
+ *   between the check and the INSERT, so an accepted comment is never left behind by the move.
+ * - Read: one page of the (todo_id, created_at) index plus the count query, oldest first (id breaks ties).
+ *   The comments and history of a todo moved to the archive are read from the archive tables (read-only).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@Traced
+public class TodoActivityServiceImpl implements TodoActivityService {
+
+    // Oldest first; id keeps the order stable for entries created in the same instant
+    private static final Sort CHRONOLOGICAL = Sort.by("createdAt").ascending().and(Sort.by("id").ascending());
+
+    private final TodoRepository todoRepository;
+    private final TodoCommentRepository todoCommentRepository;
+    private final TodoHistoryRepository todoHistoryRepository;
+    private final TodoArchiveStore todoArchiveStore;
+
+    public TodoActivityServiceImpl(TodoRepository todoRepository,
+                                   TodoCommentRepository todoCommentRepository,
+                                   TodoHistoryRepository todoHistoryRepository,
+                                   TodoArchiveStore todoArchiveStore) {
+        this.todoRepository = todoRepository;
+        this.todoCommentRepository = todoCommentRepository;
+        this.todoHistoryRepository = todoHistoryRepository;
+        this.todoArchiveStore = todoArchiveStore;
+    }
+
+    @Override
+    @Transactional
+    public CommentResponse addComment(Long todoId, CommentRequest commentRequest) {
+        TodoComment comment = new TodoComment(referenceTo(todoId),
+                commentRequest.getComment(), commentRequest.getAuthor(), LocalDateTime.now());
+        return toCommentResponseDto(todoCommentRepository.save(comment), todoId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CommentResponse> getComments(Long todoId, Pageable pageable) {
+        if (isArchived(todoId)) {
+            return todoArchiveStore.findComments(todoId, pageable);
+        }
+        return todoCommentRepository.findByTodoId(todoId, chronological(pageable))
+                .map(comment -> toCommentResponseDto(comment, todoId));
+    }
+
+    @Override
+    @Transactional
+    public HistoryEventResponse addHistoryEvent(Long todoId, HistoryEventRequest historyEventRequest) {
+        TodoHistoryEvent event = new TodoHistoryEvent(referenceTo(todoId), historyEventRequest.getEvent(),
+                historyEventRequest.getActor(), historyEventRequest.getDetails(), LocalDateTime.now());
+        return toHistoryEventResponseDto(todoHistoryRepository.save(event), todoId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<HistoryEventResponse> getHistory(Long todoId, Pageable pageable) {
+        if (isArchived(todoId)) {
+            return todoArchiveStore.findHistory(todoId, pageable);
+        }
+        return todoHistoryRepository.findByTodoId(todoId, chronological(pageable))
+                .map(event -> toHistoryEventResponseDto(event, todoId));
+    }
+
+    /** 404 when the todo does not exist or is archived; locks the todo row until the end of the transaction */
+    private void requireLiveTodo(Long todoId) {
+        if (!todoRepository.lockArchivedFlag(todoId).map(archived -> !archived).orElse(false)) {
+            throw new ResourceNotFoundException("To-Do item not found with ID: " + todoId);
+        }
+    }
+
+    /** false for a live todo, true for a todo moved to the archive, 404 when it is in neither */
+    private boolean isArchived(Long todoId) {
+        if (todoRepository.existsById(todoId)) {
+            return false;
+        }
+        if (todoArchiveStore.exists(todoId)) {
+            return true;
+        }
+        throw new ResourceNotFoundException("To-Do item not found with ID: " + todoId);
+    }
+
+    /** Live todo as a proxy, so the new row gets its todo_id without a SELECT of the todo */
+    private TodoEntity referenceTo(Long todoId) {
+        requireLiveTodo(todoId);
+        return todoRepository.getReferenceById(todoId);
+    }
+
+    /** Page number and size of the request, always in chronological order */
+    private static Pageable chronological(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), CHRONOLOGICAL);
+    }
+
+    /** Convert Entity to DTO */
+    private CommentResponse toCommentResponseDto(TodoComment comment, Long todoId) {
+        CommentResponse commentResponse = new CommentResponse();
+        commentResponse.setId(comment.getId());
+        commentResponse.setTodoId(todoId);
+        commentResponse.setComment(comment.getComment());
+        commentResponse.setAuthor(comment.getAuthor());
+        commentResponse.setCreatedAt(comment.getCreatedAt());
+        return commentResponse;
+    }
+
+    /** Convert Entity to DTO */
+    private HistoryEventResponse toHistoryEventResponseDto(TodoHistoryEvent event, Long todoId) {
+        HistoryEventResponse historyEventResponse = new HistoryEventResponse();
+        historyEventResponse.setId(event.getId());
+        historyEventResponse.setTodoId(todoId);
+        historyEventResponse.setEvent(event.getEvent());
+        historyEventResponse.setActor(event.getActor());
+        historyEventResponse.setDetails(event.getDetails());
+        historyEventResponse.setCreatedAt(event.getCreatedAt());
+        return historyEventResponse;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.dto.BulkTodoResponse;
+import com.example.winttodo.dto.TodoRequest;
+
+import java.util.List;
+
+// Creates many todos (with their tags and comments) in one transaction with batched inserts.
+public interface TodoBulkService {
+
+    BulkTodoResponse createTodos(List<TodoRequest> todoRequests);
+}
@@ -0,0 +1,117 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.dto.BulkTodoResponse;
+import com.example.winttodo.dto.CommentRequest;
+import com.example.winttodo.dto.TodoRequest;
+import com.example.winttodo.model.TodoComment;
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.stats.TodoStatsCounters;
+import com.example.winttodo.tracing.Traced;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TodoBulkServiceImpl class
+ * Inserts many todos in one transaction with JDBC batching, batchSize todos at a time:
+ * - ids come from pooled sequences (TodoEntity.ID_ALLOCATION_SIZE per round trip), so no INSERT has to run alone
+ *   to read back a generated key;
+ * - the todos of a chunk are persisted first, then their comments: at flush Hibernate sends one batch of todos,
+ *   one of comments and then one of todo_tags (collection rows come after the entity inserts);
+ * - the persistence context is flushed and cleared after every chunk, so memory does not grow with the payload.
+ * The payload is validated before this is called (BulkTodoRequest), any failure rolls back the whole insert.
+ * elapsedMs covers the transaction including its commit.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Service
+@Traced
+public class TodoBulkServiceImpl implements TodoBulkService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoStatsCounters todoStatsCounters;
+    private final int batchSize;
+
+    public TodoBulkServiceImpl(EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               TodoStatsCounters todoStatsCounters,
+                               @Value("${app.bulk.batch-size:50}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.bulk.batch-size must be at least 1");
+        }
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoStatsCounters = todoStatsCounters;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BulkTodoResponse createTodos(List<TodoRequest> todoRequests) {
+        long start = System.nanoTime();
+        List<TodoEntity> todos = new ArrayList<>(todoRequests.size());
+        long[] childRows = new long[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            // batch size of this session only, whatever hibernate.jdbc.batch_size is
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            LocalDateTime now = LocalDateTime.now();
+            for (int from = 0; from < todoRequests.size(); from += batchSize) {
+                List<TodoRequest> chunk = todoRequests.subList(from, Math.min(todoRequests.size(), from + batchSize));
+                List<TodoEntity> chunkTodos = new ArrayList<>(chunk.size());
+                for (TodoRequest todoRequest : chunk) {
+                    TodoEntity todo = toEntity(todoRequest);
+                    entityManager.persist(todo);
+                    chunkTodos.add(todo);
+                    childRows[0] += todo.getTags().size();
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    List<CommentRequest> comments = chunk.get(i).getComments();
+                    if (comments == null) {
+                        continue;
+                    }
+                    for (CommentRequest comment : comments) {
+                        entityManager.persist(new TodoComment(chunkTodos.get(i), comment.getComment(), comment.getAuthor(), now));
+                        childRows[1]++;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+                todos.addAll(chunkTodos);
+            }
+        });
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // committed: count the new (open) todos
+        todos.forEach(todo -> todoStatsCounters.onCreated(todo.getAssignedUserId(), false, false, todo.getDueDate()));
+        BulkTodoResponse response = new BulkTodoResponse(todos.stream().map(TodoEntity::getId).toList(),
+                childRows[0], childRows[1], elapsedMs);
+        logger.info("Bulk insert: {} rows ({} todos, {} tags, {} comments) in {} ms, {} rows/s",
+                response.getRows(), response.getCreated(), response.getTagRows(), response.getCommentRows(),
+                elapsedMs, response.getRowsPerSecond());
+        return response;
+    }
+
+    private static TodoEntity toEntity(TodoRequest todoRequest) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(todoRequest.getTitle());
+        todo.setDescription(todoRequest.getDescription());
+        todo.setDueDate(todoRequest.getDueDate());
+        todo.setAssignedUserId(todoRequest.getAssignedUserId());
+        if (todoRequest.getTags() != null) {
+            todo.setTags(new ArrayList<>(todoRequest.getTags()));
+        }
+        return todo;
+    }
+}
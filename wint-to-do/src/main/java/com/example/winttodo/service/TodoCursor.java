@@ -0,0 +1,40 @@
+package com.example.winttodo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * TodoCursor record
+ * Position of the last todo of a keyset page: its (dueDate, id), the sort key of the due-date listings.
+ * The next page starts strictly after it, so rows inserted or removed meanwhile never shift the pages.
+ * A null dueDate stands for the todos without due date, which sort after all dated ones (by id).
+ * Encoded as an opaque URL-safe string ("2026-10-19:42" or ":42" in Base64) so clients do not build it themselves.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public record TodoCursor(LocalDate dueDate, long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(((dueDate == null ? "" : dueDate.toString()) + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor Value returned as nextCursor by a previous page
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the cursor was not produced by encode()
+     */
+    public static TodoCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(':');
+            String date = decoded.substring(0, separator);
+            return new TodoCursor(date.isEmpty() ? null : LocalDate.parse(date), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
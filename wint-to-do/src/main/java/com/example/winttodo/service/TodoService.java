@@ -1,11 +1,17 @@
 package com.example.winttodo.service;
 
+import com.example.winttodo.dto.CursorPage;
+import com.example.winttodo.dto.TagMatch;
 import com.example.winttodo.dto.TodoFullResponse;
 import com.example.winttodo.dto.TodoRequest;
 import com.example.winttodo.dto.TodoResponse;
+import com.example.winttodo.dto.TodoStatsResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TodoService {
@@ -17,4 +23,25 @@ public interface TodoService {
 
     // this will fetch only the non-archived todo items.
     Page<TodoResponse> findAllByArchivedFalse(Pageable pageable);
+
+    // this will fetch the non-archived todo items having all (or any) of the given tags after afterId, ordered by id.
+    Slice<TodoResponse> findAllByTags(Collection<String> tags, TagMatch match, long afterId, int size);
+
+    // todo items due between from and to (both optional, inclusive) ordered by due date, keyset paginated with cursor.
+    CursorPage<TodoResponse> findDue(LocalDate from, LocalDate to, boolean includeArchived, String cursor, int size);
+
+    // the next 'limit' open todo items due today or later.
+    List<TodoResponse> findUpcoming(int limit);
+
+    // todo items assigned to a user, filtered by completed/archived (null = both), ordered by due date (undated last).
+    CursorPage<TodoResponse> findByAssignee(Long userId, Boolean completed, Boolean archived, String cursor, int size);
+
+    // marks an open todo item as completed (no-op when it already is).
+    TodoResponse completeTodo(Long id);
+
+    // archives a todo item (no-op when it already is).
+    TodoResponse archiveTodo(Long id);
+
+    // open/completed/archived/overdue counts, of every assignee or of one (userId not null), from in-memory counters.
+    TodoStatsResponse getStats(Long userId, boolean allUsers);
 }
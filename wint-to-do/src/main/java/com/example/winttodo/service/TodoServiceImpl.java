@@ -1,19 +1,43 @@
 package com.example.winttodo.service;
 
+import com.example.winttodo.archive.TodoArchiveStore;
+import com.example.winttodo.dto.CommentRequest;
+import com.example.winttodo.dto.CursorPage;
+import com.example.winttodo.dto.TagMatch;
 import com.example.winttodo.dto.TodoFullResponse;
 import com.example.winttodo.dto.TodoRequest;
 import com.example.winttodo.dto.TodoResponse;
+import com.example.winttodo.dto.TodoStatsResponse;
+import com.example.winttodo.exception.ResourceNotFoundException;
+import com.example.winttodo.model.TodoComment;
 import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoCommentRepository;
 import com.example.winttodo.repository.TodoRepository;
-import com.example.winttodo.utils.LogUtils;
+import com.example.winttodo.stats.TodoStatsCounters;
+import com.example.winttodo.tracing.Traced;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -23,30 +47,60 @@ import java.util.stream.Collectors;
  * @since : 2025-09-18, Thursday
  **/
 @Service
+@Traced
 public class TodoServiceImpl implements TodoService {
 
+    // Bounds used when /due is called without 'from' or 'to' (inside the DATE range of every database)
+    static final LocalDate MIN_DUE_DATE = LocalDate.of(1, 1, 1);
+    static final LocalDate MAX_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    // Rows of a tag counted at most to find the rarest tag of an ALL match: past that, a tag is simply "frequent"
+    private static final int RAREST_TAG_PROBE = 10_000;
+
+    // Sort key of the due-date listings, the same order as the (archived, due_date, id) index within one archived value
+    private static final Comparator<TodoEntity> DUE_DATE_ORDER =
+            Comparator.comparing(TodoEntity::getDueDate).thenComparing(TodoEntity::getId);
+
+    // Sort key of the assignee listing: like DUE_DATE_ORDER, with the todos without due date last (by id)
+    private static final Comparator<TodoEntity> ASSIGNEE_ORDER =
+            Comparator.comparing(TodoEntity::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(TodoEntity::getId);
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final TodoRepository todoRepository;
+    private final TodoArchiveStore todoArchiveStore;
+    private final TodoStatsCounters todoStatsCounters;
+    private final TodoCommentRepository todoCommentRepository;
 
-    public TodoServiceImpl(TodoRepository todoRepository) {
+    public TodoServiceImpl(TodoRepository todoRepository, TodoArchiveStore todoArchiveStore,
+                           TodoStatsCounters todoStatsCounters, TodoCommentRepository todoCommentRepository) {
         this.todoRepository = todoRepository;
+        this.todoCommentRepository = todoCommentRepository;
+        this.todoArchiveStore = todoArchiveStore;
+        this.todoStatsCounters = todoStatsCounters;
     }
 
     @Override
+    @Transactional
     public TodoResponse createTodo(TodoRequest todoRequest) {
-        // log entry to createTodo
-        LogUtils.logMethodEntry(logger, this);
-
         // Convert DTO to Entity
         TodoEntity todoEntity = new TodoEntity();
         todoEntity.setTitle(todoRequest.getTitle());
         todoEntity.setDescription(todoRequest.getDescription());
         todoEntity.setTags(todoRequest.getTags());
         todoEntity.setDueDate(todoRequest.getDueDate());
+        todoEntity.setAssignedUserId(todoRequest.getAssignedUserId());
 
         // save entity to database
         TodoEntity todo = todoRepository.save(todoEntity);
+        if (todoRequest.getComments() != null) {
+            LocalDateTime now = LocalDateTime.now();
+            for (CommentRequest comment : todoRequest.getComments()) {
+                todoCommentRepository.save(new TodoComment(todo, comment.getComment(), comment.getAuthor(), now));
+            }
+        }
+        afterCommit(() -> todoStatsCounters.onCreated(todo.getAssignedUserId(), todo.isCompleted(), todo.isArchived(), todo.getDueDate()));
         // convert entity to dto
         return toTodoResponseDto(todo);
     }
@@ -54,8 +108,6 @@ public class TodoServiceImpl implements TodoService {
     // Paginated fetch all todos
    @Override
    public Page<TodoResponse> findAllByArchivedFalse(Pageable pageable) {
-         // log entry to createTodo
-         LogUtils.logMethodEntry(logger, this);
          // fetch paginated data from repository
          Page<TodoEntity> todoEntityPage = todoRepository.findAllByArchivedFalse(pageable);
          // convert entity to dto
@@ -67,15 +119,341 @@ public class TodoServiceImpl implements TodoService {
    }
 
     /**
-     * Fetch all todos including archived ones
+     * Fetch the non-archived todos having all (match=ALL) or any (match=ANY) of the given tags, after afterId in id order
+     * Keyset pagination over the (tag, todo_id) index, without total count: the next slice starts after the id of the
+     * last todo of this one, so deep slices cost as much as the first.
+     * - ALL reads the index range of the rarest tag (rows counted up to RAREST_TAG_PROBE per tag) and checks the
+     *   other tags todo by todo.
+     * - ANY reads the first size ids of the range of every tag and keeps the smallest distinct ones (union).
+     * Tags are trimmed, blanks and duplicates are dropped.
+     * @param tags Tags to look for
+     * @param match ALL for an intersection, ANY for a union
+     * @param afterId Id of the last todo of the previous slice, 0 for the first slice
+     * @param size Slice size
+     * @return Slice<TodoResponse>
+     * @throws IllegalArgumentException if no tag is left
+     */
+    @Override
+    public Slice<TodoResponse> findAllByTags(Collection<String> tags, TagMatch match, long afterId, int size) {
+        Set<String> distinctTags = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    distinctTags.add(tag.trim());
+                }
+            }
+        }
+        if (distinctTags.isEmpty()) {
+            throw new IllegalArgumentException("At least one non-blank tag is required");
+        }
+        // The tag queries are native and already ordered by id, the position is afterId
+        Pageable firstRows = PageRequest.of(0, size);
+        Slice<TodoEntity> todos;
+        if (match == TagMatch.ALL) {
+            Slice<TodoEntity> matches = todoRepository.findAllByAllTags(distinctTags, distinctTags.size(),
+                    rarestTag(distinctTags), afterId, firstRows);
+            todos = new SliceImpl<>(distinctById(matches.getContent()), firstRows, matches.hasNext());
+        } else {
+            todos = findAllByAnyTag(distinctTags, afterId, firstRows);
+        }
+        return todos.map(this::toTodoResponseDto);
+    }
+
+    /** The tag with the fewest todo_tags rows, the cheapest range to drive an ALL match */
+    private String rarestTag(Set<String> tags) {
+        String rarest = tags.iterator().next();
+        if (tags.size() == 1) {
+            return rarest;
+        }
+        long fewest = Long.MAX_VALUE;
+        for (String tag : tags) {
+            long count = todoRepository.countTodosWithTag(tag, RAREST_TAG_PROBE);
+            if (count < fewest) {
+                fewest = count;
+                rarest = tag;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Union of the tag ranges after afterId: the first size ids of the union are among the first size ids of each
+     * range, so one slice query per tag is enough; the todos of the kept ids are loaded with one query.
+     */
+    private Slice<TodoEntity> findAllByAnyTag(Set<String> tags, long afterId, Pageable pageable) {
+        TreeSet<Long> ids = new TreeSet<>();
+        boolean hasNext = false;
+        for (String tag : tags) {
+            Slice<Long> range = todoRepository.findIdsByTag(tag, afterId, pageable);
+            ids.addAll(range.getContent());
+            hasNext |= range.hasNext();
+        }
+        while (ids.size() > pageable.getPageSize()) {
+            ids.pollLast();
+            hasNext = true;
+        }
+        List<TodoEntity> todos = ids.isEmpty() ? List.of() : new ArrayList<>(todoRepository.findWithTagsByIdIn(ids));
+        if (!todos.isEmpty()) {
+            todos.sort(Comparator.comparing(TodoEntity::getId));
+        }
+        return new SliceImpl<>(todos, pageable, hasNext);
+    }
+
+    /**
+     * Fetch the todos due between from and to (inclusive), ordered by (dueDate, id), one keyset page at a time
+     * Each archived value is its own range of the (archived, due_date, id) index. With includeArchived both ranges
+     * are read (size + 1 rows each, in order) and merged here, instead of one query that would have to sort.
+     * Archived todos already moved to the archive tables are read from there, only when includeArchived is set.
+     * Todos without a due date are never returned.
+     * @param from First due date, null for no lower bound
+     * @param to Last due date, null for no upper bound
+     * @param includeArchived Also return archived todos
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size Page size
+     * @return CursorPage<TodoResponse>
+     * @throws IllegalArgumentException if from is after to or the cursor is invalid
+     */
+    @Override
+    public CursorPage<TodoResponse> findDue(LocalDate from, LocalDate to, boolean includeArchived, String cursor, int size) {
+        LocalDate lower = from != null ? from : MIN_DUE_DATE;
+        LocalDate upper = to != null ? to : MAX_DUE_DATE;
+        if (lower.isAfter(upper)) {
+            throw new IllegalArgumentException("'from' (" + from + ") must not be after 'to' (" + to + ")");
+        }
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            TodoCursor position = TodoCursor.decode(cursor);
+            if (position.dueDate() == null) {
+                // /due never returns todos without due date, so it never hands out such a cursor
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            // continue strictly after the last returned todo; an earlier 'from' is already behind the cursor
+            if (!position.dueDate().isBefore(lower)) {
+                lower = position.dueDate();
+                afterId = position.id();
+            }
+        }
+        // one extra row tells whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<TodoEntity> todos = new ArrayList<>(todoRepository.findDueAfter(false, lower, upper, afterId, limit));
+        if (includeArchived) {
+            todos.addAll(todoRepository.findDueAfter(true, lower, upper, afterId, limit));
+            todos.addAll(todoArchiveStore.findDueAfter(lower, upper, afterId, limit.max()));
+            todos = distinctById(todos);
+            todos.sort(DUE_DATE_ORDER);
+        }
+        String nextCursor = null;
+        if (todos.size() > size) {
+            todos = todos.subList(0, size);
+            TodoEntity last = todos.get(size - 1);
+            nextCursor = new TodoCursor(last.getDueDate(), last.getId()).encode();
+        }
+        return new CursorPage<>(todos.stream().map(this::toTodoResponseDto).toList(), nextCursor);
+    }
+
+    /**
+     * Fetch the todos assigned to a user, ordered by (dueDate, id) with the todos without due date last, keyset paginated
+     * Every (archived, completed) combination selected by the filters is its own range of the
+     * (assigned_user_id, archived, completed, due_date) index; each range is read in order (size + 1 rows at most)
+     * and the ranges are merged here. The default dashboard (archived=false, completed given) is a single range.
+     * Archived todos are also read from the archive tables, only when the archived filter lets them through.
+     * @param userId Assignee
+     * @param completed Only completed (true) or open (false) todos, null for both
+     * @param archived Only archived (true) or non-archived (false) todos, null for both
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size Page size
+     * @return CursorPage<TodoResponse>
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Override
+    public CursorPage<TodoResponse> findByAssignee(Long userId, Boolean completed, Boolean archived, String cursor, int size) {
+        TodoCursor position = cursor == null || cursor.isBlank() ? null : TodoCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<TodoEntity> todos = new ArrayList<>();
+        for (boolean archivedValue : flagValues(archived)) {
+            for (boolean completedValue : flagValues(completed)) {
+                List<TodoEntity> range = new ArrayList<>();
+                if (position == null || position.dueDate() != null) {
+                    // dated todos after the cursor, then (if the page is not full yet) the undated ones from the start
+                    LocalDate from = position == null ? MIN_DUE_DATE : position.dueDate();
+                    long afterId = position == null ? Long.MIN_VALUE : position.id();
+                    range.addAll(todoRepository.findAssignedDueAfter(userId, archivedValue, completedValue, from, afterId, limit));
+                    if (range.size() <= size) {
+                        range.addAll(todoRepository.findAssignedWithoutDueDateAfter(userId, archivedValue, completedValue,
+                                Long.MIN_VALUE, Limit.of(size + 1 - range.size())));
+                    }
+                } else {
+                    // the cursor is already among the undated todos
+                    range.addAll(todoRepository.findAssignedWithoutDueDateAfter(userId, archivedValue, completedValue,
+                            position.id(), limit));
+                }
+                todos.addAll(range);
+                if (archivedValue) {
+                    todos.addAll(findArchivedByAssignee(userId, completedValue, position, size));
+                }
+            }
+        }
+        todos = distinctById(todos);
+        todos.sort(ASSIGNEE_ORDER);
+        String nextCursor = null;
+        if (todos.size() > size) {
+            todos = todos.subList(0, size);
+            TodoEntity last = todos.get(size - 1);
+            nextCursor = new TodoCursor(last.getDueDate(), last.getId()).encode();
+        }
+        return new CursorPage<>(todos.stream().map(this::toTodoResponseDto).toList(), nextCursor);
+    }
+
+    /** Same ranges as findByAssignee, in the archive tables */
+    private List<TodoEntity> findArchivedByAssignee(Long userId, boolean completed, TodoCursor position, int size) {
+        List<TodoEntity> range = new ArrayList<>();
+        if (position == null || position.dueDate() != null) {
+            LocalDate from = position == null ? MIN_DUE_DATE : position.dueDate();
+            long afterId = position == null ? Long.MIN_VALUE : position.id();
+            range.addAll(todoArchiveStore.findAssignedDueAfter(userId, completed, from, afterId, size + 1));
+            if (range.size() <= size) {
+                range.addAll(todoArchiveStore.findAssignedWithoutDueDateAfter(userId, completed,
+                        Long.MIN_VALUE, size + 1 - range.size()));
+            }
+        } else {
+            range.addAll(todoArchiveStore.findAssignedWithoutDueDateAfter(userId, completed, position.id(), size + 1));
+        }
+        return range;
+    }
+
+    /**
+     * Drop the todos already seen (by id), keeping the first occurrence.
+     * A todo moved to the archive between the live and the archive query may be read from both.
+     */
+    private static List<TodoEntity> distinctById(List<TodoEntity> todos) {
+        Set<Long> seen = new HashSet<>();
+        List<TodoEntity> distinct = new ArrayList<>(todos.size());
+        for (TodoEntity todo : todos) {
+            if (seen.add(todo.getId())) {
+                distinct.add(todo);
+            }
+        }
+        return distinct;
+    }
+
+    /** The values a boolean filter selects: the given one, or both when the filter is not set */
+    private static boolean[] flagValues(Boolean filter) {
+        return filter == null ? new boolean[]{false, true} : new boolean[]{filter};
+    }
+
+    /**
+     * Fetch the next open (not archived, not completed) todos due today or later, ordered by due date
+     * @param limit Number of todos
+     * @return List<TodoResponse>
+     */
+    @Override
+    public List<TodoResponse> findUpcoming(int limit) {
+        return todoRepository.findUpcoming(LocalDate.now(), Limit.of(limit)).stream()
+                .map(this::toTodoResponseDto)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Mark an open todo as completed
+     * The conditional update (still open) makes sure only one of concurrent calls counts the transition.
+     * @param id Todo id
+     * @return TodoResponse
+     * @throws ResourceNotFoundException if the todo is not a live todo
+     * @throws IllegalArgumentException if the todo is archived
+     */
+    @Override
+    public TodoResponse completeTodo(Long id) {
+        TodoEntity todo = requireLiveTodo(id);
+        if (todo.isArchived()) {
+            throw new IllegalArgumentException("To-Do item " + id + " is archived and cannot be completed");
+        }
+        if (!todo.isCompleted()) {
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (todoRepository.markCompleted(id, completedAt) == 1) {
+                afterCommit(() -> todoStatsCounters.onCompleted(todo.getAssignedUserId(), todo.getDueDate()));
+            }
+            todo.setCompleted(true);
+            todo.setCompletedAt(completedAt);
+        }
+        return toTodoResponseDto(todo);
+    }
+
+    /**
+     * Archive a todo (open or completed); the archive job moves it to the archive tables later
+     * The update only applies if the completed flag read here is still current, otherwise the todo is read again,
+     * so the stats counters always move the todo out of the status it really had.
+     * @param id Todo id
+     * @return TodoResponse
+     * @throws ResourceNotFoundException if the todo is not a live todo
+     */
+    @Override
+    public TodoResponse archiveTodo(Long id) {
+        TodoEntity todo = requireLiveTodo(id);
+        while (!todo.isArchived()) {
+            if (todoRepository.markArchived(id, todo.isCompleted()) == 1) {
+                TodoEntity archived = todo;
+                afterCommit(() -> todoStatsCounters.onArchived(archived.getAssignedUserId(), archived.isCompleted(), archived.getDueDate()));
+                todo.setArchived(true);
+            } else {
+                // completed or archived in the meantime
+                todo = requireLiveTodo(id);
+            }
+        }
+        return toTodoResponseDto(todo);
+    }
+
+    /**
+     * Open, completed, archived and overdue counts, read from TodoStatsCounters (no database access)
+     * @param userId Also the counts of this assignee, null for none
+     * @param allUsers Also the counts of every assignee (one entry per user, the response grows with them)
+     * @return TodoStatsResponse
+     * @throws IllegalArgumentException if both a user and all users are asked for
+     */
+    @Override
+    public TodoStatsResponse getStats(Long userId, boolean allUsers) {
+        if (allUsers) {
+            if (userId != null) {
+                throw new IllegalArgumentException("Ask for one user (userId) or for all users (allUsers=true), not both");
+            }
+            return todoStatsCounters.snapshotAllUsers();
+        }
+        return userId == null ? todoStatsCounters.snapshotTotal() : todoStatsCounters.snapshot(userId);
+    }
+
+    /**
+     * Update the stats counters once the current transaction has committed (right away without transaction):
+     * a write that is rolled back, e.g. by a failing comment insert of createTodo, is never counted
+     */
+    private static void afterCommit(Runnable counterUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counterUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counterUpdate.run();
+            }
+        });
+    }
+
+    /** 404 when the todo is not in the live tables (moved to the archive or never created) */
+    private TodoEntity requireLiveTodo(Long id) {
+        return todoRepository.findWithTagsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("To-Do item not found with ID: " + id));
+    }
+
+    /**
+     * Fetch all todos including archived ones, from the live tables and then from the archive tables
      * @return List<TodoResponse>
      */
     @Override
     public List<TodoFullResponse> getAll() {
-        // log entry to createTodo
-        LogUtils.logMethodEntry(logger, this);
-        // fetch paginated data from repository
-        List<TodoEntity> todos = todoRepository.findAll();
+        // fetch all todos, tags included (one query instead of one extra query per todo for its tags)
+        List<TodoEntity> todos = new ArrayList<>(todoRepository.findAllWithTags());
+        // the todos moved to the archive tables, tags included (two queries whatever their number)
+        todos.addAll(todoArchiveStore.findAll());
+        todos = distinctById(todos);
         // convert entity to dto
         return todos.stream()
                 .map(this::toTodoFullResponseDto)
@@ -109,7 +487,8 @@ public class TodoServiceImpl implements TodoService {
         // Alternatively, we could use DateTimeFormatter to format the date, but for ISO format, toString() is sufficient.
         // Example: LocalDate dueDate = LocalDate.of(2023, 10, 5);
         //          String dueDateString = dueDate.toString(); // "2023-10-05"
-        todoResponse.setDueDate(todo.getDueDate().toString());
+        // dueDate is optional, a todo without one keeps a null dueDate
+        todoResponse.setDueDate(todo.getDueDate() == null ? null : todo.getDueDate().toString());
         todoResponse.setCompleted(todo.isCompleted());
         todoResponse.setArchived(todo.isArchived());
         todoResponse.setTags(todo.getTags());
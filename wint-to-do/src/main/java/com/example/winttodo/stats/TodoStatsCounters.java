@@ -0,0 +1,197 @@
+package com.example.winttodo.stats;
+
+import com.example.winttodo.dto.StatusCounts;
+import com.example.winttodo.dto.TodoStatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TodoStatsCounters class
+ * In-memory todo counts per assignee and per status, served by GET /api/todos/stats without touching the database.
+ * - Statuses: a todo is OPEN, COMPLETED or ARCHIVED; OVERDUE is the part of OPEN whose due date is before the day
+ *   of the counters: the day of the last reconciliation. Creates, completes and archives decide overdue against that
+ *   same day, so they only take out of OVERDUE what was counted in it; the todos that became overdue since are
+ *   added by the next reconciliation. OVERDUE is never decremented below 0 (an update racing a reconciliation).
+ * - Every (user, status) pair is a LongAdder: concurrent creates/completes of the same user do not contend on one value.
+ * - Updated by the service after each create, complete and archive has been committed to the database.
+ * - Replaced as a whole by TodoStatsReconciliationJob from a count in the database. This corrects writes that bypass
+ *   the service (seeder, direct SQL) and moves OVERDUE to the new day. An update racing with
+ *   a reconciliation may be lost until the next one.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Component
+public class TodoStatsCounters {
+
+    public enum Status { OPEN, COMPLETED, ARCHIVED, OVERDUE }
+
+    private static final Status[] STATUSES = Status.values();
+
+    /** One LongAdder per status */
+    static final class Counters {
+        private final LongAdder[] adders = new LongAdder[STATUSES.length];
+
+        Counters() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        void add(Status status, long delta) {
+            adders[status.ordinal()].add(delta);
+        }
+
+        // Only OVERDUE is decremented this way; synchronized so two decrements cannot both see the last 1.
+        // Increments stay lock-free, they can only make the value larger.
+        synchronized void decrementIfPositive(Status status) {
+            LongAdder adder = adders[status.ordinal()];
+            if (adder.sum() > 0) {
+                adder.decrement();
+            }
+        }
+
+        long get(Status status) {
+            return adders[status.ordinal()].sum();
+        }
+
+        StatusCounts toStatusCounts() {
+            return new StatusCounts(get(Status.OPEN), get(Status.COMPLETED), get(Status.ARCHIVED), get(Status.OVERDUE));
+        }
+    }
+
+    /** All counters, swapped in one write by reset(); day: OVERDUE counts the open todos due before it */
+    private record State(Counters total, ConcurrentHashMap<Long, Counters> users, LocalDate day, LocalDateTime reconciledAt) {
+    }
+
+    private volatile State state = new State(new Counters(), new ConcurrentHashMap<>(), LocalDate.now(), null);
+
+    /**
+     * A todo has been created (or inserted) in the given state
+     */
+    public void onCreated(Long userId, boolean completed, boolean archived, LocalDate dueDate) {
+        Status status = archived ? Status.ARCHIVED : completed ? Status.COMPLETED : Status.OPEN;
+        State current = state;
+        add(current, userId, status, 1);
+        if (status == Status.OPEN && isOverdue(dueDate, current.day())) {
+            add(current, userId, Status.OVERDUE, 1);
+        }
+    }
+
+    /**
+     * An open todo has been completed
+     */
+    public void onCompleted(Long userId, LocalDate dueDate) {
+        State current = state;
+        leaveOpen(current, userId, dueDate);
+        add(current, userId, Status.COMPLETED, 1);
+    }
+
+    /**
+     * A todo that was open (completed = false) or completed has been archived
+     */
+    public void onArchived(Long userId, boolean completed, LocalDate dueDate) {
+        State current = state;
+        if (completed) {
+            add(current, userId, Status.COMPLETED, -1);
+        } else {
+            leaveOpen(current, userId, dueDate);
+        }
+        add(current, userId, Status.ARCHIVED, 1);
+    }
+
+    /**
+     * Replace every counter
+     * @param users Counts per assignee, indexed by Status ordinal
+     * @param total Counts of all todos (assigned or not), indexed by Status ordinal
+     * @param day The OVERDUE counts are of the open todos due before this day
+     * @return Number of counters (user or total, per status) whose value changed
+     */
+    public int reset(Map<Long, long[]> users, long[] total, LocalDate day) {
+        ConcurrentHashMap<Long, Counters> newUsers = new ConcurrentHashMap<>(Math.max(16, users.size() * 2));
+        users.forEach((userId, counts) -> newUsers.put(userId, countersOf(counts)));
+        State previous = state;
+        state = new State(countersOf(total), newUsers, day, LocalDateTime.now());
+        return drift(previous.total(), total)
+                + users.entrySet().stream()
+                .mapToInt(entry -> drift(previous.users().get(entry.getKey()), entry.getValue()))
+                .sum();
+    }
+
+    /**
+     * Current counts, in total and of one assignee
+     * @param userId The assignee
+     * @return TodoStatsResponse
+     */
+    public TodoStatsResponse snapshot(long userId) {
+        State current = state;
+        Counters counters = current.users().get(userId);
+        Map<Long, StatusCounts> users = Map.of(userId, counters == null ? new StatusCounts(0, 0, 0, 0) : counters.toStatusCounts());
+        return new TodoStatsResponse(current.total().toStatusCounts(), users, current.reconciledAt());
+    }
+
+    /**
+     * Current counts in total, without any assignee
+     * @return TodoStatsResponse
+     */
+    public TodoStatsResponse snapshotTotal() {
+        State current = state;
+        return new TodoStatsResponse(current.total().toStatusCounts(), Map.of(), current.reconciledAt());
+    }
+
+    /**
+     * Current counts, in total and of every assignee: one entry per user, only when asked for explicitly
+     * @return TodoStatsResponse
+     */
+    public TodoStatsResponse snapshotAllUsers() {
+        State current = state;
+        Map<Long, StatusCounts> users = new TreeMap<>();
+        current.users().forEach((id, counters) -> users.put(id, counters.toStatusCounts()));
+        return new TodoStatsResponse(current.total().toStatusCounts(), users, current.reconciledAt());
+    }
+
+    private void leaveOpen(State current, Long userId, LocalDate dueDate) {
+        add(current, userId, Status.OPEN, -1);
+        if (isOverdue(dueDate, current.day())) {
+            current.total().decrementIfPositive(Status.OVERDUE);
+            if (userId != null) {
+                current.users().computeIfAbsent(userId, id -> new Counters()).decrementIfPositive(Status.OVERDUE);
+            }
+        }
+    }
+
+    private static void add(State current, Long userId, Status status, long delta) {
+        current.total().add(status, delta);
+        if (userId != null) {
+            current.users().computeIfAbsent(userId, id -> new Counters()).add(status, delta);
+        }
+    }
+
+    static boolean isOverdue(LocalDate dueDate, LocalDate day) {
+        return dueDate != null && dueDate.isBefore(day);
+    }
+
+    private static Counters countersOf(long[] counts) {
+        Counters counters = new Counters();
+        for (Status status : STATUSES) {
+            counters.add(status, counts[status.ordinal()]);
+        }
+        return counters;
+    }
+
+    private static int drift(Counters previous, long[] counts) {
+        int changed = 0;
+        for (Status status : STATUSES) {
+            if ((previous == null ? 0 : previous.get(status)) != counts[status.ordinal()]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.winttodo.stats;
+
+import com.example.winttodo.archive.TodoArchiveStore;
+import com.example.winttodo.stats.TodoStatsCounters.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TodoStatsReconciliationJob class
+ * Recomputes TodoStatsCounters from the database: one grouped count over the live and the archive tables together
+ * (TodoArchiveStore.countByAssigneeAndStatus), so todos moved to the archive during the count are not counted twice.
+ * Runs once the application is ready (after TodoDataSeeder) and then every app.stats.reconcile-interval-ms.
+ * A non-zero drift means some writes bypassed the service, or todos became overdue since the last run.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Component
+public class TodoStatsReconciliationJob {
+
+    private final Logger logger = LoggerFactory.getLogger(TodoStatsReconciliationJob.class);
+
+    private final TodoArchiveStore todoArchiveStore;
+    private final TodoStatsCounters todoStatsCounters;
+
+    public TodoStatsReconciliationJob(TodoArchiveStore todoArchiveStore,
+                                      TodoStatsCounters todoStatsCounters) {
+        this.todoArchiveStore = todoArchiveStore;
+        this.todoStatsCounters = todoStatsCounters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Replace the counters with the counts of the database
+     * @return Number of counters whose value changed
+     */
+    @Scheduled(initialDelayString = "${app.stats.reconcile-interval-ms:60000}",
+            fixedDelayString = "${app.stats.reconcile-interval-ms:60000}")
+    public int reconcile() {
+        long start = System.nanoTime();
+        Map<Long, long[]> users = new HashMap<>();
+        long[] total = new long[Status.values().length];
+        LocalDate today = LocalDate.now();
+
+        for (TodoArchiveStore.StatusCount row : todoArchiveStore.countByAssigneeAndStatus(today)) {
+            Status status = row.archived() ? Status.ARCHIVED : row.completed() ? Status.COMPLETED : Status.OPEN;
+            add(users, total, row.userId(), status, row.count());
+            if (status == Status.OPEN) {
+                add(users, total, row.userId(), Status.OVERDUE, row.overdue());
+            }
+        }
+
+        int drift = todoStatsCounters.reset(users, total, today);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (drift > 0) {
+            logger.info("Reconciled todo stats: {} users, {} counters corrected ({} ms)", users.size(), drift, elapsedMs);
+        } else {
+            logger.debug("Reconciled todo stats: {} users, no drift ({} ms)", users.size(), elapsedMs);
+        }
+        return drift;
+    }
+
+    private static void add(Map<Long, long[]> users, long[] total, Long userId, Status status, long count) {
+        total[status.ordinal()] += count;
+        if (userId != null) {
+            users.computeIfAbsent(userId, id -> new long[Status.values().length])[status.ordinal()] += count;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.winttodo.tracing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Traced annotation
+ * Marks a bean whose method calls are traced (entry, exit and duration) by TracingBeanPostProcessor.
+ * Replaces the LogUtils.logMethodEntry(logger, this) call at the start of every method:
+ * method names are resolved once when the bean is wired instead of walking the stack on every call.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Traced {
+}
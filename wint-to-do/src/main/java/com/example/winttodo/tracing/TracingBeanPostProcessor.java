@@ -0,0 +1,51 @@
+package com.example.winttodo.tracing;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * TracingBeanPostProcessor class
+ * Wraps every bean annotated with @Traced in a class-based proxy with a TracingInterceptor.
+ * - Beans that are already proxies (e.g. @Transactional) get the interceptor added to their advice chain.
+ * - Class-based (CGLIB) proxies also intercept the package-private request handlers of the controllers.
+ * This post processor is only registered when tracing is enabled (TracingConfig),
+ * so with app.tracing.enabled=false the beans are not proxied at all and tracing costs nothing.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TracingBeanPostProcessor implements BeanPostProcessor {
+
+    private final int sampleRate;
+
+    /**
+     * @param sampleRate Trace 1 call out of sampleRate, 1 traces every call
+     */
+    public TracingBeanPostProcessor(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be at least 1 but was " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (!AnnotatedElementUtils.hasAnnotation(targetClass, Traced.class)) {
+            return bean;
+        }
+        TracingInterceptor interceptor = new TracingInterceptor(targetClass, sampleRate);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            // Outermost advice, so the measured duration includes the other advices (e.g. the transaction)
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+}
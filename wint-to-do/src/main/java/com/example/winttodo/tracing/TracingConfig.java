@@ -0,0 +1,24 @@
+package com.example.winttodo.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TracingConfig class
+ * Registers the TracingBeanPostProcessor when app.tracing.enabled is true (default).
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@Configuration
+@ConditionalOnProperty(name = "app.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    // static: a BeanPostProcessor must be created before the other beans, without instantiating this configuration
+    @Bean
+    static TracingBeanPostProcessor tracingBeanPostProcessor(@Value("${app.tracing.sample-rate:1}") int sampleRate) {
+        return new TracingBeanPostProcessor(sampleRate);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.winttodo.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TracingInterceptor class
+ * Logs "Entering Class.method" and "Exiting Class.method in N us" around the calls of one @Traced bean.
+ * - The "Class.method" names are built once, when the interceptor is created (bean wiring), and looked up per call.
+ *   Calls through a JDK (interface-based) proxy arrive with the interface Method: every interface method is mapped
+ *   up front to the name of its implementation (AopUtils.getMostSpecificMethod), so they are traced as well.
+ * - Sampling: only 1 call out of sampleRate (on average) is traced, the others just pass through.
+ * - Nothing is built or logged when the logger of the bean class is not enabled for INFO.
+ * The logger is the one of the bean class, so the log lines look like the ones LogUtils used to write.
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+public class TracingInterceptor implements MethodInterceptor {
+
+    private final Logger logger;
+    private final Map<Method, String> names;
+    private final int sampleRate;
+
+    /**
+     * @param targetClass Class of the traced bean (not the proxy class)
+     * @param sampleRate  Trace 1 call out of sampleRate, 1 traces every call
+     */
+    public TracingInterceptor(Class<?> targetClass, int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be at least 1 but was " + sampleRate);
+        }
+        this.logger = LoggerFactory.getLogger(targetClass);
+        this.sampleRate = sampleRate;
+        // Resolve every method name up front; methods of Object (toString, hashCode...) and static methods are not traced
+        Map<Method, String> resolved = new HashMap<>();
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()) {
+                    resolved.putIfAbsent(method, targetClass.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            for (Method method : type.getMethods()) {
+                String name = resolved.get(AopUtils.getMostSpecificMethod(method, targetClass));
+                if (name != null) {
+                    resolved.putIfAbsent(method, name);
+                }
+            }
+        }
+        this.names = Map.copyOf(resolved);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = tracedName(invocation.getMethod());
+        if (name == null || !sampled() || !logger.isInfoEnabled()) {
+            return invocation.proceed();
+        }
+        logger.info("Entering {}", name);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            logger.info("Exiting {} in {} us", name, (System.nanoTime() - start) / 1_000);
+            return result;
+        } catch (Throwable t) {
+            logger.info("Exiting {} with {} in {} us", name, t.getClass().getSimpleName(), (System.nanoTime() - start) / 1_000);
+            throw t;
+        }
+    }
+
+    /**
+     * @return "Class.method" logged for calls of the method (of the class or of one of its interfaces), null if not traced
+     */
+    String tracedName(Method method) {
+        return names.get(method);
+    }
+
+    /**
+     * @return Number of methods whose names were resolved at wiring time, interface methods included
+     */
+    public int getTracedMethodCount() {
+        return names.size();
+    }
+
+    // ThreadLocalRandom keeps sampling free of shared state (no counter contended by all request threads)
+    private boolean sampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.winttodo.archive;
+
+import com.example.winttodo.model.TodoComment;
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoCommentRepository;
+import com.example.winttodo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class TodoArchiveStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCommentRepository todoCommentRepository;
+
+    @Autowired
+    private TodoArchiveStore todoArchiveStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long archivedId;
+
+    @BeforeEach
+    void setUp() {
+        clearArchive();
+        todoRepository.deleteAll();
+        saveTodo("Live todo", false, 7L);
+        TodoEntity archived = saveTodo("Archived todo", true, 7L);
+        archivedId = archived.getId();
+        todoCommentRepository.save(new TodoComment(archived, "Written before archiving", "alice", LocalDateTime.now()));
+    }
+
+    // todoRepository.deleteAll() does not reach the archive tables, they are cleared here
+    @AfterEach
+    void tearDown() {
+        clearArchive();
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: one live and one archived todo, moveArchived is called twice
+    // Expected: the archived todo (tags and comment included) leaves the live tables on the first call, the second moves nothing
+    @Test
+    void should_moveOnlyArchivedTodos_whenMoveArchivedIsCalled() {
+        assertThat(todoArchiveStore.moveArchived(10)).isEqualTo(1);
+        assertThat(todoArchiveStore.moveArchived(10)).isZero();
+
+        assertThat(todoRepository.findAll()).extracting(TodoEntity::getTitle).containsExactly("Live todo");
+        assertThat(todoArchiveStore.count()).isEqualTo(1);
+        assertThat(todoArchiveStore.exists(archivedId)).isTrue();
+        assertThat(todoCommentRepository.count()).isZero();
+        assertThat(todoArchiveStore.findAll())
+                .singleElement()
+                .satisfies(todo -> {
+                    assertThat(todo.isArchived()).isTrue();
+                    assertThat(todo.getTags()).containsExactlyInAnyOrder("archive", "demo");
+                });
+    }
+
+    // Scenario: the archived todo is moved, then read through the API
+    // Expected: /all returns both todos, /due only returns it with includeArchived, its comment is still readable
+    @Test
+    void should_readArchiveTransparently_whenTodoHasBeenMoved() throws Exception {
+        todoArchiveStore.moveArchived(10);
+
+        mockMvc.perform(request(get("/wint/api/todos/all")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].title").value("Archived todo"))
+                .andExpect(jsonPath("$[1].archived").value(true))
+                .andExpect(jsonPath("$[1].tags.length()").value(2));
+
+        mockMvc.perform(request(get("/wint/api/todos/due")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Live todo"));
+
+        mockMvc.perform(request(get("/wint/api/todos/due")).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        mockMvc.perform(request(get("/wint/api/users/{userId}/todos", 7L)).param("archived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Archived todo"));
+
+        mockMvc.perform(request(get("/wint/api/todos/{id}/comments", archivedId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].comment").value("Written before archiving"));
+    }
+
+    // Scenario: the stats count (live and archive tables in one query) before and after the archived todo is moved
+    // Expected: the same rows both times: the open todo (overdue the day after DAY) and the archived one, counted once
+    @Test
+    void should_countEveryTodoOnce_whetherItIsLiveOrMoved() {
+        List<TodoArchiveStore.StatusCount> expected = List.of(
+                new TodoArchiveStore.StatusCount(7L, false, false, 1, 1),
+                new TodoArchiveStore.StatusCount(7L, true, false, 1, 1));
+
+        assertThat(todoArchiveStore.countByAssigneeAndStatus(DAY.plusDays(1))).containsExactlyInAnyOrderElementsOf(expected);
+        todoArchiveStore.moveArchived(10);
+        assertThat(todoArchiveStore.countByAssigneeAndStatus(DAY.plusDays(1))).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private MockHttpServletRequestBuilder request(MockHttpServletRequestBuilder builder) {
+        return builder
+                .contextPath("/wint")
+                .header("X-Request-Id", "test-request-id")
+                .header("X-Client-Id", "test-client-id");
+    }
+
+    private TodoEntity saveTodo(String title, boolean archived, Long userId) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setDueDate(DAY);
+        todo.setArchived(archived);
+        todo.setAssignedUserId(userId);
+        todo.setTags(new ArrayList<>(List.of("demo", archived ? "archive" : "live")));
+        return todoRepository.save(todo);
+    }
+
+    private void clearArchive() {
+        for (String table : List.of("todo_tags_archive", "todo_comments_archive", "todo_history_archive", "todos_archive")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+}
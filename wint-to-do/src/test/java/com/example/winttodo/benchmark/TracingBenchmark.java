@@ -0,0 +1,130 @@
+package com.example.winttodo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.example.winttodo.tracing.Traced;
+import com.example.winttodo.tracing.TracingBeanPostProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * TracingBenchmark class
+ * JMH benchmark for the per-call cost of logging method entry, before and after replacing
+ * LogUtils.logMethodEntry (stack walk on every call) with @Traced beans (names resolved at wiring time).
+ * <p>
+ * - before: the old LogUtils code, Thread.currentThread().getStackTrace()[2] and logger.info.
+ * - afterEveryCall / afterSampled: the call goes through the proxy created by TracingBeanPostProcessor,
+ *   with sample rate 1 and 100.
+ * - untraced: direct call, what app.tracing.enabled=false costs (no proxy).
+ * The calls are made from a configurable stack depth, a real request runs roughly 100 frames deep
+ * (Tomcat, filters, Spring MVC) and getStackTrace() costs in proportion to that depth.
+ * With level WARN the INFO lines are filtered out: the stack walk is still paid by "before".
+ * Log events go to a NOPAppender, so the numbers do not include console I/O.
+ * <p>
+ * Run it from the IDE (main method), or after mvn test-compile:
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.example.winttodo.benchmark.TracingBenchmark
+ * (cp.txt from: mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test)
+ *
+ * @author : kjss920
+ * @since : 2026-10-19, Monday
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TracingBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    private LegacyService legacyService;
+    private TracedService untracedService;
+    private TracedService tracedService;
+    private TracedService sampledService;
+
+    @Setup
+    public void setUp() {
+        for (Class<?> type : new Class<?>[]{LegacyService.class, TracedService.class}) {
+            ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(type);
+            NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+            appender.setContext(logger.getLoggerContext());
+            appender.start();
+            logger.detachAndStopAllAppenders();
+            logger.addAppender(appender);
+            logger.setAdditive(false);
+            logger.setLevel(Level.toLevel(level));
+        }
+        legacyService = new LegacyService();
+        untracedService = new TracedService();
+        tracedService = (TracedService) new TracingBeanPostProcessor(1).postProcessAfterInitialization(new TracedService(), "traced");
+        sampledService = (TracedService) new TracingBeanPostProcessor(100).postProcessAfterInitialization(new TracedService(), "sampled");
+    }
+
+    @Benchmark
+    public String before() {
+        return atDepth(stackDepth, () -> legacyService.getAll("before"));
+    }
+
+    @Benchmark
+    public String afterEveryCall() {
+        return atDepth(stackDepth, () -> tracedService.getAll("after"));
+    }
+
+    @Benchmark
+    public String afterSampled() {
+        return atDepth(stackDepth, () -> sampledService.getAll("sampled"));
+    }
+
+    @Benchmark
+    public String untraced() {
+        return atDepth(stackDepth, () -> untracedService.getAll("untraced"));
+    }
+
+    // Calls the supplier from 'depth' nested frames, to mimic the stack of a real request
+    private static <T> T atDepth(int depth, Supplier<T> supplier) {
+        return depth <= 0 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+
+    // The old way: the method name is found by walking the stack on every call (the former LogUtils.logMethodEntry)
+    public static class LegacyService {
+        private final Logger logger = LoggerFactory.getLogger(LegacyService.class);
+
+        public String getAll(String value) {
+            logMethodEntry(logger, this);
+            return value;
+        }
+
+        private static void logMethodEntry(Logger logger, Object instance) {
+            String className = instance.getClass().getSimpleName();
+            String methodName = Thread.currentThread().getStackTrace()[2].getMethodName();
+            logger.info("Entering {}.{}", className, methodName);
+        }
+    }
+
+    @Traced
+    public static class TracedService {
+        public String getAll(String value) {
+            return value;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(TracingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
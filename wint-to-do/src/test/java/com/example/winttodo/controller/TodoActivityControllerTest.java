@@ -0,0 +1,175 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class TodoActivityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle("Long lived todo");
+        todo.setDueDate(LocalDate.of(2026, 12, 31));
+        todoId = todoRepository.save(todo).getId();
+    }
+
+    // The H2 database is shared by the test classes; comments and history go with their todo (ON DELETE CASCADE)
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: 5 comments are appended, then page 1 of size 2 is requested
+    // Expected: 201 for every append, the page holds the 3rd and 4th comments (oldest first) and the totals
+    @Test
+    void should_returnCommentsInChronologicalPages_whenCommentsAreAppended() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            mockMvc.perform(post("/wint/api/todos/{id}/comments", todoId)
+                            .contextPath("/wint")
+                            .header("X-Request-Id", "test-request-id")
+                            .header("X-Client-Id", "test-client-id")
+                            .contentType("application/json")
+                            .content("""
+                                    {"comment": "Comment %d", "author": "alice"}
+                                    """.formatted(i)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").exists())
+                    .andExpect(jsonPath("$.todoId").value(todoId))
+                    .andExpect(jsonPath("$.comment").value("Comment " + i))
+                    .andExpect(jsonPath("$.createdAt").exists());
+        }
+
+        mockMvc.perform(get("/wint/api/todos/{id}/comments", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("page", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].comment").value("Comment 3"))
+                .andExpect(jsonPath("$.content[1].comment").value("Comment 4"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3));
+    }
+
+    // Scenario: a history event is appended and the history is read
+    // Expected: 201 for the append, the event is the only entry of the first page
+    @Test
+    void should_returnHistoryEvent_whenHistoryEventIsAppended() throws Exception {
+        mockMvc.perform(post("/wint/api/todos/{id}/history", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .contentType("application/json")
+                        .content("""
+                                {"event": "STATUS_CHANGED", "actor": "bob", "details": "open -> done"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.event").value("STATUS_CHANGED"));
+
+        mockMvc.perform(get("/wint/api/todos/{id}/history", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].actor").value("bob"))
+                .andExpect(jsonPath("$.content[0].details").value("open -> done"));
+    }
+
+    // Negative test case
+    // Scenario: comments of a todo that does not exist
+    // Expected: Return 404 Not Found for both the read and the append
+    @Test
+    void should_return404NotFound_whenTodoDoesNotExist() throws Exception {
+        mockMvc.perform(get("/wint/api/todos/{id}/comments", Long.MAX_VALUE)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+
+        mockMvc.perform(post("/wint/api/todos/{id}/comments", Long.MAX_VALUE)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .contentType("application/json")
+                        .content("""
+                                {"comment": "Nobody will read this"}
+                                """))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+    }
+
+    // Negative test case
+    // Scenario: appends to a todo that is archived but not moved to the archive tables yet
+    // Expected: 404 like for a todo that is not live, so the archiver never drops an accepted comment
+    @Test
+    void should_return404NotFound_whenAppendingToAnArchivedTodo() throws Exception {
+        TodoEntity todo = todoRepository.findById(todoId).orElseThrow();
+        todo.setArchived(true);
+        todoRepository.save(todo);
+
+        mockMvc.perform(post("/wint/api/todos/{id}/comments", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .contentType("application/json")
+                        .content("""
+                                {"comment": "Too late"}
+                                """))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+
+        mockMvc.perform(post("/wint/api/todos/{id}/history", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .contentType("application/json")
+                        .content("""
+                                {"event": "STATUS_CHANGED", "actor": "bob"}
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    // Negative test case
+    // Scenario: a comment without text
+    // Expected: Return 400 Bad Request (validation)
+    @Test
+    void should_return400BadRequest_whenCommentIsBlank() throws Exception {
+        mockMvc.perform(post("/wint/api/todos/{id}/comments", todoId)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .contentType("application/json")
+                        .content("""
+                                {"comment": " "}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+    }
+}
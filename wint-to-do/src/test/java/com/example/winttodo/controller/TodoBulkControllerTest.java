@@ -0,0 +1,176 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.repository.TodoCommentRepository;
+import com.example.winttodo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Hibernate statistics are enabled for this test only, they count the prepared JDBC statements (one per batch)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TodoBulkControllerTest {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCommentRepository todoCommentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: 40 todos, each with 2 tags and 1 comment, in one bulk request (200 rows)
+    // Expected: 201 with 40 ids, every row written, and a handful of prepared statements (batches), not one per row
+    @Test
+    void should_insertEveryRowInBatches_whenBulkRequestIsValid() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(bulk(todosJson(40, 0)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Processed-By", "TodoBulkController"))
+                .andExpect(jsonPath("$.created").value(40))
+                .andExpect(jsonPath("$.ids.length()").value(40))
+                .andExpect(jsonPath("$.tagRows").value(80))
+                .andExpect(jsonPath("$.commentRows").value(40))
+                .andExpect(jsonPath("$.rows").value(160));
+
+        long statements = statistics.getPrepareStatementCount();
+        logger.info("Prepared statements for 160 rows: {}", statements);
+        assertThat(todoRepository.count()).isEqualTo(40);
+        assertThat(todoCommentRepository.count()).isEqualTo(40);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(80);
+        // sequence calls + one batch per table, instead of 160 single INSERTs
+        assertThat(statements).isLessThan(20);
+    }
+
+    // Negative test case
+    // Scenario: the second of 3 todos has no title
+    // Expected: Return 400 Bad Request, nothing is inserted (not even the valid first todo)
+    @Test
+    void should_return400AndInsertNothing_whenOneTodoIsInvalid() throws Exception {
+        mockMvc.perform(bulk("""
+                        {"todos": [{"title": "Valid"}, {"title": ""}, {"title": "Also valid"}]}
+                        """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+        assertThat(todoRepository.count()).isZero();
+    }
+
+    // Negative test case
+    // Scenario: todos whose title, description or tag is longer than its VARCHAR(255) column, or whose tag is blank
+    // Expected: Return 400 Bad Request for each before anything is written, not a 500 from the database halfway through
+    @Test
+    void should_return400AndInsertNothing_whenAValueDoesNotFitItsColumn() throws Exception {
+        String tooLong = "x".repeat(256);
+        for (String invalid : new String[]{
+                "{\"title\": \"%s\"}".formatted(tooLong),
+                "{\"title\": \"Valid\", \"description\": \"%s\"}".formatted(tooLong),
+                "{\"title\": \"Valid\", \"tags\": [\"work\", \"%s\"]}".formatted(tooLong),
+                "{\"title\": \"Valid\", \"tags\": [\"work\", \" \"]}"}) {
+            mockMvc.perform(bulk("""
+                            {"todos": [{"title": "Valid"}, %s]}
+                            """.formatted(invalid)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+        }
+
+        assertThat(todoRepository.count()).isZero();
+    }
+
+    // Scenario: the same 200 todos (2 tags, 1 comment each) created one POST /api/todos at a time, then in one bulk request
+    // Expected: both create every todo; the rows/s of both are logged (a measurement, nothing is asserted on speed)
+    @Test
+    void should_reportRowsPerSecond_whenComparingBulkWithSingleCreates() throws Exception {
+        int count = 200;
+        long rows = count * 4L;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/wint/api/todos")
+                            .contextPath("/wint")
+                            .header("X-Request-Id", "test-request-id")
+                            .header("X-Client-Id", "test-client-id")
+                            .contentType("application/json")
+                            .content(todoJson(i)))
+                    .andExpect(status().isCreated());
+        }
+        long singleNanos = System.nanoTime() - start;
+        assertThat(todoRepository.count()).isEqualTo(count);
+
+        start = System.nanoTime();
+        String body = mockMvc.perform(bulk(todosJson(count, count)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long bulkNanos = System.nanoTime() - start;
+        JsonNode response = new ObjectMapper().readTree(body);
+        assertThat(response.get("rows").asLong()).isEqualTo(rows);
+        assertThat(todoRepository.count()).isEqualTo(2L * count);
+
+        logger.info("Single creates: {} rows in {} ms ({} rows/s); bulk: {} rows in {} ms ({} rows/s, {} rows/s inside the service)",
+                rows, singleNanos / 1_000_000, rows * 1_000_000_000L / singleNanos,
+                rows, bulkNanos / 1_000_000, rows * 1_000_000_000L / bulkNanos, response.get("rowsPerSecond").asLong());
+    }
+
+    private MockHttpServletRequestBuilder bulk(String body) {
+        return post("/wint/api/todos/bulk")
+                .contextPath("/wint")
+                .header("X-Request-Id", "test-request-id")
+                .header("X-Client-Id", "test-client-id")
+                .contentType("application/json")
+                .content(body);
+    }
+
+    // {"todos": [...]} with 'count' todos numbered from 'first'
+    private static String todosJson(int count, int first) {
+        StringJoiner todos = new StringJoiner(",", "{\"todos\": [", "]}");
+        for (int i = first; i < first + count; i++) {
+            todos.add(todoJson(i));
+        }
+        return todos.toString();
+    }
+
+    private static String todoJson(int i) {
+        return """
+                {"title": "Bulk %d", "assignedUserId": %d, "tags": ["bulk", "tag-%d"],
+                 "comments": [{"comment": "First comment of %d", "author": "loader"}]}""".formatted(i, 100 + i % 5, i % 7, i);
+    }
+}
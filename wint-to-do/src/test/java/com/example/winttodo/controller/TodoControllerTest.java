@@ -1,5 +1,6 @@
 package com.example.winttodo.controller;
 
+import com.example.winttodo.dto.TagMatch;
 import com.example.winttodo.dto.TodoRequest;
 import com.example.winttodo.dto.TodoResponse;
 import com.example.winttodo.service.TodoService;
@@ -10,15 +11,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -361,4 +367,90 @@ class TodoControllerTest {
 
 
     }
-}
\ No newline at end of file
+
+    // Positive test case for the tag filter
+    // Scenario: tags=urgent,shopping&match=any with valid headers
+    // Expected: the service is asked for todos having any of the two tags, 200 OK
+    @Test
+    void should_filterByTags_whenTagsAndMatchQueryParamsAreUsed() throws Exception {
+        TodoResponse todoResponse = new TodoResponse();
+        todoResponse.setId(1L);
+        todoResponse.setTitle("Buy milk");
+        todoResponse.setTags(List.of("urgent", "shopping"));
+        given(todoService.findAllByTags(eq(List.of("urgent", "shopping")), eq(TagMatch.ANY), eq(0L), eq(10)))
+                .willReturn(new SliceImpl<>(List.of(todoResponse), PageRequest.of(0, 10), false));
+
+        mockMvc.perform(get("/wint/api/todos")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("tags", "urgent,shopping")
+                        .param("match", "any"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Buy milk"))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    // Positive test case for the keyset pagination of the tag filter
+    // Scenario: tags=urgent&afterId=42, match not given
+    // Expected: the service is asked for the todos having the tag after id 42, with the default match (all)
+    @Test
+    void should_passAfterIdAndDefaultMatch_whenTagsAreUsedWithoutMatch() throws Exception {
+        given(todoService.findAllByTags(eq(List.of("urgent")), eq(TagMatch.ALL), eq(42L), eq(10)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        mockMvc.perform(get("/wint/api/todos")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("tags", "urgent")
+                        .param("afterId", "42"))
+                .andExpect(status().isOk());
+    }
+
+    // Negative test case for the tag filter
+    // Scenario: match given without tags
+    // Expected: Return 400 Bad Request, the listing is not silently unfiltered
+    @Test
+    void should_return400BadRequest_whenMatchIsGivenWithoutTags() throws Exception {
+        mockMvc.perform(get("/wint/api/todos")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("match", "any"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+
+    // Negative test case for the tag filter
+    // Scenario: a page number with tags (the tag listing is keyset paginated)
+    // Expected: Return 400 Bad Request
+    @Test
+    void should_return400BadRequest_whenPageIsGivenWithTags() throws Exception {
+        mockMvc.perform(get("/wint/api/todos")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("tags", "urgent")
+                        .param("page", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+
+    // Negative test case for the tag filter
+    // Scenario: match is neither all nor any
+    // Expected: Return 400 Bad Request
+    @Test
+    void should_return400BadRequest_whenMatchQueryParamIsInvalid() throws Exception {
+        mockMvc.perform(get("/wint/api/todos")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("tags", "urgent")
+                        .param("match", "some"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"))
+                .andExpect(jsonPath("$.path").value("/wint/api/todos"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class TodoDueControllerTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        // 2 todos per day for the next 5 days, the second of each day archived; plus one todo without due date
+        for (int day = 0; day < 5; day++) {
+            saveTodo("Due in " + day + " days", TODAY.plusDays(day), false, false);
+            saveTodo("Archived, due in " + day + " days", TODAY.plusDays(day), true, false);
+        }
+        saveTodo("No due date", null, false, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: the due range of the next 5 days is read with pages of 2, archived todos excluded
+    // Expected: 3 pages chained by nextCursor, the 5 open todos in due date order, no duplicates
+    @Test
+    void should_returnAllDueTodosInOrder_whenFollowingTheCursor() throws Exception {
+        List<String> titles = readAllPages(false);
+
+        assertThat(titles).containsExactly(
+                "Due in 0 days", "Due in 1 days", "Due in 2 days", "Due in 3 days", "Due in 4 days");
+    }
+
+    // Scenario: the same range with includeArchived=true
+    // Expected: archived and non-archived todos merged in (due date, id) order
+    @Test
+    void should_mergeArchivedTodos_whenIncludeArchivedIsTrue() throws Exception {
+        List<String> titles = readAllPages(true);
+
+        assertThat(titles).hasSize(10);
+        assertThat(titles.subList(0, 4)).containsExactly(
+                "Due in 0 days", "Archived, due in 0 days", "Due in 1 days", "Archived, due in 1 days");
+    }
+
+    // Scenario: from/to restrict the range to the days 1 to 2
+    // Expected: only the 2 open todos due on those days, on a single (last) page
+    @Test
+    void should_returnOnlyTodosInRange_whenFromAndToAreGiven() throws Exception {
+        mockMvc.perform(due()
+                        .param("from", TODAY.plusDays(1).toString())
+                        .param("to", TODAY.plusDays(2).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Due in 1 days"))
+                .andExpect(jsonPath("$.content[1].title").value("Due in 2 days"))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    // Negative test cases
+    // Scenario: from after to, and a cursor that was not produced by the server
+    // Expected: Return 400 Bad Request
+    @Test
+    void should_return400BadRequest_whenRangeOrCursorIsInvalid() throws Exception {
+        mockMvc.perform(due()
+                        .param("from", TODAY.plusDays(3).toString())
+                        .param("to", TODAY.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+
+        mockMvc.perform(due().param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+
+    // Scenario: the next 3 upcoming todos, one of the open todos of today is completed
+    // Expected: open, non-archived, not completed todos in due date order
+    @Test
+    void should_returnNextOpenTodos_whenUpcomingIsCalled() throws Exception {
+        saveTodo("Done today", TODAY, false, true);
+
+        mockMvc.perform(get("/wint/api/todos/upcoming")
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id")
+                        .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Due in 0 days"))
+                .andExpect(jsonPath("$[1].title").value("Due in 1 days"))
+                .andExpect(jsonPath("$[2].title").value("Due in 2 days"));
+    }
+
+    // Follows nextCursor from the first page to the last one (page size 2) and returns the titles in order
+    private List<String> readAllPages(boolean includeArchived) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = due()
+                    .param("includeArchived", String.valueOf(includeArchived))
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = mapper.readTree(body);
+            page.get("content").forEach(todo -> titles.add(todo.get("title").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null && pages < 20);
+        return titles;
+    }
+
+    private MockHttpServletRequestBuilder due() {
+        return get("/wint/api/todos/due")
+                .contextPath("/wint")
+                .header("X-Request-Id", "test-request-id")
+                .header("X-Client-Id", "test-client-id");
+    }
+
+    private void saveTodo(String title, LocalDate dueDate, boolean archived, boolean completed) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setDueDate(dueDate);
+        todo.setArchived(archived);
+        todo.setCompleted(completed);
+        todoRepository.save(todo);
+    }
+}
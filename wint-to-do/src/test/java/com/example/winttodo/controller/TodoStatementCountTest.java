@@ -0,0 +1,185 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoRepository;
+import com.example.winttodo.utils.MockMvcLoggingUtils;
+import com.example.winttodo.utils.StatementCountingDataSource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Guards against N+1 queries: the number of SQL statements executed for one request must not grow with the number of todos.
+// Two counts are taken: Hibernate statistics (enabled for this test only) count the statements of the JPA queries,
+// the StatementCountingDataSource counts every statement at the JDBC level, including the JdbcTemplate queries
+// of TodoArchiveStore that Hibernate never sees.
+// The test only deletes the rows it created: the context (and its database) is shared with the other test classes.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TodoStatementCountTest {
+
+    // Id of the archived todo of the /all test, far above the ids of the live todos
+    private static final long ARCHIVED_ID = 900_000_001L;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return StatementCountingDataSource.countingPostProcessor();
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private StatementCountingDataSource countingDataSource;
+    // Ids of the todos created by the test, deleted afterwards
+    private final List<Long> savedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        countingDataSource = (StatementCountingDataSource) dataSource;
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllById(savedIds);
+        jdbcTemplate.update("DELETE FROM todo_tags_archive WHERE todo_id = ?", ARCHIVED_ID);
+        jdbcTemplate.update("DELETE FROM todos_archive WHERE id = ?", ARCHIVED_ID);
+    }
+
+    // Scenario: /api/todos/all is called with 3 todos and then with 30 todos, every todo has 2 tags, one archived todo
+    // Expected: the same number of statements both times: 1 JPA query (todos join-fetched with their tags) and,
+    // at the JDBC level, 2 more for the archive (archived todos, then their tags in one IN query)
+    @Test
+    void should_executeSameNumberOfStatements_whenAllTodosAreFetchedForSmallAndLargeTables() throws Exception {
+        // Given one archived todo with 2 tags
+        jdbcTemplate.update("INSERT INTO todos_archive (id, title, completed, archived_at) VALUES (?, 'Archived', TRUE, ?)",
+                ARCHIVED_ID, LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO todo_tags_archive (todo_id, tag) VALUES (?, 'tag-a'), (?, 'tag-b')",
+                ARCHIVED_ID, ARCHIVED_ID);
+
+        // Given 3 todos
+        saveTodos(3);
+        StatementCounts countsFor3 = countStatements("/wint/api/todos/all", true);
+
+        // Given 30 todos
+        saveTodos(27);
+        StatementCounts countsFor30 = countStatements("/wint/api/todos/all", true);
+
+        logger.info("Statements for /all: {} (3 todos), {} (30 todos)", countsFor3, countsFor30);
+        assertThat(countsFor30)
+                .as("statement count should not depend on the number of todos")
+                .isEqualTo(countsFor3);
+        assertThat(countsFor3.hibernate())
+                .as("todos and tags should be loaded with a single JPA query")
+                .isEqualTo(1L);
+        assertThat(countsFor3.jdbc())
+                .as("the JPA query plus the archived todos and their tags (TodoArchiveStore, JdbcTemplate)")
+                .isEqualTo(3L);
+    }
+
+    // Scenario: a page of 5 todos and a page of 50 todos are requested, every todo has 2 tags
+    // Expected: the same number of statements for both pages (page query, count query, one batched tags query)
+    @Test
+    void should_executeSameNumberOfStatements_whenPagesOfDifferentSizesAreFetched() throws Exception {
+        // Given 60 todos
+        saveTodos(60);
+
+        StatementCounts statementsFor5 = countStatements("/wint/api/todos?page=0&size=5", false);
+        StatementCounts statementsFor50 = countStatements("/wint/api/todos?page=0&size=50", false);
+
+        logger.info("Statements for a page: {} (size 5), {} (size 50)", statementsFor5, statementsFor50);
+        assertThat(statementsFor50)
+                .as("statement count should not depend on the page size")
+                .isEqualTo(statementsFor5);
+    }
+
+    // Saves the given number of non-archived todos, each with a due date and 2 tags
+    private void saveTodos(int count) {
+        for (int i = 0; i < count; i++) {
+            TodoEntity todo = new TodoEntity();
+            todo.setTitle("Todo " + i);
+            todo.setDescription("Statement count todo " + i);
+            todo.setDueDate(LocalDate.of(2026, 10, 15).plusDays(i));
+            todo.setTags(new ArrayList<>(List.of("tag-a", "tag-" + i)));
+            savedIds.add(todoRepository.save(todo).getId());
+        }
+    }
+
+    // Statements of one request: prepared by Hibernate, and created on the JDBC connections (all of them)
+    private record StatementCounts(long hibernate, long jdbc) {
+    }
+
+    // Performs a GET and returns the number of statements it executed, optionally checking that the returned array
+    // holds the todos of the test with their tags (other test classes may have left todos in the shared database)
+    private StatementCounts countStatements(String uri, boolean checkSavedTodos) throws Exception {
+        statistics.clear();
+        countingDataSource.start();
+
+        MvcResult mvcResult = mockMvc.perform(get(uri)
+                        .contextPath("/wint")
+                        .header("X-Request-Id", "test-request-id")
+                        .header("X-Client-Id", "test-client-id"))
+                .andReturn();
+
+        StatementCounts statements = new StatementCounts(statistics.getPrepareStatementCount(), countingDataSource.getCount());
+        MockMvcLoggingUtils.logRequestAndResponse(logger, "countStatements", "GET", uri, null, mvcResult);
+
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(200);
+        if (checkSavedTodos) {
+            JsonNode rootNode = new ObjectMapper().readTree(mvcResult.getResponse().getContentAsString());
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode todo : rootNode) {
+                long id = todo.get("id").asLong();
+                if (savedIds.contains(id) || id == ARCHIVED_ID) {
+                    ids.add(id);
+                    assertThat(todo.get("tags").size()).isEqualTo(2);
+                }
+            }
+            assertThat(ids).hasSize(savedIds.size() + 1);
+        }
+        return statements;
+    }
+}
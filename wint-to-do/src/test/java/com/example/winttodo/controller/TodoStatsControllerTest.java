@@ -0,0 +1,159 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoRepository;
+import com.example.winttodo.stats.TodoStatsReconciliationJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class TodoStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoStatsReconciliationJob todoStatsReconciliationJob;
+
+    // The counters are shared by the test classes: start every test from an empty table and counters that match it
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        todoStatsReconciliationJob.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: user 5 creates 3 todos through the API, completes one and archives another (completed) one
+    // Expected: the counters follow every transition without reconciliation: 1 open, 1 completed, 1 archived
+    @Test
+    void should_updateCountsIncrementally_whenTodosAreCreatedCompletedAndArchived() throws Exception {
+        long first = createTodo("First", 5L);
+        long second = createTodo("Second", 5L);
+        createTodo("Third", 5L);
+
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/complete", first)))
+                .andExpect(status().isOk());
+        // completing twice must not count twice
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/complete", first)))
+                .andExpect(status().isOk());
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/complete", second)))
+                .andExpect(status().isOk());
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/archive", second)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")).param("userId", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Processed-By", "TodoController"))
+                .andExpect(jsonPath("$.users['5'].open").value(1))
+                .andExpect(jsonPath("$.users['5'].completed").value(1))
+                .andExpect(jsonPath("$.users['5'].archived").value(1))
+                .andExpect(jsonPath("$.users['5'].overdue").value(0))
+                .andExpect(jsonPath("$.total.open").value(1));
+
+        // the database agrees with the counters
+        assertThat(todoStatsReconciliationJob.reconcile()).isZero();
+    }
+
+    // Scenario: an overdue todo is inserted behind the service's back, then the reconciliation job runs
+    // Expected: invisible in the counters before, counted as open and overdue after
+    @Test
+    void should_correctCounts_whenReconciliationRuns() throws Exception {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle("Forgotten");
+        todo.setAssignedUserId(6L);
+        todo.setDueDate(LocalDate.now().minusDays(3));
+        todoRepository.save(todo);
+
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")).param("userId", "6"))
+                .andExpect(jsonPath("$.users['6'].open").value(0));
+
+        assertThat(todoStatsReconciliationJob.reconcile()).isPositive();
+
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")).param("allUsers", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users['6'].open").value(1))
+                .andExpect(jsonPath("$.users['6'].overdue").value(1))
+                .andExpect(jsonPath("$.reconciledAt").exists());
+    }
+
+    // Scenario: /stats without userId nor allUsers, with todos of two users
+    // Expected: only the totals, no per-user entry (every user has to be asked for explicitly)
+    @Test
+    void should_returnTotalsOnly_whenNoUserIsAskedFor() throws Exception {
+        createTodo("First", 7L);
+        createTodo("Second", 8L);
+
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.open").value(2))
+                .andExpect(jsonPath("$.users").isEmpty());
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")).param("allUsers", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users['7'].open").value(1))
+                .andExpect(jsonPath("$.users['8'].open").value(1));
+    }
+
+    // Negative test case
+    // Scenario: both userId and allUsers=true
+    // Expected: Return 400 Bad Request
+    @Test
+    void should_return400BadRequest_whenUserIdAndAllUsersAreGiven() throws Exception {
+        mockMvc.perform(withHeaders(get("/wint/api/todos/stats")).param("userId", "5").param("allUsers", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+
+    // Negative test case
+    // Scenario: completing and archiving a todo that does not exist
+    // Expected: Return 404 Not Found
+    @Test
+    void should_return404NotFound_whenTodoDoesNotExist() throws Exception {
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/complete", Long.MAX_VALUE)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+        mockMvc.perform(withHeaders(patch("/wint/api/todos/{id}/archive", Long.MAX_VALUE)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+    }
+
+    private long createTodo(String title, Long userId) throws Exception {
+        String body = mockMvc.perform(withHeaders(post("/wint/api/todos"))
+                        .contentType("application/json")
+                        .content("""
+                                {"title": "%s", "assignedUserId": %d}
+                                """.formatted(title, userId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readTree(body).get("id").asLong();
+    }
+
+    private MockHttpServletRequestBuilder withHeaders(MockHttpServletRequestBuilder builder) {
+        return builder
+                .contextPath("/wint")
+                .header("X-Request-Id", "test-request-id")
+                .header("X-Client-Id", "test-client-id");
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.winttodo.controller;
+
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class UserTodoControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        // user 7: open, completed, archived and undated todos; user 8: one todo that must never show up for user 7
+        saveTodo("Open, day 2", 7L, DAY.plusDays(2), false, false);
+        saveTodo("Open, day 0", 7L, DAY, false, false);
+        saveTodo("Completed, day 1", 7L, DAY.plusDays(1), true, false);
+        saveTodo("Open, no due date", 7L, null, false, false);
+        saveTodo("Archived, day 0", 7L, DAY, false, true);
+        saveTodo("Other user, day 0", 8L, DAY, false, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+    }
+
+    // Scenario: default filters (archived=false, completed=any), pages of 1
+    // Expected: the 4 non-archived todos of the user by due date, the undated one last, chained by nextCursor
+    @Test
+    void should_returnNonArchivedTodosOfUserInDueDateOrder_whenFollowingTheCursor() throws Exception {
+        List<String> titles = readAllPages(() -> userTodos(7L).param("size", "1"));
+
+        assertThat(titles).containsExactly("Open, day 0", "Completed, day 1", "Open, day 2", "Open, no due date");
+    }
+
+    // Scenario: completed=false
+    // Expected: only the open todos of the user
+    @Test
+    void should_returnOnlyOpenTodos_whenCompletedIsFalse() throws Exception {
+        List<String> titles = readAllPages(() -> userTodos(7L).param("completed", "false").param("size", "2"));
+
+        assertThat(titles).containsExactly("Open, day 0", "Open, day 2", "Open, no due date");
+    }
+
+    // Scenario: archived=any
+    // Expected: the archived todo is merged in due date order (same day: lower id first)
+    @Test
+    void should_includeArchivedTodos_whenArchivedIsAny() throws Exception {
+        List<String> titles = readAllPages(() -> userTodos(7L).param("archived", "any"));
+
+        assertThat(titles).containsExactly(
+                "Open, day 0", "Archived, day 0", "Completed, day 1", "Open, day 2", "Open, no due date");
+    }
+
+    // Negative test case
+    // Scenario: completed is not true, false or any
+    // Expected: Return 400 Bad Request
+    @Test
+    void should_return400BadRequest_whenFilterValueIsInvalid() throws Exception {
+        mockMvc.perform(userTodos(7L).param("completed", "maybe"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+
+    // Follows nextCursor from the first page to the last one and returns the titles in order
+    // (a new request per page: param() adds values, it does not replace them)
+    private List<String> readAllPages(Supplier<MockHttpServletRequestBuilder> pageRequest) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = pageRequest.get();
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = mapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(todo -> titles.add(todo.get("title").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null && pages < 20);
+        return titles;
+    }
+
+    private MockHttpServletRequestBuilder userTodos(Long userId) {
+        return get("/wint/api/users/{userId}/todos", userId)
+                .contextPath("/wint")
+                .header("X-Request-Id", "test-request-id")
+                .header("X-Client-Id", "test-client-id");
+    }
+
+    private void saveTodo(String title, Long userId, LocalDate dueDate, boolean completed, boolean archived) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setAssignedUserId(userId);
+        todo.setDueDate(dueDate);
+        todo.setCompleted(completed);
+        todo.setArchived(archived);
+        todoRepository.save(todo);
+    }
+}
@@ -9,8 +9,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -145,4 +147,88 @@ class TodoRepositoryTest {
         assertThat(page3.getContent()).extracting(TodoEntity::getTitle)
                 .containsExactlyInAnyOrder("Active Todo 11", "Active Todo 12");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_returnTodosHavingEveryTag_whenFindAllByAllTagsIsCalled() {
+        // Given todos with different tag combinations, one of them archived
+        TodoEntity both = saveTodo("Buy milk", false, "urgent", "shopping");
+        saveTodo("Call mom", false, "urgent");
+        saveTodo("Buy bread", false, "shopping");
+        saveTodo("Old shopping", true, "urgent", "shopping");
+        TodoEntity bothAndMore = saveTodo("Buy gifts", false, "shopping", "urgent", "birthday");
+
+        // When we ask for todos tagged urgent AND shopping, driven by either tag
+        Slice<TodoEntity> byUrgent = todoRepository.findAllByAllTags(List.of("urgent", "shopping"), 2, "urgent", 0, PageRequest.of(0, 10));
+        Slice<TodoEntity> byShopping = todoRepository.findAllByAllTags(List.of("urgent", "shopping"), 2, "shopping", 0, PageRequest.of(0, 10));
+
+        // Then only the non-archived todos having both tags are returned, ordered by id
+        assertThat(byUrgent.getContent()).extracting(TodoEntity::getId)
+                .containsExactly(both.getId(), bothAndMore.getId());
+        assertThat(byShopping.getContent()).extracting(TodoEntity::getId)
+                .containsExactly(both.getId(), bothAndMore.getId());
+        assertFalse(byUrgent.hasNext());
+    }
+
+    @Test
+    void should_continueAfterTheLastId_whenFindAllByAllTagsIsCalledWithAfterId() {
+        // Given 5 todos tagged urgent and shopping
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(saveTodo("Both " + i, false, "urgent", "shopping").getId());
+        }
+
+        // When we read slices of 2, each one after the last id of the previous one
+        Slice<TodoEntity> first = todoRepository.findAllByAllTags(List.of("urgent", "shopping"), 2, "urgent", 0, PageRequest.of(0, 2));
+        Slice<TodoEntity> second = todoRepository.findAllByAllTags(List.of("urgent", "shopping"), 2, "urgent",
+                first.getContent().get(1).getId(), PageRequest.of(0, 2));
+        Slice<TodoEntity> last = todoRepository.findAllByAllTags(List.of("urgent", "shopping"), 2, "urgent",
+                second.getContent().get(1).getId(), PageRequest.of(0, 2));
+
+        // Then the slices follow each other in id order and only the last one has no next slice
+        assertThat(first.getContent()).extracting(TodoEntity::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(second.getContent()).extracting(TodoEntity::getId).containsExactly(ids.get(2), ids.get(3));
+        assertThat(last.getContent()).extracting(TodoEntity::getId).containsExactly(ids.get(4));
+        assertTrue(first.hasNext());
+        assertTrue(second.hasNext());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void should_returnIdsOfTodosHavingTheTag_whenFindIdsByTagIsCalled() {
+        // Given todos with different tags, one of them archived
+        TodoEntity both = saveTodo("Buy milk", false, "urgent", "shopping");
+        TodoEntity urgent = saveTodo("Call mom", false, "urgent");
+        saveTodo("Read a book", false, "leisure");
+        saveTodo("Old urgent", true, "urgent");
+
+        // When we ask for the ids tagged urgent, from the start and after the first one
+        Slice<Long> all = todoRepository.findIdsByTag("urgent", 0, PageRequest.of(0, 10));
+        Slice<Long> afterFirst = todoRepository.findIdsByTag("urgent", both.getId(), PageRequest.of(0, 10));
+
+        // Then the non-archived todos having the tag are returned in id order
+        assertThat(all.getContent()).containsExactly(both.getId(), urgent.getId());
+        assertThat(afterFirst.getContent()).containsExactly(urgent.getId());
+    }
+
+    @Test
+    void should_countTagRowsUpToTheCap_whenCountTodosWithTagIsCalled() {
+        // Given 3 todos tagged urgent and 1 tagged shopping
+        saveTodo("One", false, "urgent", "shopping");
+        saveTodo("Two", false, "urgent");
+        saveTodo("Three", false, "urgent");
+
+        // Then the counts are exact below the cap and stop at the cap
+        assertEquals(3L, todoRepository.countTodosWithTag("urgent", 10));
+        assertEquals(2L, todoRepository.countTodosWithTag("urgent", 2));
+        assertEquals(1L, todoRepository.countTodosWithTag("shopping", 10));
+        assertEquals(0L, todoRepository.countTodosWithTag("leisure", 10));
+    }
+
+    private TodoEntity saveTodo(String title, boolean archived, String... tags) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle(title);
+        todo.setArchived(archived);
+        todo.setTags(new ArrayList<>(List.of(tags)));
+        return todoRepository.save(todo);
+    }
+}
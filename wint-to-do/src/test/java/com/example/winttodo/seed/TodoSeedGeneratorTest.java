@@ -0,0 +1,77 @@
+package com.example.winttodo.seed;
+
+import com.example.winttodo.seed.TodoSeedGenerator.SeedHistoryEvent;
+import com.example.winttodo.seed.TodoSeedGenerator.SeedTodo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoSeedGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final TodoSeedGenerator generator = new TodoSeedGenerator(50, NOW);
+
+    // Scenario: the same ids are generated twice from the same seed
+    // Expected: identical todos (a chunk gives the same data whatever the thread that generates it)
+    @Test
+    void should_generateSameTodos_whenSeedIsTheSame() {
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (long id = 1; id <= 100; id++) {
+            assertThat(generator.generate(id, first)).isEqualTo(generator.generate(id, second));
+        }
+    }
+
+    // Scenario: 10 000 todos are generated
+    // Expected: every todo is consistent (assignee in range, distinct tags, history starting with CREATED and in order,
+    // nothing in the future) and the mix contains overdue, completed, archived, undated and commented todos
+    @Test
+    void should_generateConsistentAndVariedTodos_whenManyTodosAreGenerated() {
+        SplittableRandom random = new SplittableRandom(42);
+        int overdue = 0, completed = 0, archived = 0, undated = 0, commented = 0;
+
+        for (long id = 1; id <= 10_000; id++) {
+            SeedTodo todo = generator.generate(id, random);
+
+            assertThat(todo.id()).isEqualTo(id);
+            assertThat(todo.title()).isNotBlank();
+            if (todo.assignedUserId() != null) {
+                assertThat(todo.assignedUserId()).isBetween(1L, 50L);
+            }
+            assertThat(new HashSet<>(todo.tags())).hasSameSizeAs(todo.tags());
+            assertThat(todo.tags()).hasSizeLessThanOrEqualTo(4);
+            assertThat(todo.completedAt() != null).isEqualTo(todo.completed());
+
+            List<SeedHistoryEvent> history = todo.history();
+            assertThat(history.get(0).event()).isEqualTo("CREATED");
+            for (int i = 1; i < history.size(); i++) {
+                assertThat(history.get(i).createdAt()).isAfterOrEqualTo(history.get(i - 1).createdAt());
+            }
+            assertThat(history.get(history.size() - 1).createdAt()).isBeforeOrEqualTo(NOW);
+            todo.comments().forEach(comment -> assertThat(comment.createdAt()).isBeforeOrEqualTo(NOW));
+
+            if (todo.dueDate() == null) {
+                undated++;
+            } else if (!todo.completed() && !todo.archived() && todo.dueDate().isBefore(LocalDate.from(NOW))) {
+                overdue++;
+            }
+            completed += todo.completed() ? 1 : 0;
+            archived += todo.archived() ? 1 : 0;
+            commented += todo.comments().isEmpty() ? 0 : 1;
+        }
+
+        assertThat(overdue).isPositive();
+        assertThat(completed).isPositive();
+        assertThat(archived).isPositive();
+        assertThat(undated).isPositive();
+        assertThat(commented).isPositive();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.winttodo.service;
+
+import com.example.winttodo.model.TodoComment;
+import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.model.TodoHistoryEvent;
+import com.example.winttodo.repository.TodoCommentRepository;
+import com.example.winttodo.repository.TodoHistoryRepository;
+import com.example.winttodo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A fresh context (and in-memory database) per test: Hibernate's pooled optimizer must not have reserved ids
+// before the restore, as after a restart
+@SpringBootTest(properties = {
+        "app.snapshot.enabled=true",
+        "app.snapshot.restore-on-startup=false",
+        "app.snapshot.on-shutdown=false",
+        "app.snapshot.file=target/h2-snapshot-service-test.sql.gz"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class H2SnapshotServiceTest {
+
+    @Autowired
+    private H2SnapshotService snapshotService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCommentRepository todoCommentRepository;
+
+    @Autowired
+    private TodoHistoryRepository todoHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(Path.of("target/h2-snapshot-service-test.sql.gz"));
+    }
+
+    // Scenario: a snapshot taken when the ids were IDENTITY columns: rows 1..3 and no sequences; restore it, then insert
+    // Expected: the sequences are created after the restored ids, the new todo, comment and event get fresh ids
+    @Test
+    void should_insertAfterRestore_whenSnapshotHasNoSequences() {
+        insertRows(3);
+        for (String sequence : new String[]{"todos_seq", "todo_comments_seq", "todo_history_seq"}) {
+            jdbcTemplate.execute("DROP SEQUENCE " + sequence);
+        }
+        snapshotService.snapshot();
+
+        assertThat(snapshotService.restore()).isPresent();
+
+        assertInsertsGetIdsAfter(3);
+    }
+
+    // Scenario: a snapshot whose sequences are still at 1 while rows 1..3 exist (rows written with explicit ids)
+    // Expected: the sequences are restarted after the restored ids, the first insert does not hit id 1
+    @Test
+    void should_insertAfterRestore_whenSnapshotSequencesAreBehindTheRows() {
+        insertRows(3);
+        for (String sequence : new String[]{"todos_seq", "todo_comments_seq", "todo_history_seq"}) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH 1");
+        }
+        snapshotService.snapshot();
+
+        assertThat(snapshotService.restore()).isPresent();
+
+        assertInsertsGetIdsAfter(3);
+    }
+
+    // Scenario: the highest todo id is in the archive (the todo was archived before the snapshot)
+    // Expected: the todo sequence restarts after the archived id, the archive move cannot hit a duplicate later
+    @Test
+    void should_restartTodoSequenceAfterArchivedIds() {
+        insertRows(3);
+        jdbcTemplate.update("INSERT INTO todos_archive (id, title, completed, archived_at) VALUES (500, 'Archived', TRUE, ?)",
+                LocalDateTime.now());
+        snapshotService.snapshot();
+
+        snapshotService.restore();
+
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle("After restore");
+        assertThat(todoRepository.save(todo).getId()).isGreaterThan(500L);
+    }
+
+    // Rows written with explicit ids, like TodoDataSeeder and the pre-sequence snapshots
+    private void insertRows(int count) {
+        for (long id = 1; id <= count; id++) {
+            jdbcTemplate.update("INSERT INTO todos (id, title, completed, archived) VALUES (?, ?, FALSE, FALSE)", id, "Restored " + id);
+            jdbcTemplate.update("INSERT INTO todo_comments (id, todo_id, comment, author, created_at) VALUES (?, ?, 'Comment', 'alice', ?)",
+                    id, id, LocalDateTime.now());
+            jdbcTemplate.update("INSERT INTO todo_history (id, todo_id, event, actor, created_at) VALUES (?, ?, 'CREATED', 'alice', ?)",
+                    id, id, LocalDateTime.now());
+        }
+    }
+
+    private void assertInsertsGetIdsAfter(long lastId) {
+        TodoEntity todo = new TodoEntity();
+        todo.setTitle("After restore");
+        TodoEntity saved = todoRepository.save(todo);
+        TodoComment comment = todoCommentRepository.save(new TodoComment(saved, "New comment", "bob", LocalDateTime.now()));
+        TodoHistoryEvent event = todoHistoryRepository.save(
+                new TodoHistoryEvent(saved, "CREATED", "bob", null, LocalDateTime.now()));
+
+        assertThat(saved.getId()).isGreaterThan(lastId);
+        assertThat(comment.getId()).isGreaterThan(lastId);
+        assertThat(event.getId()).isGreaterThan(lastId);
+        assertThat(todoRepository.count()).isEqualTo(lastId + 1);
+    }
+}
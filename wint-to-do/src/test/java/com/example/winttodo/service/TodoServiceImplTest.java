@@ -1,8 +1,12 @@
 package com.example.winttodo.service;
 
+import com.example.winttodo.archive.TodoArchiveStore;
+import com.example.winttodo.dto.TodoRequest;
 import com.example.winttodo.dto.TodoResponse;
 import com.example.winttodo.model.TodoEntity;
+import com.example.winttodo.repository.TodoCommentRepository;
 import com.example.winttodo.repository.TodoRepository;
+import com.example.winttodo.stats.TodoStatsCounters;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -27,6 +33,15 @@ class TodoServiceImplTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoArchiveStore todoArchiveStore;
+
+    @Mock
+    private TodoStatsCounters todoStatsCounters;
+
+    @Mock
+    private TodoCommentRepository todoCommentRepository;
+
     @InjectMocks
     private TodoServiceImpl todoService;
 
@@ -121,6 +136,41 @@ class TodoServiceImplTest {
         assert false;
     }
 
+    // Scenario: createTodo runs inside a transaction (synchronization active), which then commits or rolls back
+    // Expected: the stats counters move on commit only, never before it and never for a rolled back insert
+    @Test
+    void should_countCreatedTodo_onlyAfterCommit() {
+        TodoEntity saved = new TodoEntity();
+        saved.setId(1L);
+        saved.setTitle("Counted after commit");
+        saved.setAssignedUserId(5L);
+        given(todoRepository.save(any(TodoEntity.class))).willReturn(saved);
+        TodoRequest request = new TodoRequest();
+        request.setTitle("Counted after commit");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todoService.createTodo(request);
+            verify(todoStatsCounters, never()).onCreated(any(), anyBoolean(), anyBoolean(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(todoStatsCounters).onCreated(5L, false, false, null);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todoService.createTodo(request);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            // still the single call of the committed insert
+            verify(todoStatsCounters).onCreated(5L, false, false, null);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     @Disabled("Not implemented yet")
     void getAll() {
@@ -0,0 +1,76 @@
+package com.example.winttodo.stats;
+
+import com.example.winttodo.dto.StatusCounts;
+import com.example.winttodo.stats.TodoStatsCounters.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoStatsCountersTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+    private static final long USER = 5L;
+
+    private final TodoStatsCounters counters = new TodoStatsCounters();
+
+    // Scenario: one open todo due on DAY, counted on DAY (not overdue yet), completed on a later day
+    // Expected: OVERDUE stays 0: the todo was never counted in it, the counters decide overdue against DAY
+    @Test
+    void should_notTakeFromOverdue_whenTodoWasNotCountedAsOverdue() {
+        reset(DAY, 1, 0);
+
+        counters.onCompleted(USER, DAY);
+
+        assertThat(counts()).hasToString("StatusCounts[open=0, completed=1, archived=0, overdue=0]");
+    }
+
+    // Scenario: one open todo due the day before DAY, counted as overdue, then archived
+    // Expected: it leaves OPEN and OVERDUE
+    @Test
+    void should_takeFromOverdue_whenTodoWasCountedAsOverdue() {
+        reset(DAY, 1, 1);
+
+        counters.onArchived(USER, false, DAY.minusDays(1));
+
+        assertThat(counts()).hasToString("StatusCounts[open=0, completed=0, archived=1, overdue=0]");
+    }
+
+    // Scenario: a count that missed an overdue todo (e.g. it was created during the count), which is then completed
+    // Expected: OVERDUE is clamped at 0 instead of going negative
+    @Test
+    void should_neverGoBelowZero_whenOverdueWasNotCounted() {
+        reset(DAY, 1, 0);
+
+        counters.onCompleted(USER, DAY.minusDays(1));
+
+        assertThat(counts().getOverdue()).isZero();
+        assertThat(counters.snapshotTotal().getTotal().getOverdue()).isZero();
+    }
+
+    // Scenario: a todo due the day before DAY is created and then completed, with counters of DAY
+    // Expected: counted in OVERDUE on create, taken out again on complete
+    @Test
+    void should_countOverdueAgainstTheDayOfTheCounters_whenTodoIsCreatedAndCompleted() {
+        reset(DAY, 0, 0);
+
+        counters.onCreated(USER, false, false, DAY.minusDays(1));
+        assertThat(counts().getOverdue()).isEqualTo(1);
+        counters.onCompleted(USER, DAY.minusDays(1));
+
+        assertThat(counts()).hasToString("StatusCounts[open=0, completed=1, archived=0, overdue=0]");
+    }
+
+    private void reset(LocalDate day, long open, long overdue) {
+        long[] counts = new long[Status.values().length];
+        counts[Status.OPEN.ordinal()] = open;
+        counts[Status.OVERDUE.ordinal()] = overdue;
+        counters.reset(Map.of(USER, counts.clone()), counts, day);
+    }
+
+    private StatusCounts counts() {
+        return counters.snapshot(USER).getUsers().get(USER);
+    }
+}
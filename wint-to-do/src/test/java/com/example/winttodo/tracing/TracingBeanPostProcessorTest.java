@@ -0,0 +1,107 @@
+package com.example.winttodo.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TracingBeanPostProcessorTest {
+
+    private final TracingBeanPostProcessor postProcessor = new TracingBeanPostProcessor(1);
+
+    @Traced
+    static class TracedBean {
+        String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    @Traced
+    static class TracedGreeter implements Greeter {
+        @Override
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    static class PlainBean {
+        String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    // Scenario: a bean annotated with @Traced
+    // Expected: a class-based proxy that still calls the bean, package-private methods included
+    @Test
+    void should_proxyBean_whenBeanIsAnnotatedWithTraced() {
+        Object bean = postProcessor.postProcessAfterInitialization(new TracedBean(), "tracedBean");
+
+        assertThat(AopUtils.isCglibProxy(bean)).isTrue();
+        assertThat(bean).isInstanceOf(TracedBean.class);
+        assertEquals("Hello Wint", ((TracedBean) bean).greet("Wint"));
+        // the names of greet and fail are resolved when the proxy is created
+        TracingInterceptor interceptor = (TracingInterceptor) ((Advised) bean).getAdvisors()[0].getAdvice();
+        assertThat(interceptor.getTracedMethodCount()).isEqualTo(2);
+    }
+
+    // Scenario: a @Traced bean that is already a JDK (interface-based) proxy, like a @Transactional bean with
+    // proxyTargetClass=false; its calls arrive with the Method of the interface
+    // Expected: the interceptor is added to the proxy and knows the interface method under the name of the class
+    @Test
+    void should_traceInterfaceMethods_whenBeanIsAJdkProxy() throws Exception {
+        ProxyFactory proxyFactory = new ProxyFactory(new TracedGreeter());
+        proxyFactory.addInterface(Greeter.class);
+        Object jdkProxy = proxyFactory.getProxy();
+        assertThat(AopUtils.isJdkDynamicProxy(jdkProxy)).isTrue();
+
+        Object bean = postProcessor.postProcessAfterInitialization(jdkProxy, "tracedGreeter");
+
+        assertThat(bean).isSameAs(jdkProxy);
+        assertEquals("Hello Wint", ((Greeter) bean).greet("Wint"));
+        TracingInterceptor interceptor = (TracingInterceptor) ((Advised) bean).getAdvisors()[0].getAdvice();
+        assertThat(interceptor.tracedName(Greeter.class.getMethod("greet", String.class))).isEqualTo("TracedGreeter.greet");
+        assertThat(interceptor.tracedName(TracedGreeter.class.getMethod("greet", String.class))).isEqualTo("TracedGreeter.greet");
+    }
+
+    // Scenario: a bean without @Traced
+    // Expected: the same instance is returned, no proxy
+    @Test
+    void should_returnSameBean_whenBeanIsNotAnnotated() {
+        PlainBean plainBean = new PlainBean();
+
+        Object bean = postProcessor.postProcessAfterInitialization(plainBean, "plainBean");
+
+        assertThat(bean).isSameAs(plainBean);
+    }
+
+    // Scenario: a traced method throws
+    // Expected: the exception reaches the caller unchanged
+    @Test
+    void should_rethrowException_whenTracedMethodThrows() {
+        TracedBean bean = (TracedBean) postProcessor.postProcessAfterInitialization(new TracedBean(), "tracedBean");
+
+        assertThatThrownBy(bean::fail)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+    }
+
+    // Scenario: a sample rate below 1
+    // Expected: IllegalArgumentException at wiring time
+    @Test
+    void should_throwIllegalArgumentException_whenSampleRateIsBelowOne() {
+        assertThatThrownBy(() -> new TracingBeanPostProcessor(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
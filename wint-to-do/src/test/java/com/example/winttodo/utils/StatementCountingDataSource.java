@@ -0,0 +1,75 @@
+package com.example.winttodo.utils;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counts the JDBC statements created on the connections of the wrapped DataSource, whoever creates them:
+// Hibernate, JdbcTemplate (TodoArchiveStore) or plain JDBC. Only the statements of the thread that called start()
+// are counted, so background jobs (archiving, stats reconciliation) do not disturb a request measured in a test.
+// Register it with countingPostProcessor() in a @TestConfiguration.
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final AtomicLong statements = new AtomicLong();
+    private volatile Thread countedThread;
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    // Wraps the application DataSource bean in a StatementCountingDataSource
+    public static BeanPostProcessor countingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    // Resets the count and counts the statements of the current thread from now on
+    public void start() {
+        statements.set(0);
+        countedThread = Thread.currentThread();
+    }
+
+    // Statements created by the counted thread since start()
+    public long getCount() {
+        return statements.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName()) && Thread.currentThread() == countedThread) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}